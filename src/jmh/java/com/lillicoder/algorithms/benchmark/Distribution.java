@@ -0,0 +1,174 @@
+package com.lillicoder.algorithms.benchmark;
+
+import com.lillicoder.algorithms.sort.ISort;
+import com.lillicoder.algorithms.sort.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Describes the shapes of input that benchmarks are run against.
+ */
+public enum Distribution {
+
+    /**
+     * Uniformly random values.
+     */
+    RANDOM,
+
+    /**
+     * Distinct values already in ascending order.
+     */
+    SORTED,
+
+    /**
+     * Distinct values in descending order.
+     */
+    REVERSED,
+
+    /**
+     * Random values drawn from only a handful of distinct keys.
+     */
+    FEW_UNIQUE,
+
+    /**
+     * Values that ascend to the middle of the input then descend again.
+     */
+    ORGAN_PIPE,
+
+    /**
+     * Values chosen against the sort under test by McIlroy's "killer adversary", which decides comparison
+     * results lazily so as to drive the sort toward its worst case.
+     */
+    ADVERSARIAL;
+
+    /**
+     * Number of distinct keys in a {@link #FEW_UNIQUE} input.
+     */
+    private static final int FEW_UNIQUE_KEYS = 8;
+
+    /**
+     * Generates an input of this distribution.
+     * @param size Number of elements.
+     * @param seed Seed for random values.
+     * @param sort Sort that will run against the input, only used by {@link #ADVERSARIAL}.
+     * @param order Order the sort will run with, only used by {@link #ADVERSARIAL}.
+     * @return Generated elements.
+     */
+    public Integer[] generate(int size, long seed, ISort sort, Sort.Order order) {
+        Random random = new Random(seed);
+        Integer[] elements = new Integer[size];
+        switch (this) {
+            case RANDOM:
+                for (int index = 0; index < size; index++) {
+                    elements[index] = random.nextInt();
+                }
+                break;
+            case SORTED:
+                for (int index = 0; index < size; index++) {
+                    elements[index] = index;
+                }
+                break;
+            case REVERSED:
+                for (int index = 0; index < size; index++) {
+                    elements[index] = size - index;
+                }
+                break;
+            case FEW_UNIQUE:
+                for (int index = 0; index < size; index++) {
+                    elements[index] = random.nextInt(FEW_UNIQUE_KEYS);
+                }
+                break;
+            case ORGAN_PIPE:
+                for (int index = 0; index < size; index++) {
+                    elements[index] = Math.min(index, size - 1 - index);
+                }
+                break;
+            case ADVERSARIAL:
+                elements = adversary(size, sort, order);
+                break;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Builds an adversarial input for the given sort. Every element starts out as "gas", a value that is not yet
+     * decided. Whenever two gas elements are compared one of them is frozen to the next smallest solid value,
+     * preferring the element the sort appears to be using as its pivot. Once the sort finishes, the values it
+     * saw form an input that makes it do the same work again.
+     * @param size Number of elements.
+     * @param sort Sort to run against.
+     * @param order Order to run the sort with.
+     * @return Adversarial elements.
+     */
+    private static Integer[] adversary(int size, ISort sort, Sort.Order order) {
+        Adversary adversary = new Adversary(size);
+        List<Adversary.Element> elements = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            elements.add(adversary.new Element(index));
+        }
+
+        sort.sort(elements, order);
+
+        Integer[] values = new Integer[size];
+        for (int index = 0; index < size; index++) {
+            values[index] = adversary.values[index];
+        }
+
+        return values;
+    }
+
+    /**
+     * State for {@link #adversary(int, ISort, Sort.Order)}.
+     */
+    private static class Adversary {
+
+        private final int[] values;
+        private final int gas;
+        private int solid;
+        private int candidate = -1;
+
+        Adversary(int size) {
+            values = new int[size];
+            gas = size;
+            Arrays.fill(values, gas);
+        }
+
+        /**
+         * Element whose value is decided lazily as the sort compares it.
+         */
+        class Element implements Comparable<Element> {
+
+            private final int id;
+
+            Element(int id) {
+                this.id = id;
+            }
+
+            @Override
+            public int compareTo(Element other) {
+                if (values[id] == gas && values[other.id] == gas) {
+                    if (id == candidate) {
+                        values[id] = solid++;
+                    } else {
+                        values[other.id] = solid++;
+                    }
+                }
+
+                if (values[id] == gas) {
+                    candidate = id;
+                } else if (values[other.id] == gas) {
+                    candidate = other.id;
+                }
+
+                return Integer.compare(values[id], values[other.id]);
+            }
+
+        }
+
+    }
+
+}
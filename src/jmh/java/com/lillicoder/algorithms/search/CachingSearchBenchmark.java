@@ -0,0 +1,83 @@
+package com.lillicoder.algorithms.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a {@link BinarySearch} with and without a {@link CachingSearch} in front of it under skewed lookup
+ * traffic, where a given percentage of lookups go to a small set of hot keys and the rest are spread over the
+ * whole list. A capacity of {@code 0} searches without a cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CachingSearchBenchmark {
+
+    /**
+     * Number of lookups cycled through.
+     */
+    private static final int KEYS = 1 << 16;
+
+    /**
+     * Number of distinct hot keys.
+     */
+    private static final int HOT_KEYS = 2000;
+
+    @Param({ "0", "4096" })
+    public int capacity;
+
+    @Param({ "1000000" })
+    public int size;
+
+    @Param({ "50", "90", "99" })
+    public int hotPercent;
+
+    private Search search;
+    private List<Integer> list;
+    private Integer[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        search = capacity == 0 ? new BinarySearch() : new CachingSearch(new BinarySearch(), capacity);
+
+        list = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            list.add(index * 2);
+        }
+
+        Random random = new Random(45L);
+        Integer[] hot = new Integer[HOT_KEYS];
+        for (int index = 0; index < HOT_KEYS; index++) {
+            hot[index] = random.nextInt(size) * 2;
+        }
+        keys = new Integer[KEYS];
+        for (int index = 0; index < KEYS; index++) {
+            keys[index] = random.nextInt(100) < hotPercent ? hot[random.nextInt(HOT_KEYS)] : random.nextInt(size * 2);
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        next = (next + 1) & (KEYS - 1);
+        return search.search(list, keys[next]);
+    }
+
+}
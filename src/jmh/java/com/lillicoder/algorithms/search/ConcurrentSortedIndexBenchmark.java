@@ -0,0 +1,116 @@
+package com.lillicoder.algorithms.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reads and inserts on a shared {@link ConcurrentSortedIndex} under several read/write mixes.
+ * <p/>
+ * Each group shares one index between its threads: {@code read} runs readers only, {@code readHeavy} three
+ * readers against one writer, {@code balanced} two of each and {@code writeHeavy} one reader against three
+ * writers. Thread counts scale with JMH's {@code -tg} option, for example {@code -tg 6,2} for six readers and
+ * two writers. The index grows as writers insert, so it is rebuilt for every iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentSortedIndexBenchmark {
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    @Param({ "64", "1024" })
+    public int batchSize;
+
+    private ConcurrentSortedIndex<Integer> index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        index = new ConcurrentSortedIndex<>(batchSize);
+        List<Integer> elements = new ArrayList<>(size);
+        for (int value = 0; value < size; value++) {
+            elements.add(value * 2);
+        }
+        index.addAll(elements);
+        index.flush();
+    }
+
+    @Benchmark
+    @Group("read")
+    @GroupThreads(4)
+    public int readOnly() {
+        return search();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public int readHeavyRead() {
+        return search();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWrite() {
+        insert();
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public int balancedRead() {
+        return search();
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public void balancedWrite() {
+        insert();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public int writeHeavyRead() {
+        return search();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyWrite() {
+        insert();
+    }
+
+    private int search() {
+        return index.search(ThreadLocalRandom.current().nextInt(size * 2));
+    }
+
+    private void insert() {
+        // Odd values fall between the initial elements
+        index.add(ThreadLocalRandom.current().nextInt(size) * 2 + 1);
+    }
+
+}
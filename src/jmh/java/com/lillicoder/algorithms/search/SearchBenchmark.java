@@ -0,0 +1,86 @@
+package com.lillicoder.algorithms.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every {@link Search} implementation across list sizes and hit rates.
+ * <p/>
+ * The searched list always holds distinct ascending values, since several implementations require a sorted
+ * list. Lookups cycle through a fixed set of random keys, a given percentage of which are in the list.
+ * Implementations are looked up by simple class name in this package, so a new search only needs its name
+ * added to {@link #algorithm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    /**
+     * Number of distinct keys looked up in turn.
+     */
+    private static final int KEYS = 1 << 10;
+
+    @Param({ "LinearSearch", "BinarySearch", "HashIndexSearch", "SearchTree" })
+    public String algorithm;
+
+    @Param({ "100", "10000", "1000000" })
+    public int size;
+
+    @Param({ "50", "100" })
+    public int hitPercent;
+
+    private Search search;
+    private List<Integer> list;
+    private Integer[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Constructor<?> constructor =
+                Class.forName(SearchBenchmark.class.getPackage().getName() + "." + algorithm).getDeclaredConstructor();
+        constructor.setAccessible(true);
+        search = (Search) constructor.newInstance();
+
+        // Even values are in the list, odd values are not
+        list = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            list.add(index * 2);
+        }
+
+        Random random = new Random(31L);
+        keys = new Integer[KEYS];
+        for (int index = 0; index < KEYS; index++) {
+            int value = random.nextInt(size) * 2;
+            keys[index] = random.nextInt(100) < hitPercent ? value : value + 1;
+        }
+
+        // Let implementations with an index build it outside of the measurement
+        search.search(list, keys[0]);
+    }
+
+    @Benchmark
+    public int search() {
+        next = (next + 1) & (KEYS - 1);
+        return search.search(list, keys[next]);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.lillicoder.algorithms.sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link HeapSort} across heap arities against {@link Quicksort} on random lists, and on random
+ * {@code int} arrays where no boxing is involved. Each invocation copies the input before sorting it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapSortBenchmark {
+
+    @Param({ "2", "4", "8" })
+    public int arity;
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private HeapSort heapSort;
+    private List<Integer> list;
+    private int[] array;
+
+    @Setup
+    public void setUp() {
+        heapSort = new HeapSort(arity);
+        Random random = new Random(46L);
+        list = new ArrayList<>(size);
+        array = new int[size];
+        for (int index = 0; index < size; index++) {
+            array[index] = random.nextInt();
+            list.add(array[index]);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> heapSortList() {
+        return heapSort.sort(new ArrayList<>(list), Sort.Order.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Integer> quicksortList() {
+        return new Quicksort().sort(new ArrayList<>(list), Sort.Order.ASCENDING);
+    }
+
+    @Benchmark
+    public int[] heapSortArray() {
+        int[] copy = array.clone();
+        heapSort.sort(copy, Sort.Order.ASCENDING);
+        return copy;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.lillicoder.algorithms.sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single merge of two sorted halves with {@link Merger} against {@link ParallelMerger} on the
+ * common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MergeBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int size;
+
+    private List<Integer> left;
+    private List<Integer> right;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(39L);
+        left = new ArrayList<>(size / 2);
+        right = new ArrayList<>(size - size / 2);
+        for (int index = 0; index < size; index++) {
+            (index % 2 == 0 ? left : right).add(random.nextInt());
+        }
+        left = new MergeSort().sort(left, Sort.Order.ASCENDING);
+        right = new MergeSort().sort(right, Sort.Order.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Integer> sequential() {
+        return new Merger().merge(left, right, Sort.Order.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Integer> parallel() {
+        return new ParallelMerger().merge(left, right, Sort.Order.ASCENDING);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.lillicoder.algorithms.sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SortingNetwork} against an insertion sort and {@link Arrays#sort(int[], int, int)} on tiny
+ * primitive arrays, the leaf case of the divide and conquer sorts.
+ * <p/>
+ * Each invocation copies the next of a pool of random inputs into a work array and sorts it, so branch
+ * predictors cannot learn a single input and every result includes the same tiny copy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SmallSortBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    @Param({ "4", "8", "12", "16" })
+    public int size;
+
+    private int[][] pool;
+    private long[][] longPool;
+    private int[] work;
+    private long[] longWork;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(37L);
+        pool = new int[POOL_SIZE][size];
+        longPool = new long[POOL_SIZE][size];
+        for (int input = 0; input < POOL_SIZE; input++) {
+            for (int index = 0; index < size; index++) {
+                pool[input][index] = random.nextInt();
+                longPool[input][index] = random.nextLong();
+            }
+        }
+        work = new int[size];
+        longWork = new long[size];
+    }
+
+    @Benchmark
+    public int[] network() {
+        System.arraycopy(nextInput(), 0, work, 0, size);
+        SortingNetwork.sort(work, 0, size, Sort.Order.ASCENDING);
+        return work;
+    }
+
+    @Benchmark
+    public long[] networkLong() {
+        System.arraycopy(longPool[nextPosition()], 0, longWork, 0, size);
+        SortingNetwork.sort(longWork, 0, size, Sort.Order.ASCENDING);
+        return longWork;
+    }
+
+    @Benchmark
+    public int[] insertion() {
+        System.arraycopy(nextInput(), 0, work, 0, size);
+        for (int index = 1; index < size; index++) {
+            int element = work[index];
+            int position = index - 1;
+            while (position >= 0 && work[position] > element) {
+                work[position + 1] = work[position];
+                position--;
+            }
+            work[position + 1] = element;
+        }
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        System.arraycopy(nextInput(), 0, work, 0, size);
+        Arrays.sort(work, 0, size);
+        return work;
+    }
+
+    private int[] nextInput() {
+        return pool[nextPosition()];
+    }
+
+    private int nextPosition() {
+        next = (next + 1) & (POOL_SIZE - 1);
+        return next;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.benchmark.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every {@link ISort} implementation across input sizes, {@link Distribution}s and
+ * {@link Sort.Order}s.
+ * <p/>
+ * Implementations are looked up by simple class name in this package, so a new sort only needs its name added
+ * to {@link #algorithm}. Each invocation copies the input before sorting it, so every result includes the same
+ * O(n) copy on top of the sort itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({ "BubbleSort", "InsertionSort", "MergeSort", "InPlaceMergeSort", "ParallelMergeSort", "Quicksort",
+             "HeapSort", "CountingSort", "AdaptiveSort" })
+    public String algorithm;
+
+    @Param({ "100", "1000", "10000" })
+    public int size;
+
+    @Param({ "RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE", "ADVERSARIAL" })
+    public Distribution distribution;
+
+    @Param({ "ASCENDING", "DESCENDING" })
+    public Sort.Order order;
+
+    private ISort sort;
+    private Integer[] input;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        sort = (ISort) Class.forName(SortBenchmark.class.getPackage().getName() + "." + algorithm)
+                            .getDeclaredConstructor()
+                            .newInstance();
+        input = distribution.generate(size, 31L, sort, order);
+    }
+
+    @Benchmark
+    public List<Integer> sort() {
+        return sort.sort(new ArrayList<>(Arrays.asList(input)), order);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.lillicoder.algorithms.sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks collecting a parallel stream with {@link SortingCollectors#toSortedList(Sort.Order)} against
+ * collecting it into a list and then running a {@link MergeSort}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortingCollectorBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int size;
+
+    private Integer[] input;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        input = new Integer[size];
+        for (int index = 0; index < size; index++) {
+            input[index] = random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> collectThenSort() {
+        List<Integer> collected = Arrays.stream(input).parallel().map(value -> value ^ 1).collect(Collectors.toList());
+        return new MergeSort().sort(collected, Sort.Order.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Integer> collectSorted() {
+        return Arrays.stream(input)
+                     .parallel()
+                     .map(value -> value ^ 1)
+                     .collect(SortingCollectors.toSortedList(Sort.Order.ASCENDING));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.lillicoder.algorithms.concurrent;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Cooperative cancellation flag for a running job. A {@link JobExecutor} binds a token to the thread running
+ * each job, and long running loops such as those in the sort package poll {@link #current()} so that a
+ * cancelled job stops early instead of running to completion.
+ * <p/>
+ * Code that runs outside of a {@link JobExecutor} sees a token that is never cancelled.
+ */
+public final class CancellationToken {
+
+    /**
+     * Token seen by threads that are not running a job. Never cancelled.
+     */
+    public static final CancellationToken NONE = new CancellationToken();
+
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean cancelled;
+
+    /**
+     * Gets the token bound to the current thread.
+     * @return Current token, or {@link #NONE} if the current thread is not running a job.
+     */
+    public static CancellationToken current() {
+        CancellationToken token = CURRENT.get();
+        return token == null ? NONE : token;
+    }
+
+    /**
+     * Binds the given token to the current thread.
+     * @param token Token to bind, or {@code null} to unbind.
+     */
+    static void bind(CancellationToken token) {
+        if (token == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(token);
+        }
+    }
+
+    /**
+     * Requests cancellation of the job this token belongs to.
+     * @throws UnsupportedOperationException Thrown if this token is {@link #NONE}.
+     */
+    public void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("The shared empty token cannot be cancelled");
+        }
+
+        cancelled = true;
+    }
+
+    /**
+     * Determines if cancellation has been requested.
+     * @return {@code true} if cancelled, {@code false} otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Stops the current job if cancellation has been requested.
+     * @throws CancellationException Thrown if cancelled.
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Job was cancelled");
+        }
+    }
+
+}
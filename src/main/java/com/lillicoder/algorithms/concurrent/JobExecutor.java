@@ -0,0 +1,192 @@
+package com.lillicoder.algorithms.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs sort and search jobs asynchronously, returning a {@link CompletableFuture} for each.
+ * <p/>
+ * Jobs smaller than an inline threshold run straight away on the calling thread, since handing them off would
+ * cost more than running them. Larger jobs run on a bounded executor: virtual threads when the JVM provides them
+ * (JDK 21 and up), otherwise a fixed pool of {@code maxConcurrency} platform threads.
+ * <p/>
+ * At most {@code maxConcurrency + queueCapacity} jobs may be running or waiting at once. A job submitted beyond
+ * that is not queued; its future fails straight away with a {@link RejectedExecutionException} so callers feel
+ * the back-pressure. With virtual threads every admitted job gets a thread of its own straight away, which then
+ * waits for one of {@code maxConcurrency} running permits before it starts the job, so on either executor at
+ * most {@code maxConcurrency} jobs run at once.
+ * <p/>
+ * Cancelling a returned future cancels the job's {@link CancellationToken}, which the job's loops poll so it
+ * stops early.
+ */
+public class JobExecutor implements AutoCloseable {
+
+    /**
+     * Default number of elements below which a job runs inline.
+     */
+    public static final int DEFAULT_INLINE_THRESHOLD = 1 << 13;
+
+    private final int inlineThreshold;
+    private final Semaphore permits;
+    private final Semaphore running;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an executor with {@link #DEFAULT_INLINE_THRESHOLD}, one concurrent job per processor and a queue of
+     * four jobs per processor.
+     */
+    public JobExecutor() {
+        this(DEFAULT_INLINE_THRESHOLD,
+             Runtime.getRuntime().availableProcessors(),
+             Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates an executor.
+     * @param inlineThreshold Number of elements below which a job runs on the calling thread.
+     * @param maxConcurrency Largest number of jobs to run at once.
+     * @param queueCapacity Largest number of jobs to hold waiting for a thread.
+     * @throws IllegalArgumentException Thrown if concurrency is less than {@code 1} or capacity is negative.
+     */
+    public JobExecutor(int inlineThreshold, int maxConcurrency, int queueCapacity) {
+        if (maxConcurrency < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid concurrency " + maxConcurrency + " or queue capacity " + queueCapacity);
+        }
+
+        this.inlineThreshold = inlineThreshold;
+        this.permits = new Semaphore(maxConcurrency + queueCapacity);
+
+        ExecutorService virtualThreads = virtualThreadExecutor();
+        if (virtualThreads != null) {
+            this.executor = virtualThreads;
+            this.running = new Semaphore(maxConcurrency);
+        } else {
+            // The pool's size already bounds the running jobs
+            this.running = null;
+            this.executor = new ThreadPoolExecutor(maxConcurrency,
+                                                   maxConcurrency,
+                                                   0L,
+                                                   TimeUnit.MILLISECONDS,
+                                                   new LinkedBlockingQueue<>(),
+                                                   new DaemonThreadFactory());
+        }
+    }
+
+    /**
+     * Runs the given job, inline if it is small and on this executor otherwise.
+     * @param size Number of elements the job works on.
+     * @param job Job to run.
+     * @param <V> Type of result.
+     * @return Future result of the job. Fails with a {@link RejectedExecutionException} if this executor is full,
+     * and is cancelled if the job stopped because of cancellation.
+     */
+    public <V> CompletableFuture<V> submit(int size, Supplier<V> job) {
+        if (size < inlineThreshold) {
+            CompletableFuture<V> future = new CompletableFuture<>();
+            try {
+                future.complete(job.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        if (!permits.tryAcquire()) {
+            CompletableFuture<V> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new RejectedExecutionException("Job queue is full"));
+            return rejected;
+        }
+
+        CancellationToken token = new CancellationToken();
+        CompletableFuture<V> future = new CompletableFuture<V>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                token.cancel();
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        try {
+            executor.execute(() -> {
+                CancellationToken.bind(token);
+                boolean started = false;
+                try {
+                    if (running != null) {
+                        running.acquire();
+                        started = true;
+                    }
+                    token.throwIfCancelled();
+                    future.complete(job.get());
+                } catch (CancellationException e) {
+                    future.cancel(false);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(e);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    if (started) {
+                        running.release();
+                    }
+                    CancellationToken.bind(null);
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Stops accepting jobs. Jobs already submitted still run.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per job, if this JVM supports virtual threads.
+     * @return Virtual thread executor, or {@code null} if not supported.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates daemon threads so an idle pool does not keep the JVM alive.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "algorithms-job-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
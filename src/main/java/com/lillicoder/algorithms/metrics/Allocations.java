@@ -0,0 +1,45 @@
+package com.lillicoder.algorithms.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread, where the JVM supports it.
+ */
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private Allocations() {
+    }
+
+    /**
+     * Gets the total number of bytes allocated by the current thread so far.
+     * @return Allocated bytes, or {@code -1} if the JVM cannot report per thread allocation.
+     */
+    public static long current() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread since the given reading.
+     * @param start Earlier result of {@link #current()}.
+     * @return Allocated bytes, or {@code -1} if the JVM cannot report per thread allocation.
+     */
+    public static long since(long start) {
+        return start < 0 ? -1 : current() - start;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean extended = (com.sun.management.ThreadMXBean) threads;
+            if (extended.isThreadAllocatedMemorySupported() && extended.isThreadAllocatedMemoryEnabled()) {
+                return extended;
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.lillicoder.algorithms.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MetricsSink} that keeps running totals per operation and publishes them as a {@link MetricsMXBean}
+ * named {@code com.lillicoder.algorithms:type=Metrics,name=<operation>}. Beans are registered with the
+ * platform {@link MBeanServer} the first time an operation is recorded.
+ */
+public class JmxMetricsSink implements MetricsSink {
+
+    /**
+     * JMX domain for registered beans.
+     */
+    public static final String DOMAIN = "com.lillicoder.algorithms";
+
+    private final MBeanServer server;
+    private final ConcurrentMap<String, Totals> totals = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a sink that registers with the platform {@link MBeanServer}.
+     */
+    public JmxMetricsSink() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates a sink that registers with the given {@link MBeanServer}.
+     * @param server Server to register beans with.
+     */
+    public JmxMetricsSink(MBeanServer server) {
+        this.server = server;
+    }
+
+    @Override
+    public void record(Metrics metrics) {
+        totals.computeIfAbsent(metrics.getOperation(), this::register).add(metrics);
+    }
+
+    /**
+     * Gets the name the bean for the given operation is registered under.
+     * @param operation Operation name.
+     * @return Bean name.
+     * @throws IllegalArgumentException Thrown if the operation name is not valid in an {@link ObjectName}.
+     */
+    public static ObjectName objectName(String operation) {
+        try {
+            return new ObjectName(DOMAIN + ":type=Metrics,name=" + ObjectName.quote(operation));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid operation name " + operation, e);
+        }
+    }
+
+    private Totals register(String operation) {
+        Totals operationTotals = new Totals();
+        try {
+            ObjectName name = objectName(operation);
+            if (server.isRegistered(name)) {
+                // Another sink owns this name, replace it so the bean reflects this sink
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(operationTotals, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics bean for " + operation, e);
+        }
+
+        return operationTotals;
+    }
+
+    /**
+     * Running totals for one operation.
+     */
+    private static class Totals implements MetricsMXBean {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder comparisons = new LongAdder();
+        private final LongAdder moves = new LongAdder();
+        private final AtomicInteger maxDepth = new AtomicInteger();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final AtomicLong maxElapsedNanos = new AtomicLong();
+
+        void add(Metrics metrics) {
+            calls.increment();
+            comparisons.add(metrics.getComparisons());
+            moves.add(metrics.getMoves());
+            maxDepth.accumulateAndGet(metrics.getMaxDepth(), Math::max);
+            allocatedBytes.accumulateAndGet(metrics.getAllocatedBytes(),
+                                            (total, bytes) -> total < 0 || bytes < 0 ? -1 : total + bytes);
+            elapsedNanos.add(metrics.getElapsedNanos());
+            maxElapsedNanos.accumulateAndGet(metrics.getElapsedNanos(), Math::max);
+        }
+
+        @Override
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        @Override
+        public long getComparisons() {
+            return comparisons.sum();
+        }
+
+        @Override
+        public long getMoves() {
+            return moves.sum();
+        }
+
+        @Override
+        public int getMaxDepth() {
+            return maxDepth.get();
+        }
+
+        @Override
+        public long getAllocatedBytes() {
+            return allocatedBytes.get();
+        }
+
+        @Override
+        public long getElapsedNanos() {
+            return elapsedNanos.sum();
+        }
+
+        @Override
+        public long getMaxElapsedNanos() {
+            return maxElapsedNanos.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.lillicoder.algorithms.metrics;
+
+/**
+ * Immutable snapshot of the work done by a single instrumented sort or search call.
+ */
+public final class Metrics {
+
+    private final String operation;
+    private final int size;
+    private final long comparisons;
+    private final long moves;
+    private final int maxDepth;
+    private final long allocatedBytes;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a snapshot.
+     * @param operation Name of the instrumented implementation.
+     * @param size Number of elements in the input list.
+     * @param comparisons Number of element comparisons.
+     * @param moves Number of element writes into the input list.
+     * @param maxDepth Deepest recursion level reached.
+     * @param allocatedBytes Bytes allocated on the calling thread, or {@code -1} if the JVM cannot report it.
+     * @param elapsedNanos Wall time of the call in nanoseconds.
+     */
+    public Metrics(String operation,
+                   int size,
+                   long comparisons,
+                   long moves,
+                   int maxDepth,
+                   long allocatedBytes,
+                   long elapsedNanos) {
+        this.operation = operation;
+        this.size = size;
+        this.comparisons = comparisons;
+        this.moves = moves;
+        this.maxDepth = maxDepth;
+        this.allocatedBytes = allocatedBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the name of the instrumented implementation, such as {@code Quicksort}.
+     * @return Operation name.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the number of elements in the input list.
+     * @return Input size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of element comparisons made.
+     * @return Comparison count.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Gets the number of element writes into the list being sorted. Sorts that build new lists rather than
+     * rearranging their input, such as a merge sort, make most of their moves into those new lists, which
+     * show up in {@link #getAllocatedBytes()} instead.
+     * @return Move count.
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the deepest recursion level reached, where the top level call is depth {@code 1}.
+     * @return Maximum recursion depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Gets the number of bytes allocated on the calling thread during the call, which covers temporary buffers.
+     * @return Allocated bytes, or {@code -1} if the JVM cannot report per thread allocation.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Gets the wall time of the call.
+     * @return Elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return operation
+                + "{size=" + size
+                + ", comparisons=" + comparisons
+                + ", moves=" + moves
+                + ", maxDepth=" + maxDepth
+                + ", allocatedBytes=" + allocatedBytes
+                + ", elapsedNanos=" + elapsedNanos
+                + "}";
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.lillicoder.algorithms.metrics;
+
+/**
+ * Management interface exposing running totals of {@link Metrics} for one instrumented implementation.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return Number of calls recorded.
+     */
+    long getCalls();
+
+    /**
+     * @return Total element comparisons across all calls.
+     */
+    long getComparisons();
+
+    /**
+     * @return Total element moves across all calls.
+     */
+    long getMoves();
+
+    /**
+     * @return Deepest recursion level reached by any call.
+     */
+    int getMaxDepth();
+
+    /**
+     * @return Total bytes allocated across all calls, or {@code -1} if the JVM cannot report it.
+     */
+    long getAllocatedBytes();
+
+    /**
+     * @return Total wall time across all calls in nanoseconds.
+     */
+    long getElapsedNanos();
+
+    /**
+     * @return Longest wall time of a single call in nanoseconds.
+     */
+    long getMaxElapsedNanos();
+
+}
@@ -0,0 +1,15 @@
+package com.lillicoder.algorithms.metrics;
+
+/**
+ * Receives a {@link Metrics} snapshot for every instrumented call.
+ */
+public interface MetricsSink {
+
+    /**
+     * Records the given snapshot. Called on the thread that made the instrumented call, so implementations
+     * should be quick and thread safe.
+     * @param metrics Snapshot to record.
+     */
+    void record(Metrics metrics);
+
+}
@@ -0,0 +1,54 @@
+package com.lillicoder.algorithms.search;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+import com.lillicoder.algorithms.concurrent.JobExecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous front end for a {@link Search}. Each batch of lookups is one job: small batches run inline on the
+ * calling thread, large batches run on a {@link JobExecutor}.
+ * <p/>
+ * Cancelling a returned future stops a running batch before its next lookup.
+ */
+class AsyncSearch {
+
+    private final Search search;
+    private final JobExecutor executor;
+
+    /**
+     * Creates an asynchronous search.
+     * @param search Search to run. It is only ever used by one job at a time.
+     * @param executor Executor to run large batches on.
+     */
+    AsyncSearch(Search search, JobExecutor executor) {
+        this.search = search;
+        this.executor = executor;
+    }
+
+    /**
+     * Searches the given list for each of the given elements.
+     * @param list List to search. It must not be modified until the returned future completes.
+     * @param toFind Elements to find.
+     * @param <T> Type of element.
+     * @return Future positions, in the same order as the elements to find, with {@code -1} for each element
+     * that could not be found. Fails with a {@link java.util.concurrent.RejectedExecutionException} if the
+     * executor is full.
+     */
+    <T> CompletableFuture<int[]> searchAll(List<? extends Comparable<? super T>> list, List<? extends T> toFind) {
+        return executor.submit(toFind.size(), () -> {
+            CancellationToken cancellation = CancellationToken.current();
+            int[] positions = new int[toFind.size()];
+            synchronized (search) {
+                for (int index = 0; index < positions.length; index++) {
+                    cancellation.throwIfCancelled();
+                    positions[index] = search.search(list, toFind.get(index));
+                }
+            }
+
+            return positions;
+        });
+    }
+
+}
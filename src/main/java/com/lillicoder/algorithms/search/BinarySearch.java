@@ -43,7 +43,7 @@ class BinarySearch implements Search {
             } else if (comparison < 0) {
                 // Element to find is bigger than middle position,
                 // check upper half of list
-                low += middle + 1;
+                low = middle + 1;
             } else {
                 // Element to find is smaller than middle position,
                 // check lower half of list
@@ -0,0 +1,122 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * Bloom filter over {@code int} hash codes. A {@code false} answer from {@link #mightContain(int)} means the
+ * hash was definitely never added; a {@code true} answer may be a false positive.
+ * <p/>
+ * Bit positions are derived from the single given hash by double hashing, so callers only ever need to compute
+ * one hash code per element.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Add time: O(k)</li>
+ *     <li>Lookup time: O(k)</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+class BloomFilter {
+
+    /**
+     * Default number of filter bits reserved per expected entry. Ten bits with seven probes gives a false
+     * positive rate of roughly one percent.
+     */
+    static final int DEFAULT_BITS_PER_ENTRY = 10;
+
+    private final long[] bits;
+    private final int mask;
+    private final int probes;
+
+    /**
+     * Creates a filter sized for the given number of entries with {@link #DEFAULT_BITS_PER_ENTRY} bits
+     * per entry.
+     * @param expectedEntries Number of entries expected to be added.
+     */
+    BloomFilter(int expectedEntries) {
+        this(expectedEntries, DEFAULT_BITS_PER_ENTRY);
+    }
+
+    /**
+     * Creates a filter sized for the given number of entries.
+     * @param expectedEntries Number of entries expected to be added.
+     * @param bitsPerEntry Number of filter bits to reserve per entry.
+     * @throws IllegalArgumentException Thrown if bits per entry is less than {@code 1}.
+     */
+    BloomFilter(int expectedEntries, int bitsPerEntry) {
+        if (bitsPerEntry < 1) {
+            throw new IllegalArgumentException("Bits per entry must be at least 1, was " + bitsPerEntry);
+        }
+
+        // Round the bit count up to a power of two (and at least one word) so probes can mask instead of mod
+        long wanted = Math.max(64L, (long) Math.max(expectedEntries, 1) * bitsPerEntry);
+        int bitCount = (int) Math.min(1L << 30, Long.highestOneBit(wanted - 1) << 1);
+        bits = new long[bitCount >>> 6];
+        mask = bitCount - 1;
+
+        // Optimal probe count is (m / n) * ln(2)
+        probes = Math.max(1, (int) Math.round(bitsPerEntry * Math.log(2)));
+    }
+
+    /**
+     * Adds the given hash to this filter.
+     * @param hash Hash to add.
+     */
+    void add(int hash) {
+        int h1 = mix(hash);
+        int h2 = (h1 >>> 16) | (h1 << 16) | 1;
+        for (int probe = 0; probe < probes; probe++) {
+            int bit = (h1 + probe * h2) & mask;
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Determines if the given hash may have been added to this filter.
+     * @param hash Hash to check.
+     * @return {@code false} if the hash was definitely never added, {@code true} otherwise.
+     */
+    boolean mightContain(int hash) {
+        int h1 = mix(hash);
+        int h2 = (h1 >>> 16) | (h1 << 16) | 1;
+        for (int probe = 0; probe < probes; probe++) {
+            int bit = (h1 + probe * h2) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes all hashes from this filter.
+     */
+    void clear() {
+        Arrays.fill(bits, 0L);
+    }
+
+    /**
+     * Gets the number of bytes used by this filter's bit set.
+     * @return Size in bytes.
+     */
+    long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * Spreads the bits of the given hash. This is the 32-bit finalizer from MurmurHash3, which keeps
+     * weak {@link Object#hashCode()} implementations (such as {@link Integer}) from clustering.
+     * @param hash Hash to mix.
+     * @return Mixed hash.
+     */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link Search} decorator that caches the results of a wrapped search for the keys searched most recently, so
+ * that skewed lookup traffic repeatedly asking for the same hot keys is answered without searching the list.
+ * Misses are cached as well.
+ * <p/>
+ * The cache is a fixed size, set associative table: a key hashes to a set of {@link #WAYS} entries, and when
+ * that set is full the entry to evict is picked by CLOCK, which sweeps a hand over the set, sparing and clearing
+ * every entry read since the hand last passed. This approximates least recently used eviction with a single
+ * reference bit per entry and no list to reorder on a hit. {@link Integer}, {@link Long}, {@link Short} and
+ * {@link Byte} keys are stored as {@code long}s and the class of their box rather than references to their boxes,
+ * so a lookup compares primitives in place while {@code Integer 5} and {@code Long 5}, which are not equal, stay
+ * apart; other keys are stored by reference and compared with {@link Object#equals(Object)}.
+ * <p/>
+ * Every entry is stamped with the version of the cache it was stored under. Invalidating the cache bumps its
+ * version, which makes every stored entry stale at once without clearing the table. By default the cache is
+ * invalidated whenever it is handed a different list, or the same list with a different size. Lists modified in
+ * place at the same size must either be paired with a version source, such as
+ * {@link ConcurrentSortedIndex#getEpoch()}, or {@link #invalidate()} must be called; otherwise results are
+ * undefined. With a version source, the cache is invalidated only when the version it gives changes.
+ * <p/>
+ * Thread safe, provided the wrapped search is. Each set is guarded by its own lock, held only while its slots are
+ * read or written and never while the wrapped search runs, so a key, its position and its stamp are always
+ * published together and threads looking up keys in different sets do not contend.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Hit time: O(1)</li>
+ *     <li>Miss time: that of the wrapped search, plus O(1)</li>
+ *     <li>Worst case space: O(c) for a capacity of c entries</li>
+ * </ul>
+ */
+class CachingSearch implements Search {
+
+    /**
+     * Number of entries in each set.
+     */
+    static final int WAYS = 8;
+
+    private final Search delegate;
+    private final LongSupplier versionSource;
+
+    private final long[] numericKeys;
+    private final Class<?>[] numericTypes;
+    private final Object[] objectKeys;
+    private final int[] positions;
+    private final int[] stamps;
+    private final boolean[] referenced;
+    private final int[] hands;
+    private final Object[] locks;
+    private final int setMask;
+
+    /**
+     * Current version of the cache. Entries stamped with any other version are stale; {@code 0} marks a slot that
+     * was never filled.
+     */
+    private volatile int version = 1;
+
+    private volatile List<?> cachedList;
+    private volatile int cachedSize;
+    private volatile long cachedVersion;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache that is invalidated whenever the searched list or its size changes.
+     * @param delegate Search to cache the results of.
+     * @param capacity Number of results to cache, rounded up to a power of two of at least {@link #WAYS}.
+     * @throws IllegalArgumentException Thrown if the capacity is less than {@code 1}.
+     */
+    CachingSearch(Search delegate, int capacity) {
+        this(delegate, capacity, null);
+    }
+
+    /**
+     * Creates a cache.
+     * @param delegate Search to cache the results of.
+     * @param capacity Number of results to cache, rounded up to a power of two of at least {@link #WAYS}.
+     * @param versionSource Source of the version of the searched list, or {@code null} to invalidate whenever the
+     *                      searched list or its size changes.
+     * @throws IllegalArgumentException Thrown if the capacity is less than {@code 1}.
+     */
+    CachingSearch(Search delegate, int capacity, LongSupplier versionSource) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+
+        this.delegate = delegate;
+        this.versionSource = versionSource;
+
+        int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        numericKeys = new long[slots];
+        numericTypes = new Class<?>[slots];
+        objectKeys = new Object[slots];
+        positions = new int[slots];
+        stamps = new int[slots];
+        referenced = new boolean[slots];
+        hands = new int[slots / WAYS];
+        locks = new Object[hands.length];
+        for (int set = 0; set < locks.length; set++) {
+            locks[set] = new Object();
+        }
+        setMask = hands.length - 1;
+    }
+
+    @Override
+    public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+        checkVersion(list);
+        int current = version;
+
+        Class<?> numericType = isNumeric(toFind) ? toFind.getClass() : null;
+        long numericKey = numericType != null ? ((Number) toFind).longValue() : 0;
+        int hash = numericType != null ? Long.hashCode(numericKey) : toFind.hashCode();
+        int set = BloomFilter.mix(hash) & setMask;
+        int first = set * WAYS;
+
+        synchronized (locks[set]) {
+            for (int slot = first; slot < first + WAYS; slot++) {
+                if (stamps[slot] == current
+                        && (numericType != null
+                                ? numericTypes[slot] == numericType && numericKeys[slot] == numericKey
+                                : numericTypes[slot] == null && toFind.equals(objectKeys[slot]))) {
+                    hits.increment();
+                    referenced[slot] = true;
+                    return positions[slot];
+                }
+            }
+        }
+
+        misses.increment();
+        int position = delegate.search(list, toFind);
+
+        synchronized (locks[set]) {
+            int slot = victim(set, current);
+            numericKeys[slot] = numericKey;
+            numericTypes[slot] = numericType;
+            objectKeys[slot] = numericType != null ? null : toFind;
+            positions[slot] = position;
+            stamps[slot] = current;
+            referenced[slot] = false;
+        }
+
+        return position;
+    }
+
+    /**
+     * Makes every cached result stale. Call this after modifying a searched list in place without a version
+     * source.
+     */
+    synchronized void invalidate() {
+        int next = version + 1;
+        if (next == 0) {
+            // Wrapped around, stamps from long ago could look current again
+            for (int set = 0; set < locks.length; set++) {
+                synchronized (locks[set]) {
+                    Arrays.fill(stamps, set * WAYS, (set + 1) * WAYS, 0);
+                }
+            }
+            next = 1;
+        }
+        version = next;
+    }
+
+    /**
+     * Gets the number of searches answered from the cache.
+     * @return Number of hits.
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of searches passed on to the wrapped search.
+     * @return Number of misses.
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of current results evicted to make room for another.
+     * @return Number of evictions.
+     */
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the share of searches answered from the cache.
+     * @return Hit rate between {@code 0} and {@code 1}, or {@code 0} if nothing was searched.
+     */
+    double getHitRate() {
+        long hitCount = hits.sum();
+        long searches = hitCount + misses.sum();
+        return searches == 0 ? 0 : (double) hitCount / searches;
+    }
+
+    /**
+     * Gets the number of results the cache holds at most.
+     * @return Capacity.
+     */
+    int getCapacity() {
+        return stamps.length;
+    }
+
+    /**
+     * Invalidates the cache if the given list, or its version, is not the one cached results came from. The check
+     * is repeated under the cache's lock, so threads that notice the same change invalidate only once.
+     * @param list List about to be searched.
+     */
+    private void checkVersion(List<?> list) {
+        if (versionSource != null) {
+            long current = versionSource.getAsLong();
+            if (current != cachedVersion) {
+                synchronized (this) {
+                    if (current != cachedVersion) {
+                        cachedVersion = current;
+                        invalidate();
+                    }
+                }
+            }
+        } else if (list != cachedList || list.size() != cachedSize) {
+            synchronized (this) {
+                if (list != cachedList || list.size() != cachedSize) {
+                    cachedList = list;
+                    cachedSize = list.size();
+                    invalidate();
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the slot to store a new result in within the given set. A stale or empty slot is taken first,
+     * otherwise the CLOCK hand sweeps the set for an entry not read since it last passed. Must hold the set's lock.
+     * @param set Set to store in.
+     * @param current Version the new result is stored under.
+     * @return Slot to overwrite.
+     */
+    private int victim(int set, int current) {
+        int first = set * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (stamps[slot] != current) {
+                return slot;
+            }
+        }
+
+        int hand = hands[set];
+        while (referenced[first + hand]) {
+            referenced[first + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        hands[set] = (hand + 1) & (WAYS - 1);
+        evictions.increment();
+
+        return first + hand;
+    }
+
+    private static boolean isNumeric(Object key) {
+        return key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte;
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sorted index that many threads may read and insert into at once.
+ * <p/>
+ * Elements live in an immutable ascending array published through a single volatile reference, together with an
+ * epoch that counts publications. A read loads that reference once and binary searches the array it got, so reads
+ * take no locks, never retry and never wait on writers: they are wait-free, and always see one consistent epoch.
+ * <p/>
+ * Inserts are not visible straight away. They go onto a lock-free pending queue, and once {@link #getBatchSize()}
+ * of them are pending the inserting thread publishes the batch: it sorts the pending elements and merges them with
+ * the current array into a new one, then swaps the reference. Only one thread publishes at a time; an insert that
+ * finds another thread publishing leaves its elements for a later batch rather than wait, unless
+ * {@link #MAX_PENDING_BATCHES} batches have piled up, in which case it waits and publishes them. Call
+ * {@link #flush()} to publish everything pending, for example before reading back one's own inserts.
+ * <p/>
+ * Copying the array on each publication makes a batch cost O(n + b log(b)), which the batch size amortizes over
+ * its b inserts. This suits read heavy workloads, where a skip list would make every read chase pointers across
+ * the heap for the sake of cheaper writes. Equal elements are kept in publication order. Elements may not be
+ * {@code null}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Search time: O(log(n))</li>
+ *     <li>Insert time: O(1), plus O((n + b log(b)) / b) amortized for publication</li>
+ *     <li>Worst case space: O(n), twice that during a publication</li>
+ * </ul>
+ * @param <T> Type of element. The type must support the {@link Comparable} interface.
+ */
+class ConcurrentSortedIndex<T extends Comparable<? super T>> {
+
+    /**
+     * Default number of pending inserts that triggers a publication.
+     */
+    static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * Number of full batches that may be pending before inserts wait for a publication.
+     */
+    static final int MAX_PENDING_BATCHES = 4;
+
+    /**
+     * Immutable published state.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new Object[0], 0);
+
+        private final Object[] elements;
+        private final long epoch;
+
+        private Snapshot(Object[] elements, long epoch) {
+            this.elements = elements;
+            this.epoch = epoch;
+        }
+
+    }
+
+    private final int batchSize;
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Creates an empty index with the {@link #DEFAULT_BATCH_SIZE}.
+     */
+    ConcurrentSortedIndex() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an empty index.
+     * @param batchSize Number of pending inserts that triggers a publication.
+     * @throws IllegalArgumentException Thrown if the batch size is less than {@code 1}.
+     */
+    ConcurrentSortedIndex(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the number of pending inserts that triggers a publication.
+     * @return Batch size.
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Inserts the given element. It becomes visible to reads once its batch is published.
+     * @param element Element to insert.
+     * @throws NullPointerException Thrown if the element is {@code null}.
+     */
+    void add(T element) {
+        pending.add(element);
+        publishIfFull(pendingCount.incrementAndGet());
+    }
+
+    /**
+     * Inserts the given elements. They become visible to reads once their batch is published, not necessarily
+     * all in the same batch.
+     * @param elements Elements to insert.
+     * @throws NullPointerException Thrown if any element is {@code null}.
+     */
+    void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+        }
+
+        pending.addAll(elements);
+        publishIfFull(pendingCount.addAndGet(elements.size()));
+    }
+
+    /**
+     * Publishes every insert pending so far, waiting for any publication in progress.
+     */
+    void flush() {
+        publishLock.lock();
+        try {
+            publish();
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of publications so far. Readers can compare epochs to tell whether the index changed.
+     * @return Epoch of the published elements.
+     */
+    long getEpoch() {
+        return snapshot.epoch;
+    }
+
+    /**
+     * Gets the number of published elements.
+     * @return Size of the index.
+     */
+    int size() {
+        return snapshot.elements.length;
+    }
+
+    /**
+     * Gets the published elements as they are now. Later publications do not change the returned list.
+     * @return Unmodifiable list of elements in ascending order.
+     */
+    List<T> snapshot() {
+        Object[] elements = snapshot.elements;
+        return view(elements, 0, elements.length);
+    }
+
+    /**
+     * Searches the published elements for the given element. If there are multiple matching elements, the first
+     * of them is found.
+     * @param toFind Element to find.
+     * @return Position of the element in the current {@link #snapshot()}, or {@code -1} if it is not published.
+     */
+    int search(T toFind) {
+        Object[] elements = snapshot.elements;
+        int position = lowerBound(elements, toFind);
+        return position < elements.length && compare(elements[position], toFind) == 0 ? position : -1;
+    }
+
+    /**
+     * Finds the first published element that is not less than the given element.
+     * @param element Element to bound.
+     * @return Position in the current {@link #snapshot()}, or its size if every element is less.
+     */
+    int lowerBound(T element) {
+        return lowerBound(snapshot.elements, element);
+    }
+
+    /**
+     * Finds the first published element that is greater than the given element.
+     * @param element Element to bound.
+     * @return Position in the current {@link #snapshot()}, or its size if no element is greater.
+     */
+    int upperBound(T element) {
+        return upperBound(snapshot.elements, element);
+    }
+
+    /**
+     * Gets the published elements from the given element, inclusive, to the given element, exclusive. The range
+     * is read from a single epoch and later publications do not change it.
+     * @param from Lowest element of the range.
+     * @param to Element the range stops before.
+     * @return Unmodifiable list of elements in ascending order, empty if {@code to} is not greater than
+     *         {@code from}.
+     */
+    List<T> range(T from, T to) {
+        Object[] elements = snapshot.elements;
+        int start = lowerBound(elements, from);
+        int end = Math.max(start, lowerBound(elements, to));
+        return view(elements, start, end);
+    }
+
+    /**
+     * Publishes pending inserts if there are enough of them and no other thread is publishing. If inserts have
+     * outrun publication by {@link #MAX_PENDING_BATCHES} batches, waits to publish instead.
+     * @param count Number of pending inserts seen by the caller.
+     */
+    private void publishIfFull(int count) {
+        if (count >= (long) batchSize * MAX_PENDING_BATCHES) {
+            flush();
+        } else if (count >= batchSize && publishLock.tryLock()) {
+            try {
+                publish();
+            } finally {
+                publishLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Merges the pending inserts into a new snapshot. Must hold the {@link #publishLock}.
+     */
+    private void publish() {
+        // Only take what is pending now, so writers that keep inserting cannot keep the publisher draining forever
+        int count = pendingCount.get();
+        List<T> batch = new ArrayList<>(count);
+        T element;
+        while (batch.size() < count && (element = pending.poll()) != null) {
+            batch.add(element);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+
+        Object[] inserts = batch.toArray();
+        Arrays.sort(inserts);
+
+        Snapshot current = snapshot;
+        Object[] elements = current.elements;
+        Object[] merged = new Object[elements.length + inserts.length];
+        int left = 0;
+        int right = 0;
+        int index = 0;
+        while (left < elements.length && right < inserts.length) {
+            // Published elements go first among equals
+            merged[index++] = compare(inserts[right], elements[left]) < 0 ? inserts[right++] : elements[left++];
+        }
+        System.arraycopy(elements, left, merged, index, elements.length - left);
+        System.arraycopy(inserts, right, merged, index + elements.length - left, inserts.length - right);
+
+        snapshot = new Snapshot(merged, current.epoch + 1);
+    }
+
+    private static <T> int lowerBound(Object[] elements, T element) {
+        int low = 0;
+        int high = elements.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static <T> int upperBound(Object[] elements, T element) {
+        int low = 0;
+        int high = elements.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements[middle], element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(Object element, T other) {
+        return ((Comparable<? super T>) element).compareTo(other);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> view(Object[] elements, int from, int to) {
+        return Collections.unmodifiableList((List<T>) (List<?>) Arrays.asList(elements).subList(from, to));
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of a hash indexed search on a given unsorted list. The first search over a list builds an
+ * open-addressing hash index from each element's {@link Object#hashCode()} to the position of its first
+ * occurrence; later searches over the same list are answered from that index instead of scanning the list.
+ * An optional {@link BloomFilter} sits in front of the index so that definite misses are rejected without
+ * probing the table at all.
+ * <p/>
+ * Like {@link LinearSearch}, if the list contains multiple elements that match the given element to find,
+ * the first encountered will have its position returned. Element types must have a {@link Object#hashCode()}
+ * that is consistent with {@link Comparable#compareTo(Object)}, as is the case for boxed primitives and
+ * {@link String}.
+ * <p/>
+ * The index is tied to the identity of the list it was built from. Searching a different list rebuilds the
+ * index; if the indexed list is modified in place, call {@link #rebuild()} or {@link #invalidate()}, otherwise
+ * results are undefined.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Build time: O(n)</li>
+ *     <li>Best case time: O(1)</li>
+ *     <li>Average case time: O(1)</li>
+ *     <li>Worst case time: O(n)</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+class HashIndexSearch implements Search {
+
+    /**
+     * Marker for a table slot that holds no position.
+     */
+    private static final int EMPTY = -1;
+
+    private final boolean useBloomFilter;
+
+    private List<? extends Comparable<?>> indexed;
+    private int[] hashes;
+    private int[] positions;
+    private int mask;
+    private int entries;
+    private BloomFilter filter;
+
+    /**
+     * Creates a search whose index is guarded by a {@link BloomFilter}.
+     */
+    HashIndexSearch() {
+        this(true);
+    }
+
+    /**
+     * Creates a search.
+     * @param useBloomFilter {@code true} to guard the index with a {@link BloomFilter}, {@code false} otherwise.
+     */
+    HashIndexSearch(boolean useBloomFilter) {
+        this.useBloomFilter = useBloomFilter;
+    }
+
+    @Override
+    public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+        if (list != indexed) {
+            build(list);
+        }
+
+        int hash = toFind.hashCode();
+        if (filter != null && !filter.mightContain(hash)) {
+            // Definite miss, no need to touch the table
+            return -1;
+        }
+
+        int slot = BloomFilter.mix(hash) & mask;
+        while (positions[slot] != EMPTY) {
+            if (hashes[slot] == hash) {
+                Comparable<? super T> candidate = list.get(positions[slot]);
+                if (candidate.compareTo(toFind) == 0) {
+                    return positions[slot];
+                }
+            }
+
+            // Linear probe to the next slot
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Rebuilds the index for the list most recently searched. Call this after modifying that list in place.
+     * Does nothing if there is no current index.
+     */
+    void rebuild() {
+        if (indexed != null) {
+            build(indexed);
+        }
+    }
+
+    /**
+     * Discards the current index. The next search will build a new index for the list it is given.
+     */
+    void invalidate() {
+        indexed = null;
+        hashes = null;
+        positions = null;
+        filter = null;
+        mask = 0;
+        entries = 0;
+    }
+
+    /**
+     * Gets the number of distinct elements in the current index.
+     * @return Number of indexed elements.
+     */
+    int size() {
+        return entries;
+    }
+
+    /**
+     * Gets the number of bytes used by the current index, including its {@link BloomFilter} if present.
+     * @return Size in bytes, or {@code 0} if there is no current index.
+     */
+    long sizeInBytes() {
+        if (positions == null) {
+            return 0;
+        }
+
+        long bytes = (long) hashes.length * Integer.BYTES + (long) positions.length * Integer.BYTES;
+        if (filter != null) {
+            bytes += filter.sizeInBytes();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Gets the average number of index bytes used per distinct indexed element.
+     * @return Bytes per entry, or {@code 0} if the index is empty.
+     */
+    double bytesPerEntry() {
+        return entries == 0 ? 0 : (double) sizeInBytes() / entries;
+    }
+
+    /**
+     * Builds the index for the given list.
+     * @param list List to index.
+     */
+    @SuppressWarnings("unchecked")
+    private void build(List<? extends Comparable<?>> list) {
+        // Keep the load factor at or below one half so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(2, list.size()) - 1) << 2;
+        hashes = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, EMPTY);
+        mask = capacity - 1;
+        entries = 0;
+        filter = useBloomFilter ? new BloomFilter(list.size()) : null;
+
+        for (int index = 0; index < list.size(); index++) {
+            Comparable<Object> element = (Comparable<Object>) list.get(index);
+            int hash = element.hashCode();
+
+            int slot = BloomFilter.mix(hash) & mask;
+            boolean duplicate = false;
+            while (positions[slot] != EMPTY) {
+                if (hashes[slot] == hash && element.compareTo(list.get(positions[slot])) == 0) {
+                    // Equal element seen earlier, keep its (first) position
+                    duplicate = true;
+                    break;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            if (!duplicate) {
+                hashes[slot] = hash;
+                positions[slot] = index;
+                entries++;
+                if (filter != null) {
+                    filter.add(hash);
+                }
+            }
+        }
+
+        indexed = list;
+    }
+
+}
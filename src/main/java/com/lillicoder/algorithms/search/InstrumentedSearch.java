@@ -0,0 +1,114 @@
+package com.lillicoder.algorithms.search;
+
+import com.lillicoder.algorithms.metrics.Allocations;
+import com.lillicoder.algorithms.metrics.Metrics;
+import com.lillicoder.algorithms.metrics.MetricsSink;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@link Search} decorator that measures each call to a wrapped search and reports a {@link Metrics} snapshot to
+ * a {@link MetricsSink}.
+ * <p/>
+ * The wrapped search is handed a read only view of the list that counts element reads. Searches compare the
+ * elements they read, so reads are reported as comparisons; for a search that builds an index on first use, that
+ * first call also counts the reads made while indexing. The same view is
+ * reused while the same list is searched, so searches that index a list by identity, such as
+ * {@link HashIndexSearch}, keep their index. The view of a {@link LongKeyList} is a {@link LongKeyList} itself
+ * that counts unboxed reads too, so {@link MappedFileSearch} keeps comparing raw keys. Searches never move
+ * elements or recurse, so those are reported as {@code 0}. Instrumentation is opt-in: a search that is not wrapped pays nothing.
+ * <p/>
+ * Not thread safe.
+ */
+class InstrumentedSearch implements Search {
+
+    private final Search delegate;
+    private final MetricsSink sink;
+    private final String operation;
+
+    private List<?> viewed;
+    private CountingList<?> view;
+
+    /**
+     * Creates a decorator for the given search.
+     * @param delegate Search to instrument.
+     * @param sink Sink to report each call to.
+     */
+    InstrumentedSearch(Search delegate, MetricsSink sink) {
+        this.delegate = delegate;
+        this.sink = sink;
+        this.operation = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+        if (list != viewed) {
+            viewed = list;
+            view = list instanceof LongKeyList
+                    ? new CountingLongKeyList((LongKeyList) list)
+                    : new CountingList<>(list);
+        }
+        CountingList<? extends Comparable<? super T>> counting = (CountingList<? extends Comparable<? super T>>) view;
+        counting.reads = 0;
+
+        long allocationStart = Allocations.current();
+        long start = System.nanoTime();
+        int position = delegate.search(counting, toFind);
+        long elapsed = System.nanoTime() - start;
+        long allocated = Allocations.since(allocationStart);
+
+        sink.record(new Metrics(operation, list.size(), counting.reads, 0, 0, allocated, elapsed));
+
+        return position;
+    }
+
+    /**
+     * Read only list view that counts element reads.
+     * @param <E> Type of element.
+     */
+    private static class CountingList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final List<E> list;
+        long reads;
+
+        CountingList(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public E get(int index) {
+            reads++;
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+    }
+
+    /**
+     * Read only view of a list of {@code long} keys that counts both boxed and unboxed reads.
+     */
+    private static class CountingLongKeyList extends CountingList<Long> implements LongKeyList {
+
+        private final LongKeyList keys;
+
+        CountingLongKeyList(LongKeyList keys) {
+            super(keys);
+            this.keys = keys;
+        }
+
+        @Override
+        public long getLong(int index) {
+            reads++;
+            return keys.getLong(index);
+        }
+
+    }
+
+}
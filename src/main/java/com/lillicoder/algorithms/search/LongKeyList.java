@@ -0,0 +1,20 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.List;
+
+/**
+ * {@link List} of {@code long} keys that can also be read without boxing, such as a {@link MappedLongList}.
+ * Searches that compare raw keys check for this type rather than for a concrete list, so that views over such a
+ * list, like the one an {@link InstrumentedSearch} hands to the search it measures, take the same path.
+ */
+interface LongKeyList extends List<Long> {
+
+    /**
+     * Gets the key at the given position without boxing it.
+     * @param index Position of the key.
+     * @return Key at the position.
+     * @throws IndexOutOfBoundsException Thrown if the position is out of range.
+     */
+    long getLong(int index);
+
+}
@@ -0,0 +1,81 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.List;
+
+/**
+ * Implementation of a binary search over a sorted file of fixed width {@code long} keys that is read in place
+ * through a {@link MappedLongList}, rather than being loaded into a {@code List<Long>} first. Keys must be
+ * sorted in ascending signed order, otherwise results are undefined.
+ * <p/>
+ * Searches over a {@link LongKeyList}, such as a {@link MappedLongList}, for a {@link Long} compare raw keys read
+ * from the mapping without boxing. Searches over any other list fall back to {@link BinarySearch}. If there are
+ * multiple keys that match the given key to find, the first of them is found.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(log(n))</li>
+ *     <li>Average case time: O(log(n))</li>
+ *     <li>Worst case time: O(log(n))</li>
+ *     <li>Worst case space: O(1)</li>
+ * </ul>
+ */
+class MappedFileSearch implements Search {
+
+    @Override
+    public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+        if (list instanceof LongKeyList && toFind instanceof Long) {
+            LongKeyList keys = (LongKeyList) list;
+            long key = (Long) toFind;
+
+            int position = lowerBound(keys, key);
+            return position < keys.size() && keys.getLong(position) == key ? position : -1;
+        }
+
+        return new BinarySearch().search(list, toFind);
+    }
+
+    /**
+     * Finds the position of the first key that is not less than the given key.
+     * @param keys Keys to search.
+     * @param key Key to find.
+     * @return Position of the first key greater than or equal to the given key, or the number of keys if there
+     * is no such key.
+     */
+    int lowerBound(LongKeyList keys, long key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.getLong(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Finds the position of the first key that is greater than the given key.
+     * @param keys Keys to search.
+     * @param key Key to find.
+     * @return Position of the first key greater than the given key, or the number of keys if there is no
+     * such key.
+     */
+    int upperBound(LongKeyList keys, long key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.getLong(middle) <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.lillicoder.algorithms.search;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read only {@link java.util.List} of {@code long} keys backed by a memory mapped file of fixed width records.
+ * Each record is {@code recordWidth} bytes long and holds its 8 byte key at {@code keyOffset} bytes from the
+ * start of the record. Nothing is copied onto the heap, so opening a list is instant regardless of file size
+ * and the pages are shared through the operating system's page cache with every other process mapping the file.
+ * <p/>
+ * A single {@link MappedByteBuffer} is limited to 2GB, so files larger than that are mapped as several chunks,
+ * each holding a whole number of records.
+ */
+class MappedLongList extends AbstractList<Long> implements LongKeyList, RandomAccess {
+
+    /**
+     * Largest number of bytes to map in a single chunk.
+     */
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    private final MappedByteBuffer[] chunks;
+    private final int recordsPerChunk;
+    private final int recordWidth;
+    private final int keyOffset;
+    private final int size;
+
+    /**
+     * Maps the given region of the given channel. The channel may be closed once this returns, the mapping
+     * stays valid until this list is garbage collected.
+     * @param channel Channel to map, must be readable.
+     * @param position Position in the channel where the first record starts.
+     * @param length Length of the region in bytes, must be a multiple of the record width.
+     * @param recordWidth Width of each record in bytes.
+     * @param keyOffset Offset of the key within each record in bytes.
+     * @param order Byte order of the keys.
+     * @throws IllegalArgumentException Thrown if the record layout is invalid, the region is not a whole number
+     * of records or holds more than {@link Integer#MAX_VALUE} records.
+     * @throws IOException Thrown if the region could not be mapped.
+     */
+    MappedLongList(FileChannel channel,
+                   long position,
+                   long length,
+                   int recordWidth,
+                   int keyOffset,
+                   ByteOrder order) throws IOException {
+        if (keyOffset < 0 || recordWidth < Long.BYTES || keyOffset > recordWidth - Long.BYTES) {
+            throw new IllegalArgumentException(
+                    "An 8 byte key at offset " + keyOffset + " does not fit in a record of width " + recordWidth);
+        }
+        if (length < 0 || length % recordWidth != 0) {
+            throw new IllegalArgumentException(
+                    "Region length " + length + " is not a multiple of record width " + recordWidth);
+        }
+        if (length / recordWidth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Region holds more than " + Integer.MAX_VALUE + " records");
+        }
+
+        this.recordWidth = recordWidth;
+        this.keyOffset = keyOffset;
+        this.size = (int) (length / recordWidth);
+        this.recordsPerChunk = MAX_CHUNK_BYTES / recordWidth;
+
+        int chunkCount = Math.max(1, (size + recordsPerChunk - 1) / recordsPerChunk);
+        chunks = new MappedByteBuffer[chunkCount];
+        long chunkBytes = (long) recordsPerChunk * recordWidth;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long start = chunk * chunkBytes;
+            long bytes = Math.min(chunkBytes, length - start);
+            chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, bytes);
+            chunks[chunk].order(order);
+        }
+    }
+
+    /**
+     * Maps the whole of the given file of big endian records.
+     * @param path File to map.
+     * @param recordWidth Width of each record in bytes.
+     * @param keyOffset Offset of the key within each record in bytes.
+     * @return List of the keys in the file.
+     * @throws IllegalArgumentException Thrown if the record layout is invalid or the file is not a whole number
+     * of records.
+     * @throws IOException Thrown if the file could not be opened or mapped.
+     */
+    static MappedLongList open(Path path, int recordWidth, int keyOffset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MappedLongList(channel, 0, channel.size(), recordWidth, keyOffset, ByteOrder.BIG_ENDIAN);
+        }
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int chunk = index / recordsPerChunk;
+        int record = index - chunk * recordsPerChunk;
+        return chunks[chunk].getLong(record * recordWidth + keyOffset);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
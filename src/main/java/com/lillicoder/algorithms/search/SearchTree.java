@@ -0,0 +1,468 @@
+package com.lillicoder.algorithms.search;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of a search on a given sorted list using a static, block organized search tree (an S+ tree).
+ * The given list must be sorted in ascending order, otherwise results are undefined.
+ * <p/>
+ * The first search over a list copies it into the leaves of the tree in blocks of {@link #BLOCK_SIZE} keys,
+ * then builds internal levels on top where each node holds {@link #BLOCK_SIZE} separator keys for
+ * {@code BLOCK_SIZE + 1} children. Nodes are addressed implicitly, child {@code i} of node {@code k} is node
+ * {@code k * (BLOCK_SIZE + 1) + i} on the level below, so no child pointers are stored.
+ * <p/>
+ * When every element is an {@link Integer}, {@link Long}, {@link Short} or {@link Byte}, the keys are also copied
+ * into primitive arrays and lookups by such a number compare those instead. A node of sixteen {@code int} keys
+ * fills one 64 byte cache line, or two adjacent lines for {@code long} keys, so a lookup reads
+ * log<sub>17</sub>(n) nodes instead of the log<sub>2</sub>(n) scattered elements a {@link BinarySearch} reads.
+ * For other element types the keys are references, and every key compared is a read of its element, so the tree
+ * only saves the cost of the levels above the leaves.
+ * <p/>
+ * The build copies the list out with {@link List#toArray()} and checks whether every element is an integral
+ * number in one sequential pass each. Everything else, copying into the leaves, building the internal levels
+ * and copying keys into primitive arrays, runs node by node, in parallel on levels of at least
+ * {@link #PARALLEL_THRESHOLD} nodes unless the tree was created sequential. Only the leaves of lists of 65536
+ * elements and more reach that size; the levels above them stay sequential, as together they are at most a
+ * sixteenth of the work.
+ * <p/>
+ * Unlike {@link BinarySearch}, if there are multiple elements that match the given element to find, the first
+ * of them is always found. The tree is tied to the identity of the list it was built from. Searching a
+ * different list rebuilds it; if the indexed list is modified in place, call {@link #rebuild()}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Build time: O(n)</li>
+ *     <li>Best case time: O(log(n))</li>
+ *     <li>Average case time: O(log(n))</li>
+ *     <li>Worst case time: O(log(n))</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+class SearchTree implements Search {
+
+    /**
+     * Number of keys in each node.
+     */
+    static final int BLOCK_SIZE = 16;
+
+    /**
+     * Number of nodes on a level at or above which that level is built in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    private final boolean parallel;
+
+    private List<?> indexed;
+    private int size;
+
+    /**
+     * Levels of the tree, from the leaves at index {@code 0} to the single root node at the last index.
+     * Unused key slots hold {@code null}, which sorts after every element.
+     */
+    private Object[][] levels;
+
+    /**
+     * Keys of {@link #levels} as {@code int}s if every element is an integral number in the {@code int} range,
+     * otherwise {@code null}. Unused key slots hold {@link Integer#MAX_VALUE}, which is never less than a key.
+     */
+    private int[][] intLevels;
+
+    /**
+     * Keys of {@link #levels} as {@code long}s if every element is an integral number but some are out of the
+     * {@code int} range, otherwise {@code null}. Unused key slots hold {@link Long#MAX_VALUE}.
+     */
+    private long[][] longLevels;
+
+    /**
+     * Creates a search tree that builds large levels in parallel.
+     */
+    SearchTree() {
+        this(true);
+    }
+
+    /**
+     * Creates a search tree.
+     * @param parallel {@code true} to build large levels in parallel, {@code false} to always build sequentially.
+     */
+    SearchTree(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+        if (list != indexed) {
+            build(list);
+        }
+
+        int position = lowerBound(toFind);
+        if (position < size && compare(levels[0][position], toFind) == 0) {
+            return position;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the position of the first element that is not less than the given element in the current tree.
+     * @param toFind Element to find.
+     * @param <T> Type of element.
+     * @return Position of the first element greater than or equal to the given element, or the size of the
+     * indexed list if there is no such element.
+     * @throws IllegalStateException Thrown if no list has been indexed.
+     */
+    <T> int lowerBound(T toFind) {
+        checkIndexed();
+
+        if (isIntegral(toFind)) {
+            long key = ((Number) toFind).longValue();
+            if (intLevels != null) {
+                if (key > Integer.MAX_VALUE) {
+                    return size;
+                }
+                return lowerBound(intLevels, (int) Math.max(Integer.MIN_VALUE, key));
+            } else if (longLevels != null) {
+                return lowerBound(longLevels, key);
+            }
+        }
+
+        return descend(toFind, false);
+    }
+
+    /**
+     * Finds the position of the first element that is greater than the given element in the current tree.
+     * @param toFind Element to find.
+     * @param <T> Type of element.
+     * @return Position of the first element greater than the given element, or the size of the indexed list
+     * if there is no such element.
+     * @throws IllegalStateException Thrown if no list has been indexed.
+     */
+    <T> int upperBound(T toFind) {
+        checkIndexed();
+
+        if (isIntegral(toFind)) {
+            // Keys are whole numbers, so the first key greater than this one is the first not less than the next
+            long key = ((Number) toFind).longValue();
+            if (intLevels != null) {
+                if (key >= Integer.MAX_VALUE) {
+                    return size;
+                }
+                return lowerBound(intLevels, (int) Math.max(Integer.MIN_VALUE, key + 1));
+            } else if (longLevels != null) {
+                if (key == Long.MAX_VALUE) {
+                    return size;
+                }
+                return lowerBound(longLevels, key + 1);
+            }
+        }
+
+        return descend(toFind, true);
+    }
+
+    /**
+     * Iterates over the elements of the current tree in the range [{@code from}, {@code to}).
+     * @param from Inclusive lower bound of the range.
+     * @param to Exclusive upper bound of the range.
+     * @param <T> Type of element.
+     * @return Iterator over the elements in the range, in ascending order.
+     * @throws IllegalStateException Thrown if no list has been indexed.
+     */
+    <T> Iterator<T> range(T from, T to) {
+        final int start = lowerBound(from);
+        final int end = Math.max(start, lowerBound(to));
+        final Object[] leaves = levels[0];
+        return new Iterator<T>() {
+
+            private int position = start;
+
+            @Override
+            public boolean hasNext() {
+                return position < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (position >= end) {
+                    throw new NoSuchElementException();
+                }
+
+                return (T) leaves[position++];
+            }
+
+        };
+    }
+
+    /**
+     * Rebuilds the tree for the list most recently searched. Call this after modifying that list in place.
+     * Does nothing if there is no current tree.
+     */
+    void rebuild() {
+        if (indexed != null) {
+            build(indexed);
+        }
+    }
+
+    /**
+     * Builds the tree for the given list, replacing any current tree. The given list must be sorted in
+     * ascending order.
+     * @param list List to index.
+     */
+    void build(List<?> list) {
+        size = list.size();
+
+        int leafNodes = Math.max(1, (size + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        Object[] leaves = new Object[leafNodes * BLOCK_SIZE];
+        Object[] elements = list.toArray();
+        forEachNode(leafNodes, node -> {
+            int offset = node * BLOCK_SIZE;
+            System.arraycopy(elements, offset, leaves, offset, Math.min(BLOCK_SIZE, size - offset));
+        });
+
+        int height = 1;
+        for (int nodes = leafNodes; nodes > 1; nodes = (nodes + BLOCK_SIZE) / (BLOCK_SIZE + 1)) {
+            height++;
+        }
+
+        levels = new Object[height][];
+        levels[0] = leaves;
+
+        // Smallest key under each node of the level most recently built, used as separators one level up
+        Object[] firstKeys = new Object[leafNodes];
+        forEachNode(leafNodes, node -> firstKeys[node] = leaves[node * BLOCK_SIZE]);
+
+        Object[] childFirstKeys = firstKeys;
+        int children = leafNodes;
+        for (int level = 1; level < height; level++) {
+            int nodes = (children + BLOCK_SIZE) / (BLOCK_SIZE + 1);
+            Object[] keys = new Object[nodes * BLOCK_SIZE];
+            Object[] nodeFirstKeys = new Object[nodes];
+
+            final Object[] below = childFirstKeys;
+            final int childCount = children;
+            forEachNode(nodes, node -> {
+                int firstChild = node * (BLOCK_SIZE + 1);
+                nodeFirstKeys[node] = below[firstChild];
+                for (int slot = 0; slot < BLOCK_SIZE; slot++) {
+                    // Separator i is the smallest key under child i + 1, absent children stay null
+                    int child = firstChild + slot + 1;
+                    if (child < childCount) {
+                        keys[node * BLOCK_SIZE + slot] = below[child];
+                    }
+                }
+            });
+
+            levels[level] = keys;
+            childFirstKeys = nodeFirstKeys;
+            children = nodes;
+        }
+
+        intLevels = null;
+        longLevels = null;
+        indexPrimitiveKeys(elements);
+
+        indexed = list;
+    }
+
+    /**
+     * Copies the keys of every level into {@link #intLevels} or {@link #longLevels} if the given elements are all
+     * integral numbers.
+     * @param elements Elements of the indexed list.
+     */
+    private void indexPrimitiveKeys(Object[] elements) {
+        long min = 0;
+        long max = 0;
+        for (Object element : elements) {
+            if (!isIntegral(element)) {
+                return;
+            }
+
+            long value = ((Number) element).longValue();
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        if (min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE) {
+            intLevels = new int[levels.length][];
+            for (int level = 0; level < levels.length; level++) {
+                Object[] keys = levels[level];
+                int[] ints = new int[keys.length];
+                forEachNode(keys.length / BLOCK_SIZE, node -> {
+                    for (int slot = node * BLOCK_SIZE; slot < (node + 1) * BLOCK_SIZE; slot++) {
+                        ints[slot] = keys[slot] == null ? Integer.MAX_VALUE : ((Number) keys[slot]).intValue();
+                    }
+                });
+                intLevels[level] = ints;
+            }
+        } else {
+            longLevels = new long[levels.length][];
+            for (int level = 0; level < levels.length; level++) {
+                Object[] keys = levels[level];
+                long[] longs = new long[keys.length];
+                forEachNode(keys.length / BLOCK_SIZE, node -> {
+                    for (int slot = node * BLOCK_SIZE; slot < (node + 1) * BLOCK_SIZE; slot++) {
+                        longs[slot] = keys[slot] == null ? Long.MAX_VALUE : ((Number) keys[slot]).longValue();
+                    }
+                });
+                longLevels[level] = longs;
+            }
+        }
+    }
+
+    /**
+     * Walks down the levels of element keys to the leaf position the given element bounds.
+     * @param toFind Element to find.
+     * @param inclusive {@code false} to find the first element not less than the given element, {@code true} to
+     *                  find the first element greater than it.
+     * @param <T> Type of element.
+     * @return Position of the bound, or the size of the indexed list if there is no such element.
+     */
+    private <T> int descend(T toFind, boolean inclusive) {
+        // Pick the child after the last separator before the bound
+        int node = 0;
+        for (int level = levels.length - 1; level > 0; level--) {
+            node = node * (BLOCK_SIZE + 1) + countBefore(levels[level], node * BLOCK_SIZE, toFind, inclusive);
+        }
+
+        int position = node * BLOCK_SIZE + countBefore(levels[0], node * BLOCK_SIZE, toFind, inclusive);
+        return Math.min(position, size);
+    }
+
+    /**
+     * Finds the position of the first key that is not less than the given key in primitive levels.
+     * @param keyLevels Levels of {@code int} keys.
+     * @param key Key to find.
+     * @return Position of the first key greater than or equal to the given key, or the size of the indexed list
+     * if there is no such key.
+     */
+    private int lowerBound(int[][] keyLevels, int key) {
+        int node = 0;
+        for (int level = keyLevels.length - 1; level > 0; level--) {
+            node = node * (BLOCK_SIZE + 1) + countLess(keyLevels[level], node * BLOCK_SIZE, key);
+        }
+
+        int position = node * BLOCK_SIZE + countLess(keyLevels[0], node * BLOCK_SIZE, key);
+        return Math.min(position, size);
+    }
+
+    /**
+     * Finds the position of the first key that is not less than the given key in primitive levels.
+     * @param keyLevels Levels of {@code long} keys.
+     * @param key Key to find.
+     * @return Position of the first key greater than or equal to the given key, or the size of the indexed list
+     * if there is no such key.
+     */
+    private int lowerBound(long[][] keyLevels, long key) {
+        int node = 0;
+        for (int level = keyLevels.length - 1; level > 0; level--) {
+            node = node * (BLOCK_SIZE + 1) + countLess(keyLevels[level], node * BLOCK_SIZE, key);
+        }
+
+        int position = node * BLOCK_SIZE + countLess(keyLevels[0], node * BLOCK_SIZE, key);
+        return Math.min(position, size);
+    }
+
+    /**
+     * Runs the given action for every node of a level, in parallel if this tree allows it and the level is large.
+     * @param nodes Number of nodes on the level.
+     * @param action Action to run for each node index.
+     */
+    private void forEachNode(int nodes, IntConsumer action) {
+        IntStream range = IntStream.range(0, nodes);
+        if (parallel && nodes >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+
+        range.forEach(action);
+    }
+
+    /**
+     * Counts the keys in a node that are less than, or not greater than, the given element.
+     * @param keys Keys of the level containing the node.
+     * @param offset Position of the node's first key.
+     * @param toFind Element to compare against.
+     * @param inclusive {@code true} to count keys equal to the element as well.
+     * @param <T> Type of element.
+     * @return Number of keys in the node less than the element, or not greater than it if inclusive.
+     */
+    private static <T> int countBefore(Object[] keys, int offset, T toFind, boolean inclusive) {
+        int count = 0;
+        for (int slot = offset; slot < offset + BLOCK_SIZE; slot++) {
+            Object key = keys[slot];
+            if (key != null && (inclusive ? compare(key, toFind) <= 0 : compare(key, toFind) < 0)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the keys in a node that are less than the given key.
+     * @param keys Keys of the level containing the node.
+     * @param offset Position of the node's first key.
+     * @param key Key to compare against.
+     * @return Number of keys in the node less than the key.
+     */
+    private static int countLess(int[] keys, int offset, int key) {
+        // Scan the whole node without early exit, it is a single cache line and the loop stays branch free
+        int count = 0;
+        for (int slot = offset; slot < offset + BLOCK_SIZE; slot++) {
+            count += keys[slot] < key ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the keys in a node that are less than the given key.
+     * @param keys Keys of the level containing the node.
+     * @param offset Position of the node's first key.
+     * @param key Key to compare against.
+     * @return Number of keys in the node less than the key.
+     */
+    private static int countLess(long[] keys, int offset, long key) {
+        int count = 0;
+        for (int slot = offset; slot < offset + BLOCK_SIZE; slot++) {
+            count += keys[slot] < key ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Determines if the given element is an integral number whose order matches that of its {@code long} value.
+     * @param element Element to check.
+     * @return {@code true} if the element is an {@link Integer}, {@link Long}, {@link Short} or {@link Byte}.
+     */
+    private static boolean isIntegral(Object element) {
+        return element instanceof Integer || element instanceof Long || element instanceof Short
+                || element instanceof Byte;
+    }
+
+    /**
+     * Compares a key from the tree to the given element.
+     * @param key Key from the tree.
+     * @param toFind Element to compare against.
+     * @param <T> Type of element.
+     * @return Result of {@link Comparable#compareTo(Object)} of the key against the element.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(Object key, T toFind) {
+        return ((Comparable<? super T>) key).compareTo(toFind);
+    }
+
+    /**
+     * Verifies that a list has been indexed.
+     * @throws IllegalStateException Thrown if no list has been indexed.
+     */
+    private void checkIndexed() {
+        if (levels == null) {
+            throw new IllegalStateException("No list has been indexed, search a list first");
+        }
+    }
+
+}
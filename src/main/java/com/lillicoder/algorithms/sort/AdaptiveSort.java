@@ -0,0 +1,271 @@
+package com.lillicoder.algorithms.sort;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Performs a sort on a given list for a given {@link Sort.Order} by first sampling the list and then routing it
+ * to whichever sort in this package should handle it best.
+ * <p/>
+ * Planning costs two {@link #isSorted(List, Sort.Order)} scans, which stop at the first out of order pair and
+ * so are cheap on unsorted input, a scan of the element types when a stable sort was asked for, plus a fixed size
+ * sample of the list. From that it decides:
+ * <ul>
+ *     <li>Already sorted lists are returned untouched, and lists sorted in the opposite order are reversed when
+ *     stability allows it.</li>
+ *     <li>Tiny lists go to an {@link InsertionSort}.</li>
+ *     <li>Lists that need a stable sort, or whose sample is mostly duplicates (which degrade the
+ *     {@link Partitioner}), go to a {@link MergeSort}, or to a {@link ParallelMergeSort} from
+ *     {@link #PARALLEL_SIZE} elements up when the common pool has more than one thread.</li>
+ *     <li>Everything else goes to a {@link Quicksort}.</li>
+ * </ul>
+ * Stability only matters when equal elements can be told apart. Boxed primitives, {@link String}s and
+ * {@link BigInteger}s cannot, so lists holding nothing else never need a stable sort.
+ * {@link java.math.BigDecimal}s can, since {@code 1.0} and {@code 1.00} compare equal, so lists of them are
+ * sorted stably. Each decision and its reason is logged at {@link Level#FINE}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(n)</li>
+ *     <li>Average case time: O(n log(n))</li>
+ *     <li>Worst case time: O(n log(n)) for stable or duplicate heavy input, O(n^2) otherwise</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class AdaptiveSort extends Sort {
+
+    /**
+     * Lists up to this size are treated as tiny.
+     */
+    static final int SMALL_SIZE = 16;
+
+    /**
+     * Number of elements sampled to estimate duplicates.
+     */
+    static final int SAMPLE_SIZE = 64;
+
+    /**
+     * Fraction of duplicates in the sample above which a list is treated as duplicate heavy.
+     */
+    static final double DUPLICATE_RATIO = 0.5;
+
+    /**
+     * Lists from this size up are merge sorted in parallel.
+     */
+    static final int PARALLEL_SIZE = 1 << 16;
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveSort.class.getName());
+
+    /**
+     * Element types whose equal values are indistinguishable, so never need a stable sort.
+     */
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.<Class<?>>asList(
+            Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, String.class, BigInteger.class));
+
+    /**
+     * Describes the ways a list can be sorted.
+     */
+    enum Strategy {
+
+        /**
+         * List is already sorted, nothing to do.
+         */
+        ALREADY_SORTED,
+
+        /**
+         * List is sorted in the opposite order, reverse it.
+         */
+        REVERSE,
+
+        /**
+         * Sort with an {@link InsertionSort}.
+         */
+        INSERTION_SORT,
+
+        /**
+         * Sort with a {@link MergeSort}.
+         */
+        MERGE_SORT,
+
+        /**
+         * Sort with a {@link ParallelMergeSort}.
+         */
+        PARALLEL_MERGE_SORT,
+
+        /**
+         * Sort with a {@link Quicksort}.
+         */
+        QUICKSORT
+
+    }
+
+    /**
+     * Decision made for a single list.
+     */
+    static class Plan {
+
+        final Strategy strategy;
+        final String reason;
+
+        Plan(Strategy strategy, String reason) {
+            this.strategy = strategy;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return strategy + " (" + reason + ")";
+        }
+
+    }
+
+    private final boolean stable;
+
+    /**
+     * Creates a sort that keeps equal elements in their original order.
+     */
+    public AdaptiveSort() {
+        this(true);
+    }
+
+    /**
+     * Creates a sort.
+     * @param stable {@code true} if equal elements must keep their original order, {@code false} otherwise.
+     */
+    public AdaptiveSort(boolean stable) {
+        this.stable = stable;
+    }
+
+    @Override
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        Plan plan = plan(list, order);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Sorting " + list.size() + " elements " + order + " with " + plan);
+        }
+
+        switch (plan.strategy) {
+            case ALREADY_SORTED:
+                return list;
+            case REVERSE:
+                Collections.reverse(list);
+                return list;
+            case INSERTION_SORT:
+                return new InsertionSort().sort(list, order);
+            case MERGE_SORT:
+                return new MergeSort().sort(list, order);
+            case PARALLEL_MERGE_SORT:
+                return new ParallelMergeSort().sort(list, order);
+            default:
+                return new Quicksort().sort(list, order);
+        }
+    }
+
+    /**
+     * Samples the given list and decides how to sort it.
+     * @param list List to sort.
+     * @param order Order for the sort.
+     * @param <T> Type of element to sort. The type must support the {@link Comparable} interface.
+     * @return Plan for the list.
+     */
+    <T extends Comparable<? super T>> Plan plan(List<T> list, Sort.Order order) {
+        int size = list.size();
+        if (isSorted(list, order)) {
+            return new Plan(Strategy.ALREADY_SORTED, "input is already in order");
+        }
+
+        boolean needsStability = stable && !isValueType(list);
+        Sort.Order opposite = order == Sort.Order.ASCENDING ? Sort.Order.DESCENDING : Sort.Order.ASCENDING;
+        if (!needsStability && isSorted(list, opposite)) {
+            return new Plan(Strategy.REVERSE, "input is in reverse order");
+        }
+
+        if (needsStability) {
+            return mergeSort(size, "stable sort required");
+        }
+
+        if (size <= SMALL_SIZE) {
+            return new Plan(Strategy.INSERTION_SORT, "size " + size + " <= " + SMALL_SIZE);
+        }
+
+        double duplicates = duplicateRatio(list, order);
+        if (duplicates > DUPLICATE_RATIO) {
+            return mergeSort(size, String.format("sampled duplicate ratio %.2f > %.2f", duplicates, DUPLICATE_RATIO));
+        }
+
+        return new Plan(Strategy.QUICKSORT, String.format("sampled duplicate ratio %.2f", duplicates));
+    }
+
+    /**
+     * Plans a merge sort for a list of the given size, in parallel if the list is large enough and there are
+     * threads to run on.
+     * @param size Size of the list.
+     * @param reason Reason a merge sort was chosen.
+     * @return Plan for the list.
+     */
+    private static Plan mergeSort(int size, String reason) {
+        if (size >= PARALLEL_SIZE && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return new Plan(Strategy.PARALLEL_MERGE_SORT, reason + ", size " + size + " >= " + PARALLEL_SIZE);
+        }
+
+        return new Plan(Strategy.MERGE_SORT, reason);
+    }
+
+    /**
+     * Determines if the elements of the given list are of a type whose equal values are indistinguishable.
+     * Every element is checked, since a single element that can be told apart from its equals makes stability
+     * matter.
+     * @param list List to check.
+     * @return {@code true} if the list is empty or every element is a boxed primitive, string or big integer.
+     */
+    private static boolean isValueType(List<?> list) {
+        Class<?> previous = null;
+        for (Object element : list) {
+            Class<?> type = InstrumentedSort.unwrap(element).getClass();
+            if (type != previous && !VALUE_TYPES.contains(type)) {
+                return false;
+            }
+
+            previous = type;
+        }
+
+        return true;
+    }
+
+    /**
+     * Estimates the fraction of duplicate elements in the given list from an evenly spaced sample.
+     * @param list List to sample.
+     * @param order Order for the sort.
+     * @param <T> Type of element. The type must support the {@link Comparable} interface.
+     * @return Fraction of sampled elements that equal another sampled element.
+     */
+    private static <T extends Comparable<? super T>> double duplicateRatio(List<T> list, Sort.Order order) {
+        int sampleSize = Math.min(SAMPLE_SIZE, list.size());
+        List<T> sample = new ArrayList<>(sampleSize);
+        for (int index = 0; index < sampleSize; index++) {
+            sample.add(list.get((int) ((long) index * list.size() / sampleSize)));
+        }
+
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        sample = new MergeSort().sort(sample, order);
+        int duplicates = 0;
+        for (int index = 1; index < sample.size(); index++) {
+            if (comparator.compare(sample.get(index - 1), sample.get(index)) == 0) {
+                duplicates++;
+            }
+        }
+
+        return sample.isEmpty() ? 0 : (double) duplicates / sample.size();
+    }
+
+}
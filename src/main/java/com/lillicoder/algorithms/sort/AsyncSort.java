@@ -0,0 +1,43 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.JobExecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous front end for an {@link ISort}. Small lists are sorted inline on the calling thread, large lists
+ * are sorted on a {@link JobExecutor} so the calling thread is free while they run.
+ * <p/>
+ * Cancelling a returned future stops a running sort the next time its {@link Partitioner} or {@link Merger}
+ * loop polls for cancellation.
+ */
+public class AsyncSort {
+
+    private final ISort sort;
+    private final JobExecutor executor;
+
+    /**
+     * Creates an asynchronous sort.
+     * @param sort Sort to run.
+     * @param executor Executor to run large sorts on.
+     */
+    public AsyncSort(ISort sort, JobExecutor executor) {
+        this.sort = sort;
+        this.executor = executor;
+    }
+
+    /**
+     * Sorts the given list for the given {@link Sort.Order}. The list must not be modified until the returned
+     * future completes.
+     * @param list List to sort.
+     * @param order Order for the sort.
+     * @param <T> Type of element to sort. The type must support the {@link Comparable} interface.
+     * @return Future sorted list, as returned by the wrapped sort. Fails with a
+     * {@link java.util.concurrent.RejectedExecutionException} if the executor is full.
+     */
+    public <T extends Comparable<? super T>> CompletableFuture<List<T>> sort(List<T> list, Sort.Order order) {
+        return executor.submit(list.size(), () -> sort.sort(list, order));
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Arrays;
+
+/**
+ * Performs a bucket sort on a given array of bounded {@code double}s for a given {@link Sort.Order}.
+ * <p/>
+ * One pass finds the smallest and largest value, then the span between them is cut into as many equal width
+ * buckets as there are values. Values are distributed into their buckets, and each bucket is sorted on its own:
+ * with a {@link SortingNetwork} when it is small, as it is for evenly spread values, or with
+ * {@link Arrays#sort(double[], int, int)} when values bunch up. Evenly spread values are therefore sorted in
+ * linear time.
+ * <p/>
+ * Values are ordered as by {@link Double#compare(double, double)}. Arrays holding {@code NaN} or infinite values
+ * have no bounded span, and arrays whose scratch space would take more than the memory budget are sorted with
+ * {@link Arrays#sort(double[])} instead.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Average case time: O(n) for evenly spread values</li>
+ *     <li>Worst case time: O(n log(n))</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class BucketSort {
+
+    /**
+     * Default number of bytes the scratch space may take.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 1 << 26;
+
+    private final long memoryBudget;
+
+    /**
+     * Creates a sort with the {@link #DEFAULT_MEMORY_BUDGET}.
+     */
+    public BucketSort() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a sort.
+     * @param memoryBudget Largest number of bytes the scratch space may take before falling back to a comparison
+     *                     sort.
+     */
+    public BucketSort(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(double[] array, Sort.Order order) {
+        int size = array.length;
+        if (size < 2) {
+            return;
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        boolean hasNaN = false;
+        for (double value : array) {
+            hasNaN |= Double.isNaN(value);
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+
+        double span = max - min;
+        long scratchBytes = (long) size * (Double.BYTES + 2 * Integer.BYTES);
+        if (hasNaN || Double.isInfinite(span) || scratchBytes > memoryBudget) {
+            Arrays.sort(array);
+            write(array, array, order);
+            return;
+        }
+
+        // Bucket of each value, counted into the first position of each bucket
+        int[] buckets = new int[size];
+        int[] starts = new int[size + 1];
+        double scale = span == 0 ? 0 : (size - 1) / span;
+        for (int index = 0; index < size; index++) {
+            int bucket = Math.min(size - 1, (int) ((array[index] - min) * scale));
+            buckets[index] = bucket;
+            starts[bucket + 1]++;
+        }
+        for (int bucket = 0; bucket < size; bucket++) {
+            starts[bucket + 1] += starts[bucket];
+        }
+
+        double[] scratch = new double[size];
+        int[] next = Arrays.copyOf(starts, size);
+        for (int index = 0; index < size; index++) {
+            scratch[next[buckets[index]]++] = array[index];
+        }
+
+        for (int bucket = 0; bucket < size; bucket++) {
+            int from = starts[bucket];
+            int to = starts[bucket + 1];
+            if (to - from <= SortingNetwork.MAX_SIZE) {
+                SortingNetwork.sort(scratch, from, to, Sort.Order.ASCENDING);
+            } else {
+                Arrays.sort(scratch, from, to);
+            }
+        }
+
+        write(scratch, array, order);
+    }
+
+    /**
+     * Copies ascending values into the given array in the given order.
+     * @param ascending Values in ascending order.
+     * @param array Array to write, may be the same array.
+     * @param order Order to write in.
+     */
+    private static void write(double[] ascending, double[] array, Sort.Order order) {
+        if (order == Sort.Order.ASCENDING) {
+            if (ascending != array) {
+                System.arraycopy(ascending, 0, array, 0, array.length);
+            }
+        } else if (ascending != array) {
+            for (int index = 0; index < array.length; index++) {
+                array[index] = ascending[array.length - 1 - index];
+            }
+        } else {
+            for (int index = 0; index < array.length / 2; index++) {
+                double swap = array[index];
+                array[index] = array[array.length - 1 - index];
+                array[array.length - 1 - index] = swap;
+            }
+        }
+    }
+
+}
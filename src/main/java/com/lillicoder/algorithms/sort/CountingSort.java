@@ -0,0 +1,238 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Performs a stable counting sort on a given list for a given {@link Sort.Order}, using an integer key for each
+ * element rather than comparisons.
+ * <p/>
+ * One pass finds the range of keys, a second counts each key, and a third places every element directly at its
+ * final position. This is linear in the size of the list plus the range of keys, so it beats any comparison sort
+ * when keys live in a small range: status codes, priorities, enum ordinals. Elements are placed in the order they
+ * are met, so equal keys keep their original relative order in both sort orders.
+ * <p/>
+ * Counting needs one counter per possible key. When the range of keys would take more than the memory budget,
+ * or is so much wider than the list that most counters would go unused, the sort falls back to a stable
+ * comparison sort instead.
+ * <p/>
+ * As an {@link ISort}, elements that are {@link Integer}s, {@link Short}s, {@link Byte}s, {@link Character}s or
+ * enum constants are keyed by value or ordinal, which matches their natural order. Other element types are sorted
+ * with a {@link MergeSort}. Lists are sorted in place.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Time: O(n + k) for a range of k keys</li>
+ *     <li>Worst case space: O(n + k)</li>
+ *     <li>Fallback time: O(n log(n))</li>
+ * </ul>
+ */
+public class CountingSort extends Sort {
+
+    /**
+     * Default number of bytes the counters may take.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 1 << 22;
+
+    /**
+     * Ranges up to this many times the size of the list, or up to {@link #MIN_RANGE}, are counted.
+     */
+    static final int RANGE_FACTOR = 8;
+
+    /**
+     * Ranges up to this size are always counted, however short the list.
+     */
+    static final int MIN_RANGE = 256;
+
+    private final long memoryBudget;
+
+    /**
+     * Creates a sort with the {@link #DEFAULT_MEMORY_BUDGET}.
+     */
+    public CountingSort() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a sort.
+     * @param memoryBudget Largest number of bytes the counters may take before falling back to a comparison sort.
+     */
+    public CountingSort(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        ToIntFunction<Object> key = naturalKey(list);
+        if (key == null) {
+            return new MergeSort().sort(list, order);
+        }
+
+        return sort(list, key, order);
+    }
+
+    /**
+     * Sorts the given list in place by the given key.
+     * @param list List to sort.
+     * @param key Function that gives the key of each element.
+     * @param order Order for the sort.
+     * @param <T> Type of element to sort.
+     * @return Given list, sorted.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> list, ToIntFunction<? super T> key, Sort.Order order) {
+        int size = list.size();
+        if (size < 2) {
+            return list;
+        }
+
+        int[] keys = new int[size];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int index = 0;
+        for (T element : list) {
+            int value = key.applyAsInt(element);
+            keys[index++] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        long range = (long) max - min + 1;
+        if (!isCountable(range, size)) {
+            Comparator<T> comparator = Comparator.comparingInt(key);
+            list.sort(order == Sort.Order.ASCENDING ? comparator : comparator.reversed());
+            return list;
+        }
+
+        int[] positions = startPositions(keys, min, (int) range, order);
+        Object[] output = new Object[size];
+        index = 0;
+        for (T element : list) {
+            output[positions[keys[index++] - min]++] = element;
+        }
+
+        ListIterator<T> iterator = list.listIterator();
+        for (Object element : output) {
+            iterator.next();
+            iterator.set((T) element);
+        }
+
+        return list;
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(int[] array, Sort.Order order) {
+        if (array.length < 2) {
+            return;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        long range = (long) max - min + 1;
+        if (!isCountable(range, array.length)) {
+            Arrays.sort(array);
+            if (order == Sort.Order.DESCENDING) {
+                reverse(array);
+            }
+            return;
+        }
+
+        int[] counts = new int[(int) range];
+        for (int value : array) {
+            counts[value - min]++;
+        }
+
+        int position = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            int offset = order == Sort.Order.ASCENDING ? bucket : counts.length - 1 - bucket;
+            Arrays.fill(array, position, position + counts[offset], min + offset);
+            position += counts[offset];
+        }
+    }
+
+    /**
+     * Determines if a range of keys should be counted.
+     * @param range Number of possible keys.
+     * @param size Number of elements.
+     * @return {@code true} if the range fits the memory budget and is not far wider than the list.
+     */
+    private boolean isCountable(long range, int size) {
+        return range * Integer.BYTES <= memoryBudget && range <= Math.max(MIN_RANGE, (long) size * RANGE_FACTOR);
+    }
+
+    /**
+     * Counts the given keys and turns the counts into the first output position of each key.
+     * @param keys Key of each element.
+     * @param min Smallest key.
+     * @param range Number of possible keys.
+     * @param order Order for the sort.
+     * @return First output position of each key, indexed by key less {@code min}.
+     */
+    private static int[] startPositions(int[] keys, int min, int range, Sort.Order order) {
+        int[] positions = new int[range];
+        for (int key : keys) {
+            positions[key - min]++;
+        }
+
+        int total = 0;
+        for (int bucket = 0; bucket < range; bucket++) {
+            int offset = order == Sort.Order.ASCENDING ? bucket : range - 1 - bucket;
+            int count = positions[offset];
+            positions[offset] = total;
+            total += count;
+        }
+
+        return positions;
+    }
+
+    /**
+     * Finds a key matching the natural order of the elements of the given list. Elements wrapped by an
+     * {@link InstrumentedSort} are keyed by the element they wrap.
+     * @param list List to key.
+     * @return Key function, or {@code null} if the elements have no integer key.
+     */
+    private static ToIntFunction<Object> naturalKey(List<?> list) {
+        if (list.isEmpty()) {
+            return null;
+        }
+
+        Object first = list.get(0);
+        Object unwrapped = InstrumentedSort.unwrap(first);
+        ToIntFunction<Object> key = valueKey(unwrapped);
+        if (key == null || unwrapped == first) {
+            return key;
+        }
+
+        return element -> key.applyAsInt(InstrumentedSort.unwrap(element));
+    }
+
+    /**
+     * Finds a key matching the natural order of values of the same type as the given one.
+     * @param value Value to key.
+     * @return Key function, or {@code null} if the value has no integer key.
+     */
+    private static ToIntFunction<Object> valueKey(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return element -> ((Number) element).intValue();
+        } else if (value instanceof Character) {
+            return element -> (Character) element;
+        } else if (value instanceof Enum) {
+            return element -> ((Enum<?>) element).ordinal();
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,367 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Priority queue of elements kept as an implicit d-ary heap in a single array, ordered by a given
+ * {@link Comparator}. The top of the heap is the element that comes first by the comparator.
+ * <p/>
+ * This is the reference counterpart of {@link IntDaryHeap}: node {@code i} has children {@code d * i + 1} to
+ * {@code d * i + d}, nothing is allocated except to grow the array once it is full, and
+ * {@link #update(int, Object)} covers decrease-key and increase-key for a position of {@link #get(int)}. Positions
+ * are only valid until the next change to the heap; {@link #add(Object)} returns the position an element lands at
+ * and a {@link PositionListener} is told every position an element moves to, as for {@link IntDaryHeap}. Equal
+ * elements come off the heap in no particular order. Not thread safe.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Heapify time: O(n)</li>
+ *     <li>Add time: O(log<sub>d</sub>(n)), amortized over growth</li>
+ *     <li>Poll and replace top time: O(d log<sub>d</sub>(n))</li>
+ *     <li>Peek time: O(1)</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ * @param <T> Type of element.
+ */
+public final class DaryHeap<T> {
+
+    /**
+     * Receives the positions elements move to within the heap.
+     * @param <T> Type of element.
+     */
+    public interface PositionListener<T> {
+
+        /**
+         * Called whenever an element is placed at a position of the heap, and with position {@code -1} when it
+         * leaves the heap.
+         * @param element Element that moved.
+         * @param position New position of the element, or {@code -1} if it was removed.
+         */
+        void moved(T element, int position);
+
+    }
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+
+    private Object[] heap;
+    private int size;
+    private PositionListener<? super T> listener;
+
+    /**
+     * Creates an empty heap with the {@link IntDaryHeap#DEFAULT_ARITY}.
+     * @param comparator Comparator whose first element is kept on top.
+     */
+    public DaryHeap(Comparator<? super T> comparator) {
+        this(IntDaryHeap.DEFAULT_ARITY, comparator, IntDaryHeap.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty heap.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param capacity Number of elements the heap holds before it grows.
+     * @throws IllegalArgumentException Thrown if the arity is less than {@code 2} or the capacity is negative.
+     */
+    public DaryHeap(int arity, Comparator<? super T> comparator, int capacity) {
+        this(arity, comparator, new Object[IntDaryHeap.checkCapacity(capacity)], 0);
+    }
+
+    private DaryHeap(int arity, Comparator<? super T> comparator, Object[] heap, int size) {
+        this.arity = IntDaryHeap.checkArity(arity);
+        this.comparator = comparator;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    /**
+     * Creates a heap over the first elements of the given array in linear time. The heap takes the array over
+     * rather than copying it, so the caller must not use it afterwards.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param elements Array whose first {@code size} elements to heapify.
+     * @param size Number of elements to heapify.
+     * @param <T> Type of element.
+     * @return Heap of the given elements.
+     * @throws IllegalArgumentException Thrown if the arity is less than {@code 2} or the size is out of bounds.
+     */
+    public static <T> DaryHeap<T> heapify(int arity, Comparator<? super T> comparator, T[] elements, int size) {
+        if (size < 0 || size > elements.length) {
+            throw new IllegalArgumentException("Invalid size " + size + " for " + elements.length + " elements");
+        }
+
+        DaryHeap<T> heap = new DaryHeap<>(arity, comparator, elements, size);
+        heapify(elements, size, heap.arity, comparator);
+        return heap;
+    }
+
+    /**
+     * Gets the number of elements in the heap.
+     * @return Size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the heap is empty.
+     * @return {@code true} if the heap holds no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sets the listener told of every position an element moves to, and tells it the current position of every
+     * element in the heap.
+     * @param listener Listener to set, or {@code null} for none.
+     */
+    @SuppressWarnings("unchecked")
+    public void setPositionListener(PositionListener<? super T> listener) {
+        this.listener = listener;
+        if (listener != null) {
+            for (int position = 0; position < size; position++) {
+                listener.moved((T) heap[position], position);
+            }
+        }
+    }
+
+    /**
+     * Adds the given element.
+     * @param element Element to add.
+     * @return Position the element was placed at.
+     */
+    public int add(T element) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(IntDaryHeap.DEFAULT_CAPACITY, heap.length * 2));
+        }
+
+        return siftUp(heap, size++, element, arity, comparator, listener);
+    }
+
+    /**
+     * Gets the top element without removing it.
+     * @return Top element.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) heap[0];
+    }
+
+    /**
+     * Removes the top element.
+     * @return Top element.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    public T poll() {
+        T top = peek();
+        size--;
+        Object last = heap[size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(heap, 0, last, size, arity, comparator, listener);
+        }
+        if (listener != null) {
+            listener.moved(top, -1);
+        }
+
+        return top;
+    }
+
+    /**
+     * Removes the top element and adds the given element in a single sift, as when keeping the k best elements
+     * seen.
+     * @param element Element to add.
+     * @return Previous top element.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    public T replaceTop(T element) {
+        T top = peek();
+        siftDown(heap, 0, element, size, arity, comparator, listener);
+        if (listener != null) {
+            listener.moved(top, -1);
+        }
+
+        return top;
+    }
+
+    /**
+     * Gets the element at the given position of the heap.
+     * @param position Position, from {@code 0} for the top to {@code size() - 1}.
+     * @return Element at the position.
+     * @throws IndexOutOfBoundsException Thrown if the position is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        IntDaryHeap.checkPosition(position, size);
+        return (T) heap[position];
+    }
+
+    /**
+     * Replaces the element at the given position of the heap and restores heap order.
+     * @param position Position, from {@code 0} for the top to {@code size() - 1}.
+     * @param element New element.
+     * @return Position the element was placed at.
+     * @throws IndexOutOfBoundsException Thrown if the position is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public int update(int position, T element) {
+        IntDaryHeap.checkPosition(position, size);
+        if (comparator.compare(element, (T) heap[position]) < 0) {
+            return siftUp(heap, position, element, arity, comparator, listener);
+        }
+
+        return siftDown(heap, position, element, size, arity, comparator, listener);
+    }
+
+    /**
+     * Removes every element. The array is kept for reuse.
+     */
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        if (listener != null) {
+            for (int position = 0; position < size; position++) {
+                listener.moved((T) heap[position], -1);
+            }
+        }
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Arranges the first elements of the given array into a heap, bottom up.
+     * @param heap Array to arrange.
+     * @param size Number of elements to arrange.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param <T> Type of element.
+     */
+    static <T> void heapify(Object[] heap, int size, int arity, Comparator<? super T> comparator) {
+        if (size < 2) {
+            return;
+        }
+
+        for (int position = (size - 2) / arity; position >= 0; position--) {
+            siftDown(heap, position, heap[position], size, arity, comparator);
+        }
+    }
+
+    /**
+     * Places the given element at the given position, moving it down past any child that comes before it.
+     * @param heap Heap array.
+     * @param position Position to place the element at.
+     * @param element Element to place.
+     * @param size Number of elements in the heap.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param <T> Type of element.
+     */
+    static <T> void siftDown(Object[] heap, int position, Object element, int size, int arity,
+                             Comparator<? super T> comparator) {
+        siftDown(heap, position, element, size, arity, comparator, null);
+    }
+
+    /**
+     * Places the given element at the given position like
+     * {@link #siftDown(Object[], int, Object, int, int, Comparator)}, telling the given listener of every element
+     * moved.
+     * @param heap Heap array.
+     * @param position Position to place the element at.
+     * @param element Element to place.
+     * @param size Number of elements in the heap.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param listener Listener to tell, or {@code null} for none.
+     * @param <T> Type of element.
+     * @return Position the element was placed at.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int siftDown(Object[] heap, int position, Object element, int size, int arity,
+                                    Comparator<? super T> comparator, PositionListener<? super T> listener) {
+        int lastParent = (size - 2) / arity;
+        while (size > 1 && position <= lastParent) {
+            int first = position * arity + 1;
+            int end = Math.min(first + arity, size);
+            int best = first;
+            for (int child = first + 1; child < end; child++) {
+                if (comparator.compare((T) heap[child], (T) heap[best]) < 0) {
+                    best = child;
+                }
+            }
+
+            if (comparator.compare((T) heap[best], (T) element) >= 0) {
+                break;
+            }
+
+            heap[position] = heap[best];
+            if (listener != null) {
+                listener.moved((T) heap[position], position);
+            }
+            position = best;
+        }
+
+        heap[position] = element;
+        if (listener != null) {
+            listener.moved((T) element, position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Places the given element at the given position, moving it up past any parent it comes before.
+     * @param heap Heap array.
+     * @param position Position to place the element at.
+     * @param element Element to place.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param <T> Type of element.
+     */
+    static <T> void siftUp(Object[] heap, int position, Object element, int arity, Comparator<? super T> comparator) {
+        siftUp(heap, position, element, arity, comparator, null);
+    }
+
+    /**
+     * Places the given element at the given position like {@link #siftUp(Object[], int, Object, int, Comparator)},
+     * telling the given listener of every element moved.
+     * @param heap Heap array.
+     * @param position Position to place the element at.
+     * @param element Element to place.
+     * @param arity Number of children of each node.
+     * @param comparator Comparator whose first element is kept on top.
+     * @param listener Listener to tell, or {@code null} for none.
+     * @param <T> Type of element.
+     * @return Position the element was placed at.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int siftUp(Object[] heap, int position, Object element, int arity,
+                                  Comparator<? super T> comparator, PositionListener<? super T> listener) {
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (comparator.compare((T) element, (T) heap[parent]) >= 0) {
+                break;
+            }
+
+            heap[position] = heap[parent];
+            if (listener != null) {
+                listener.moved((T) heap[position], position);
+            }
+            position = parent;
+        }
+
+        heap[position] = element;
+        if (listener != null) {
+            listener.moved((T) element, position);
+        }
+
+        return position;
+    }
+
+}
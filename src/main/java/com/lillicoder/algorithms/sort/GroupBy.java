@@ -0,0 +1,493 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Groups records by key by sorting them, then reducing each run of equal keys into one result.
+ * <p/>
+ * Records are paired with their keys and sorted with a stable {@link MergeSort} in the given
+ * {@link Sort.Order}, so equal keys end up next to each other and in their original order. A single pass then
+ * feeds each run to a {@link Collector}, which may be anything from
+ * {@link java.util.stream.Collectors#counting()} to a custom reducer; {@link #summarize(List, Function,
+ * ToLongFunction, Sort.Order)} gives the count, sum, min and max of a value per key. Groups come out sorted by
+ * key.
+ * <p/>
+ * Beyond that there are three modes:
+ * <ul>
+ *     <li>A fast path for {@code long} keys and values that radix sorts them as a pair of primitive arrays,
+ *     see {@link #aggregate(long[], long[], Sort.Order)}.</li>
+ *     <li>A parallel mode, chosen by creating a group by with a {@link ForkJoinPool}, that groups chunks of the
+ *     records on their own and merges the partial groups of neighbouring chunks with the collector's
+ *     combiner.</li>
+ *     <li>A streaming mode, see {@link #aggregateSorted(List, Function, Collector, Sort.Order)}, that groups a
+ *     k-way merge of already sorted inputs without holding them in memory.</li>
+ * </ul>
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Time: O(n log(n)) to sort plus O(n) to reduce</li>
+ *     <li>Streaming time: O(n log(k)) for k inputs</li>
+ *     <li>Worst case space: O(n), O(k) when streaming</li>
+ * </ul>
+ */
+public class GroupBy {
+
+    /**
+     * Smallest number of records worth grouping as a chunk of its own in parallel mode.
+     */
+    static final int MIN_CHUNK_SIZE = 1 << 13;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a group by that runs on the calling thread.
+     */
+    public GroupBy() {
+        this(null);
+    }
+
+    /**
+     * Creates a group by that splits large inputs across the given pool.
+     * @param pool Pool to group chunks on, or {@code null} to run on the calling thread.
+     */
+    public GroupBy(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Result of reducing every record with one key.
+     * @param <K> Type of key.
+     * @param <R> Type of result.
+     */
+    public static final class Group<K, R> {
+
+        private final K key;
+        private final R result;
+
+        Group(K key, R result) {
+            this.key = key;
+            this.result = result;
+        }
+
+        /**
+         * Gets the key shared by every record in this group.
+         * @return Key.
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the reduction of every record in this group.
+         * @return Result.
+         */
+        public R getResult() {
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + result;
+        }
+
+    }
+
+    /**
+     * Groups the given records by key and gets the count, sum, min and max of a value for each key.
+     * @param records Records to group.
+     * @param key Function that gives the key of each record.
+     * @param value Function that gives the value of each record.
+     * @param order Order of the groups by key.
+     * @param <T> Type of record.
+     * @param <K> Type of key. The type must support the {@link Comparable} interface.
+     * @return Statistics for each key, sorted by key.
+     */
+    public <T, K extends Comparable<? super K>> List<Group<K, LongSummaryStatistics>> summarize(
+            List<T> records,
+            Function<? super T, ? extends K> key,
+            ToLongFunction<? super T> value,
+            Sort.Order order) {
+        Collector<T, LongSummaryStatistics, LongSummaryStatistics> statistics = Collector.of(
+                LongSummaryStatistics::new,
+                (summary, record) -> summary.accept(value.applyAsLong(record)),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                });
+
+        return aggregate(records, key, statistics, order);
+    }
+
+    /**
+     * Groups the given records by key and reduces each group with the given collector. Records reach the
+     * collector in their original order.
+     * @param records Records to group.
+     * @param key Function that gives the key of each record.
+     * @param reducer Collector to reduce each group with.
+     * @param order Order of the groups by key.
+     * @param <T> Type of record.
+     * @param <K> Type of key. The type must support the {@link Comparable} interface.
+     * @param <A> Intermediate type of the collector.
+     * @param <R> Type of result.
+     * @return Result for each key, sorted by key.
+     */
+    public <T, K extends Comparable<? super K>, A, R> List<Group<K, R>> aggregate(
+            List<T> records,
+            Function<? super T, ? extends K> key,
+            Collector<? super T, A, R> reducer,
+            Sort.Order order) {
+        List<Group<K, A>> partials;
+        int chunks = pool == null ? 1 : Math.min(pool.getParallelism(), records.size() / MIN_CHUNK_SIZE);
+        if (chunks < 2) {
+            partials = group(records, key, reducer, order);
+        } else {
+            ChunkTask<T, K, A> task = new ChunkTask<>(records, key, reducer, order, chunks);
+            partials = ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool
+                    ? task.invoke()
+                    : pool.invoke(task);
+        }
+
+        List<Group<K, R>> groups = new ArrayList<>(partials.size());
+        for (Group<K, A> partial : partials) {
+            groups.add(new Group<>(partial.key, reducer.finisher().apply(partial.result)));
+        }
+
+        return groups;
+    }
+
+    /**
+     * Groups records drawn from the given inputs, each already sorted by key in the given order, and reduces each
+     * group with the given collector. Inputs are merged k ways and grouped lazily, one group per call to the
+     * returned iterator's {@code next()}. Records with equal keys reach the collector input by input, in the order
+     * the inputs are given.
+     * @param inputs Inputs sorted by key.
+     * @param key Function that gives the key of each record.
+     * @param reducer Collector to reduce each group with.
+     * @param order Order the inputs are sorted in.
+     * @param <T> Type of record.
+     * @param <K> Type of key. The type must support the {@link Comparable} interface.
+     * @param <A> Intermediate type of the collector.
+     * @param <R> Type of result.
+     * @return Iterator over the result for each key, sorted by key. Its {@code next()} throws
+     * {@link IllegalStateException} if an input turns out not to be sorted.
+     */
+    public <T, K extends Comparable<? super K>, A, R> Iterator<Group<K, R>> aggregateSorted(
+            List<? extends Iterator<? extends T>> inputs,
+            Function<? super T, ? extends K> key,
+            Collector<? super T, A, R> reducer,
+            Sort.Order order) {
+        return new StreamingIterator<>(inputs, key, reducer, order);
+    }
+
+    /**
+     * Groups the given {@code long} keys and gets the count, sum, min and max of the value paired with each. Copies
+     * of both arrays are sorted together on the heap with a {@link LongRadixSort}, so no object is created per record.
+     * @param keys Key of each record.
+     * @param values Value of each record.
+     * @param order Order of the groups by key.
+     * @return Statistics for each key, sorted by key.
+     * @throws IllegalArgumentException Thrown if there are not as many values as keys.
+     */
+    public LongAggregates aggregate(long[] keys, long[] values, Sort.Order order) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException(keys.length + " keys but " + values.length + " values");
+        }
+
+        long[] sortedKeys = keys.clone();
+        long[] sortedValues = values.clone();
+        new LongRadixSort().sort(sortedKeys, sortedValues, order);
+
+        int groups = 0;
+        for (int index = 0; index < sortedKeys.length; index++) {
+            if (index == 0 || sortedKeys[index] != sortedKeys[index - 1]) {
+                groups++;
+            }
+        }
+
+        long[] groupKeys = new long[groups];
+        long[] counts = new long[groups];
+        long[] sums = new long[groups];
+        long[] mins = new long[groups];
+        long[] maxes = new long[groups];
+        int group = -1;
+        for (int index = 0; index < sortedKeys.length; index++) {
+            long key = sortedKeys[index];
+            long value = sortedValues[index];
+            if (index == 0 || sortedKeys[index - 1] != key) {
+                group++;
+                groupKeys[group] = key;
+                mins[group] = value;
+                maxes[group] = value;
+            }
+
+            counts[group]++;
+            sums[group] += value;
+            mins[group] = Math.min(mins[group], value);
+            maxes[group] = Math.max(maxes[group], value);
+        }
+
+        return new LongAggregates(groupKeys, counts, sums, mins, maxes);
+    }
+
+    /**
+     * Sorts the given records by key and accumulates each run of equal keys, without finishing them.
+     * @param records Records to group.
+     * @param key Function that gives the key of each record.
+     * @param reducer Collector to accumulate each group with.
+     * @param order Order of the groups by key.
+     * @return Accumulated container for each key, sorted by key.
+     */
+    private static <T, K extends Comparable<? super K>, A> List<Group<K, A>> group(
+            List<T> records,
+            Function<? super T, ? extends K> key,
+            Collector<? super T, A, ?> reducer,
+            Sort.Order order) {
+        List<Keyed<K, T>> keyed = new ArrayList<>(records.size());
+        for (T record : records) {
+            keyed.add(new Keyed<>(key.apply(record), record));
+        }
+        keyed = new MergeSort().sort(keyed, order);
+
+        BiConsumer<A, ? super T> accumulator = reducer.accumulator();
+        List<Group<K, A>> groups = new ArrayList<>();
+        A container = null;
+        K current = null;
+        for (Keyed<K, T> entry : keyed) {
+            if (container == null || entry.key.compareTo(current) != 0) {
+                if (container != null) {
+                    groups.add(new Group<>(current, container));
+                }
+                current = entry.key;
+                container = reducer.supplier().get();
+            }
+            accumulate(accumulator, container, entry.record);
+        }
+        if (container != null) {
+            groups.add(new Group<>(current, container));
+        }
+
+        return groups;
+    }
+
+    /**
+     * Merges two lists of partial groups sorted by key, combining the containers of keys found in both.
+     * @param left Partial groups of the earlier records.
+     * @param right Partial groups of the later records.
+     * @param reducer Collector whose combiner joins containers.
+     * @param order Order of the groups by key.
+     * @return Merged partial groups.
+     */
+    private static <K extends Comparable<? super K>, A> List<Group<K, A>> combine(List<Group<K, A>> left,
+                                                                               List<Group<K, A>> right,
+                                                                               Collector<?, A, ?> reducer,
+                                                                               Sort.Order order) {
+        Comparator<K> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        List<Group<K, A>> merged = new ArrayList<>(left.size() + right.size());
+        int leftPosition = 0;
+        int rightPosition = 0;
+        while (leftPosition < left.size() || rightPosition < right.size()) {
+            if (rightPosition >= right.size()) {
+                merged.add(left.get(leftPosition++));
+            } else if (leftPosition >= left.size()) {
+                merged.add(right.get(rightPosition++));
+            } else {
+                Group<K, A> leftGroup = left.get(leftPosition);
+                Group<K, A> rightGroup = right.get(rightPosition);
+                int comparison = comparator.compare(leftGroup.key, rightGroup.key);
+                if (comparison < 0) {
+                    merged.add(leftGroup);
+                    leftPosition++;
+                } else if (comparison > 0) {
+                    merged.add(rightGroup);
+                    rightPosition++;
+                } else {
+                    // Same key on both sides, earlier records stay first
+                    A container = reducer.combiner().apply(leftGroup.result, rightGroup.result);
+                    merged.add(new Group<>(leftGroup.key, container));
+                    leftPosition++;
+                    rightPosition++;
+                }
+            }
+        }
+
+        return merged;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, T> void accumulate(BiConsumer<A, ? super T> accumulator, A container, T record) {
+        ((BiConsumer<A, T>) accumulator).accept(container, record);
+    }
+
+    /**
+     * Record paired with its key, compared by key only.
+     */
+    private static class Keyed<K extends Comparable<? super K>, T> implements Comparable<Keyed<K, T>> {
+
+        private final K key;
+        private final T record;
+
+        Keyed(K key, T record) {
+            this.key = key;
+            this.record = record;
+        }
+
+        @Override
+        public int compareTo(Keyed<K, T> other) {
+            return key.compareTo(other.key);
+        }
+
+    }
+
+    /**
+     * Groups a range of records, splitting it in two until there are as many chunks as requested.
+     */
+    private static class ChunkTask<T, K extends Comparable<? super K>, A> extends RecursiveTask<List<Group<K, A>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> records;
+        private final Function<? super T, ? extends K> key;
+        private final Collector<? super T, A, ?> reducer;
+        private final Sort.Order order;
+        private final int chunks;
+
+        ChunkTask(List<T> records,
+                  Function<? super T, ? extends K> key,
+                  Collector<? super T, A, ?> reducer,
+                  Sort.Order order,
+                  int chunks) {
+            this.records = records;
+            this.key = key;
+            this.reducer = reducer;
+            this.order = order;
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected List<Group<K, A>> compute() {
+            if (chunks < 2) {
+                return group(records, key, reducer, order);
+            }
+
+            int leftChunks = chunks / 2;
+            int middle = (int) ((long) records.size() * leftChunks / chunks);
+            ChunkTask<T, K, A> left = new ChunkTask<>(records.subList(0, middle), key, reducer, order, leftChunks);
+            ChunkTask<T, K, A> right = new ChunkTask<>(records.subList(middle, records.size()),
+                                                       key,
+                                                       reducer,
+                                                       order,
+                                                       chunks - leftChunks);
+            left.fork();
+            List<Group<K, A>> rightGroups = right.compute();
+
+            return combine(left.join(), rightGroups, reducer, order);
+        }
+
+    }
+
+    /**
+     * Lazily groups a k-way merge of sorted inputs.
+     */
+    private static class StreamingIterator<T, K extends Comparable<? super K>, A, R>
+            implements Iterator<Group<K, R>> {
+
+        private final List<? extends Iterator<? extends T>> inputs;
+        private final Function<? super T, ? extends K> key;
+        private final Collector<? super T, A, R> reducer;
+        private final Comparator<K> comparator;
+        private final PriorityQueue<Head<K, T>> heads;
+
+        StreamingIterator(List<? extends Iterator<? extends T>> inputs,
+                          Function<? super T, ? extends K> key,
+                          Collector<? super T, A, R> reducer,
+                          Sort.Order order) {
+            this.inputs = inputs;
+            this.key = key;
+            this.reducer = reducer;
+            this.comparator =
+                    order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+
+            // Ties go to the earlier input so equal keys are reduced input by input
+            Comparator<Head<K, T>> byKey = (first, second) -> comparator.compare(first.key, second.key);
+            this.heads = new PriorityQueue<>(Math.max(1, inputs.size()),
+                                             byKey.thenComparingInt(head -> head.input));
+            for (int input = 0; input < inputs.size(); input++) {
+                advance(input, null);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Group<K, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            BiConsumer<A, ? super T> accumulator = reducer.accumulator();
+            A container = reducer.supplier().get();
+            K current = heads.peek().key;
+            while (!heads.isEmpty() && comparator.compare(heads.peek().key, current) == 0) {
+                Head<K, T> head = heads.poll();
+                accumulate(accumulator, container, head.record);
+                advance(head.input, head.key);
+            }
+
+            return new Group<>(current, reducer.finisher().apply(container));
+        }
+
+        /**
+         * Queues the next record of the given input, if it has one.
+         * @param input Position of the input.
+         * @param previous Key of the input's previous record, or {@code null} if there was none.
+         */
+        private void advance(int input, K previous) {
+            Iterator<? extends T> iterator = inputs.get(input);
+            if (iterator.hasNext()) {
+                T record = iterator.next();
+                K next = key.apply(record);
+                if (previous != null && comparator.compare(next, previous) < 0) {
+                    throw new IllegalStateException("Input " + input + " is not sorted, " + next + " follows "
+                                                            + previous);
+                }
+                heads.add(new Head<>(next, record, input));
+            }
+        }
+
+    }
+
+    /**
+     * Next record of one input in a k-way merge.
+     */
+    private static class Head<K, T> {
+
+        private final K key;
+        private final T record;
+        private final int input;
+
+        Head(K key, T record, int input) {
+            this.key = key;
+            this.record = record;
+            this.input = input;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Performs a heapsort on a given list for a given {@link Sort.Order}.
+ * <p/>
+ * The elements are arranged into a d-ary heap whose top is the element that comes last in the order, using the
+ * same sifts as {@link DaryHeap}. The top is then repeatedly swapped to the end of the shrinking heap and the heap
+ * order restored, which leaves the elements sorted. A heap of arity {@link IntDaryHeap#DEFAULT_ARITY} is
+ * shallower than a binary heap and scans each node's children in a row, which costs fewer cache misses on large
+ * inputs. Unlike {@link Quicksort}, the worst case stays O(n log(n)) whatever the input, and no stack or scratch
+ * space is needed beyond a copy of the list. Equal elements may change their relative order. Lists are sorted in
+ * place.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(n log(n))</li>
+ *     <li>Average case time: O(n log(n))</li>
+ *     <li>Worst case time: O(n log(n))</li>
+ *     <li>Worst case space: O(n) for lists, O(1) for arrays</li>
+ * </ul>
+ */
+public class HeapSort extends Sort {
+
+    private final int arity;
+
+    /**
+     * Creates a sort with heaps of the {@link IntDaryHeap#DEFAULT_ARITY}.
+     */
+    public HeapSort() {
+        this(IntDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates a sort.
+     * @param arity Number of children of each heap node.
+     * @throws IllegalArgumentException Thrown if the arity is less than {@code 2}.
+     */
+    public HeapSort(int arity) {
+        this.arity = IntDaryHeap.checkArity(arity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        if (list.size() < 2) {
+            return list;
+        }
+
+        Object[] array = list.toArray();
+        heapSort(array, order == Sort.Order.ASCENDING ? new AscendingComparator<T>() : new DescendingComparator<T>());
+
+        ListIterator<T> iterator = list.listIterator();
+        for (Object element : array) {
+            iterator.next();
+            iterator.set((T) element);
+        }
+
+        return list;
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param comparator Comparator to sort by.
+     * @param <T> Type of element.
+     */
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        heapSort(array, comparator);
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(int[] array, Sort.Order order) {
+        // Keep the value that sorts last on top, so it can be swapped to the end
+        boolean ascending = order != Sort.Order.ASCENDING;
+        IntDaryHeap.heapify(array, array.length, arity, ascending);
+        for (int end = array.length - 1; end > 0; end--) {
+            int value = array[end];
+            array[end] = array[0];
+            IntDaryHeap.siftDown(array, 0, value, end, arity, ascending);
+        }
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(long[] array, Sort.Order order) {
+        boolean ascending = order != Sort.Order.ASCENDING;
+        LongDaryHeap.heapify(array, array.length, arity, ascending);
+        for (int end = array.length - 1; end > 0; end--) {
+            long value = array[end];
+            array[end] = array[0];
+            LongDaryHeap.siftDown(array, 0, value, end, arity, ascending);
+        }
+    }
+
+    private <T> void heapSort(Object[] array, Comparator<? super T> comparator) {
+        Comparator<? super T> reversed = comparator.reversed();
+        DaryHeap.heapify(array, array.length, arity, reversed);
+        for (int end = array.length - 1; end > 0; end--) {
+            Object element = array[end];
+            array[end] = array[0];
+            DaryHeap.siftDown(array, 0, element, end, arity, reversed);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Performs a stable, in place merge sort on a given list for a given {@link Sort.Order}.
+ * <p/>
+ * Unlike {@link MergeSort}, which allocates a new list at every level, this sort rearranges the given list and
+ * allocates nothing in proportion to its size, so it suits callers whose memory is capped. Blocks of
+ * {@link #BLOCK_SIZE} elements are first sorted by binary insertion, then neighbouring runs are merged bottom up
+ * with the SymMerge algorithm (Kim and Kutzner, 2004): the merge finds a split point by binary search, rotates
+ * the middle of the two runs into place, and recurses on both halves. Rotations are done with swaps, so no buffer
+ * is needed.
+ * <p/>
+ * The trade-off is time: merging without a buffer costs an extra log(n) factor over {@link MergeSort}. Lists
+ * should support fast random access, see {@link java.util.RandomAccess}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(n log(n))</li>
+ *     <li>Average case time: O(n log(n)^2)</li>
+ *     <li>Worst case time: O(n log(n)^2)</li>
+ *     <li>Worst case space: O(log(n)) for the merge recursion, O(1) on the heap</li>
+ * </ul>
+ */
+public class InPlaceMergeSort extends Sort {
+
+    /**
+     * Number of elements in each block sorted by binary insertion.
+     */
+    static final int BLOCK_SIZE = 20;
+
+    @Override
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+
+        int size = list.size();
+        int start = 0;
+        for (int end = BLOCK_SIZE; end <= size; end += BLOCK_SIZE) {
+            InsertionSort.binaryInsertionSort(list, start, end, comparator);
+            start = end;
+        }
+        InsertionSort.binaryInsertionSort(list, start, size, comparator);
+
+        for (int runSize = BLOCK_SIZE; runSize < size; runSize *= 2) {
+            start = 0;
+            for (int end = 2 * runSize; end <= size; end += 2 * runSize) {
+                symMerge(list, start, start + runSize, end, comparator);
+                start = end;
+            }
+            if (start + runSize < size) {
+                symMerge(list, start, start + runSize, size, comparator);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Merges the sorted runs {@code [from, middle)} and {@code [middle, to)} in place, keeping equal elements
+     * from the left run first.
+     * @param list List holding both runs.
+     * @param from First position of the left run, inclusive.
+     * @param middle First position of the right run.
+     * @param to Last position of the right run, exclusive.
+     * @param comparator Comparator for the sort order.
+     * @param <T> Type of element to sort.
+     */
+    private static <T> void symMerge(List<T> list, int from, int middle, int to, Comparator<T> comparator) {
+        if (middle - from == 1) {
+            // Single element on the left, binary search for its place and shift it there
+            int low = middle;
+            int high = to;
+            T element = list.get(from);
+            while (low < high) {
+                int probe = (low + high) >>> 1;
+                if (comparator.compare(list.get(probe), element) < 0) {
+                    low = probe + 1;
+                } else {
+                    high = probe;
+                }
+            }
+            for (int index = from; index < low - 1; index++) {
+                list.set(index, list.get(index + 1));
+            }
+            list.set(low - 1, element);
+            return;
+        }
+
+        if (to - middle == 1) {
+            // Single element on the right, binary search for its place and shift it there
+            int low = from;
+            int high = middle;
+            T element = list.get(middle);
+            while (low < high) {
+                int probe = (low + high) >>> 1;
+                if (comparator.compare(element, list.get(probe)) >= 0) {
+                    low = probe + 1;
+                } else {
+                    high = probe;
+                }
+            }
+            for (int index = middle; index > low; index--) {
+                list.set(index, list.get(index - 1));
+            }
+            list.set(low, element);
+            return;
+        }
+
+        // Find the split so that everything left of it in the left run and right of its mirror in the right run
+        // are already in place, then rotate the two middle pieces past each other
+        int half = (from + to) >>> 1;
+        int mirror = half + middle;
+        int low;
+        int high;
+        if (middle > half) {
+            low = mirror - to;
+            high = half;
+        } else {
+            low = from;
+            high = middle;
+        }
+        int last = mirror - 1;
+        while (low < high) {
+            int probe = (low + high) >>> 1;
+            if (comparator.compare(list.get(last - probe), list.get(probe)) >= 0) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+        }
+
+        int start = low;
+        int end = mirror - start;
+        if (start < middle && middle < end) {
+            rotate(list, start, middle, end);
+        }
+        if (from < start && start < half) {
+            symMerge(list, from, start, half, comparator);
+        }
+        if (half < end && end < to) {
+            symMerge(list, half, end, to, comparator);
+        }
+    }
+
+    /**
+     * Rotates the given range so that {@code [middle, to)} comes before {@code [from, middle)}, using block swaps.
+     * @param list List to rotate.
+     * @param from First position of the range, inclusive.
+     * @param middle Position that becomes the first of the range.
+     * @param to Last position of the range, exclusive.
+     * @param <T> Type of element.
+     */
+    private static <T> void rotate(List<T> list, int from, int middle, int to) {
+        int left = middle - from;
+        int right = to - middle;
+        while (left != right) {
+            if (left > right) {
+                swapRange(list, middle - left, middle, right);
+                left -= right;
+            } else {
+                swapRange(list, middle - left, middle + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(list, middle - left, middle, left);
+    }
+
+    private static <T> void swapRange(List<T> list, int first, int second, int count) {
+        for (int index = 0; index < count; index++) {
+            list.set(first + index, list.set(second + index, list.get(first + index)));
+        }
+    }
+
+}
@@ -43,4 +43,36 @@ public class InsertionSort extends Sort {
         return list;
     }
 
+    /**
+     * Sorts the given range of the given list in place by binary insertion. Each element is moved to just after
+     * the last earlier element that does not follow it, found by binary search, so equal elements keep their
+     * relative order. This makes O(n log(n)) comparisons but O(n^2) moves, so it suits only the small leaves of
+     * the divide and conquer sorts in this package.
+     * @param list List to sort.
+     * @param from First position of the range, inclusive.
+     * @param to Last position of the range, exclusive.
+     * @param comparator Comparator that defines the order for the sort.
+     * @param <T> Type of element to sort.
+     */
+    static <T> void binaryInsertionSort(List<T> list, int from, int to, Comparator<? super T> comparator) {
+        for (int index = from + 1; index < to; index++) {
+            T element = list.get(index);
+            int low = from;
+            int high = index;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(list.get(middle), element) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            for (int position = index; position > low; position--) {
+                list.set(position, list.get(position - 1));
+            }
+            list.set(low, element);
+        }
+    }
+
 }
@@ -0,0 +1,171 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.metrics.Allocations;
+import com.lillicoder.algorithms.metrics.Metrics;
+import com.lillicoder.algorithms.metrics.MetricsSink;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ISort} decorator that measures each call to a wrapped sort and reports a {@link Metrics} snapshot to a
+ * {@link MetricsSink}.
+ * <p/>
+ * Elements are wrapped in probes that count every comparison, and the list handed to the wrapped sort counts
+ * element writes and how deeply {@link List#subList(int, int)} views are nested, which is the recursion depth of
+ * the divide and conquer sorts in this package. Sorts that choose their path by element type, such as
+ * {@link CountingSort} and {@link AdaptiveSort}, look through the probes with {@link #unwrap(Object)}, so they
+ * take the same path as they would uninstrumented. Instrumentation is opt-in: a sort that is not wrapped pays
+ * nothing, so leave the decorator off to disable it.
+ * <p/>
+ * Comparisons, moves and depth are counted on every thread, so sorts that fork work onto a pool, such as
+ * {@link ParallelMergeSort}, are measured in full. Allocations are read per thread and cover the calling thread
+ * only, so they leave out whatever such a sort allocates on its pool.
+ * <p/>
+ * The result matches the wrapped sort's: in place sorts leave the given list sorted and return it, other sorts
+ * return a new sorted list.
+ */
+public class InstrumentedSort implements ISort {
+
+    private final ISort delegate;
+    private final MetricsSink sink;
+    private final String operation;
+
+    /**
+     * Creates a decorator for the given sort.
+     * @param delegate Sort to instrument.
+     * @param sink Sink to report each call to.
+     */
+    public InstrumentedSort(ISort delegate, MetricsSink sink) {
+        this.delegate = delegate;
+        this.sink = sink;
+        this.operation = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        Counters counters = new Counters();
+        List<Probe<T>> probes = new ArrayList<>(list.size());
+        for (T element : list) {
+            probes.add(new Probe<>(element, counters));
+        }
+        CountingList<Probe<T>> input = new CountingList<>(probes, counters, 1);
+
+        long allocationStart = Allocations.current();
+        long start = System.nanoTime();
+        List<Probe<T>> sorted = delegate.sort(input, order);
+        long elapsed = System.nanoTime() - start;
+        long allocated = Allocations.since(allocationStart);
+
+        sink.record(new Metrics(operation,
+                                list.size(),
+                                counters.comparisons.sum(),
+                                counters.moves.sum(),
+                                counters.maxDepth.get(),
+                                allocated,
+                                elapsed));
+
+        if (sorted == input) {
+            // Sorted in place, rearrange the caller's list to match
+            for (int index = 0; index < probes.size(); index++) {
+                list.set(index, probes.get(index).element);
+            }
+
+            return list;
+        }
+
+        List<T> result = new ArrayList<>(sorted.size());
+        for (Probe<T> probe : sorted) {
+            result.add(probe.element);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the element a probe of this decorator wraps.
+     * @param element Element of a list being sorted.
+     * @return Element the given probe wraps, or the given element itself if it is not a probe.
+     */
+    static Object unwrap(Object element) {
+        return element instanceof Probe ? ((Probe<?>) element).element : element;
+    }
+
+    /**
+     * Counts shared by the probes and list views of a single call, which may be updated from several threads.
+     */
+    private static class Counters {
+
+        final LongAdder comparisons = new LongAdder();
+        final LongAdder moves = new LongAdder();
+        final AtomicInteger maxDepth = new AtomicInteger();
+
+    }
+
+    /**
+     * Wrapper for an element that counts comparisons made against it.
+     * @param <T> Type of element.
+     */
+    private static class Probe<T extends Comparable<? super T>> implements Comparable<Probe<T>> {
+
+        private final T element;
+        private final Counters counters;
+
+        Probe(T element, Counters counters) {
+            this.element = element;
+            this.counters = counters;
+        }
+
+        @Override
+        public int compareTo(Probe<T> other) {
+            counters.comparisons.increment();
+            return element.compareTo(other.element);
+        }
+
+    }
+
+    /**
+     * List view that counts writes and the nesting depth of its sub list views.
+     * @param <E> Type of element.
+     */
+    private static class CountingList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final List<E> list;
+        private final Counters counters;
+        private final int depth;
+
+        CountingList(List<E> list, Counters counters, int depth) {
+            this.list = list;
+            this.counters = counters;
+            this.depth = depth;
+            counters.maxDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            counters.moves.increment();
+            return list.set(index, element);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            return new CountingList<>(list.subList(fromIndex, toIndex), counters, depth + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link Iterator} over a list in a given {@link Sort.Order} that only sorts as much of the list as has been read.
+ * <p/>
+ * This is an incremental quicksort (Paredes and Navarro, 2006). A stack holds the positions of pivots already in
+ * their final place, nearest first. To yield the next element, the unsorted segment between it and the nearest
+ * pivot is partitioned with a {@link Partitioner} and the new pivot pushed, until the nearest pivot is the next
+ * element itself. Segments of up to {@link SortingNetwork#MAX_SIZE} elements are finished with a
+ * {@link SortingNetwork} instead, through one small buffer for the whole iteration. The rest of the list is only
+ * ever partitioned as far as needed, so reading the first page of a huge list costs little more than a single
+ * pass over it.
+ * <p/>
+ * The given list is rearranged in place as elements are read, and must not be changed by anything else until
+ * iteration is done. Like {@link Quicksort}, equal elements may change their relative order.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Average case time: O(n + k log(k)) to read the first k elements</li>
+ *     <li>Worst case time: O(n^2)</li>
+ *     <li>Worst case space: O(n) for the pivot stack, O(log(n)) on average</li>
+ * </ul>
+ * @param <T> Type of element. The type must support the {@link Comparable} interface.
+ */
+public class LazySortedIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final List<T> list;
+    private final Sort.Order order;
+    private final Comparator<T> comparator;
+    private final Object[] leaf = new Object[SortingNetwork.MAX_SIZE];
+    private final Partitioner partitioner = new Partitioner();
+
+    /**
+     * Positions of pivots in their final place, the top being the nearest to {@link #position}. The bottom entry
+     * is the size of the list, acting as a pivot just past the end.
+     */
+    private int[] pivots = new int[16];
+    private int pivotCount;
+
+    /**
+     * Position of the next element to read.
+     */
+    private int position;
+
+    /**
+     * Elements before this position are known to be in their final place.
+     */
+    private int sortedEnd;
+
+    /**
+     * Creates an iterator over the given list.
+     * @param list List to iterate in sorted order. It is rearranged in place.
+     * @param order Order to iterate in.
+     */
+    public LazySortedIterator(List<T> list, Sort.Order order) {
+        this.list = list;
+        this.order = order;
+        this.comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        pivots[pivotCount++] = list.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < list.size();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        if (position >= sortedEnd) {
+            settle();
+        }
+
+        return list.get(position++);
+    }
+
+    /**
+     * Reads up to the given number of next elements.
+     * @param pageSize Largest number of elements to read.
+     * @return Next elements in sorted order, fewer than the page size only once the list runs out.
+     * @throws IllegalArgumentException Thrown if the page size is negative.
+     */
+    public List<T> nextPage(int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Invalid page size " + pageSize);
+        }
+
+        List<T> page = new ArrayList<>(Math.min(pageSize, list.size() - position));
+        while (page.size() < pageSize && hasNext()) {
+            page.add(next());
+        }
+
+        return page;
+    }
+
+    /**
+     * Partitions the segment after the current position until the element at the current position is in its
+     * final place.
+     */
+    private void settle() {
+        CancellationToken cancellation = CancellationToken.current();
+        while (true) {
+            int end = pivots[pivotCount - 1];
+            if (end == position) {
+                // Nearest pivot is the element itself
+                pivotCount--;
+                sortedEnd = position + 1;
+                return;
+            }
+
+            if (end - position <= SortingNetwork.MAX_SIZE) {
+                // Small enough to finish outright
+                SortingNetwork.sort(list.subList(position, end), leaf, comparator);
+                sortedEnd = end;
+                return;
+            }
+
+            int pivot = position + partitioner.partition(list.subList(position, end), order, cancellation);
+            if (pivotCount == pivots.length) {
+                pivots = Arrays.copyOf(pivots, pivots.length * 2);
+            }
+            pivots[pivotCount++] = pivot;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.lillicoder.algorithms.sort;
+
+/**
+ * Count, sum, min and max of the values paired with each distinct {@code long} key, as produced by
+ * {@link GroupBy#aggregate(long[], long[], Sort.Order)}. Groups are held as parallel primitive arrays, sorted by
+ * key, and addressed by position. Sums overflow silently, as {@link java.util.LongSummaryStatistics} sums do.
+ */
+public final class LongAggregates {
+
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] mins;
+    private final long[] maxes;
+
+    LongAggregates(long[] keys, long[] counts, long[] sums, long[] mins, long[] maxes) {
+        this.keys = keys;
+        this.counts = counts;
+        this.sums = sums;
+        this.mins = mins;
+        this.maxes = maxes;
+    }
+
+    /**
+     * Gets the number of distinct keys.
+     * @return Number of groups.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the key of the given group.
+     * @param group Position of the group.
+     * @return Key.
+     */
+    public long getKey(int group) {
+        return keys[group];
+    }
+
+    /**
+     * Gets the number of records in the given group.
+     * @param group Position of the group.
+     * @return Count.
+     */
+    public long getCount(int group) {
+        return counts[group];
+    }
+
+    /**
+     * Gets the sum of the values in the given group.
+     * @param group Position of the group.
+     * @return Sum.
+     */
+    public long getSum(int group) {
+        return sums[group];
+    }
+
+    /**
+     * Gets the smallest value in the given group.
+     * @param group Position of the group.
+     * @return Minimum.
+     */
+    public long getMin(int group) {
+        return mins[group];
+    }
+
+    /**
+     * Gets the largest value in the given group.
+     * @param group Position of the group.
+     * @return Maximum.
+     */
+    public long getMax(int group) {
+        return maxes[group];
+    }
+
+}
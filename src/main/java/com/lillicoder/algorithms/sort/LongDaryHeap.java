@@ -0,0 +1,355 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Priority queue of {@code long}s kept as an implicit d-ary heap in a single array. The top of the heap is the
+ * value that comes first in a given {@link Sort.Order}: the smallest for {@link Sort.Order#ASCENDING}, making a
+ * min-heap, and the largest for {@link Sort.Order#DESCENDING}, making a max-heap.
+ * <p/>
+ * Node {@code i} has children {@code d * i + 1} to {@code d * i + d}. A wider node makes the heap shallower, so
+ * sifting up takes fewer steps, and sifting down scans its d children in a row, which for the default arity of
+ * {@link IntDaryHeap#DEFAULT_ARITY} is half a cache line. Values are held unboxed and nothing is allocated except
+ * to grow the array once it is full.
+ * <p/>
+ * {@link #update(int, long)} changes the value at a position and moves it up or down as needed, which covers
+ * decrease-key and increase-key. Positions are those of {@link #get(int)} and are only valid until the next change
+ * to the heap. To keep a handle on a value across changes, {@link #add(long)} returns the position the value lands
+ * at, and a {@link PositionListener} set with {@link #setPositionListener(PositionListener)} is told every
+ * position a value moves to, so callers can track positions in an array of their own without allocating anything
+ * per value. Not thread safe.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Heapify time: O(n)</li>
+ *     <li>Add time: O(log<sub>d</sub>(n)), amortized over growth</li>
+ *     <li>Poll and replace top time: O(d log<sub>d</sub>(n))</li>
+ *     <li>Peek time: O(1)</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public final class LongDaryHeap {
+
+    /**
+     * Receives the positions values move to within the heap.
+     */
+    public interface PositionListener {
+
+        /**
+         * Called whenever a value is placed at a position of the heap, and with position {@code -1} when it leaves
+         * the heap.
+         * @param value Value that moved.
+         * @param position New position of the value, or {@code -1} if it was removed.
+         */
+        void moved(long value, int position);
+
+    }
+
+    private final int arity;
+    private final boolean ascending;
+
+    private long[] heap;
+    private int size;
+    private PositionListener listener;
+
+    /**
+     * Creates an empty heap with the {@link IntDaryHeap#DEFAULT_ARITY}.
+     * @param order Order whose first value is kept on top.
+     */
+    public LongDaryHeap(Sort.Order order) {
+        this(IntDaryHeap.DEFAULT_ARITY, order, IntDaryHeap.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty heap.
+     * @param arity Number of children of each node.
+     * @param order Order whose first value is kept on top.
+     * @param capacity Number of values the heap holds before it grows.
+     * @throws IllegalArgumentException Thrown if the arity is less than {@code 2} or the capacity is negative.
+     */
+    public LongDaryHeap(int arity, Sort.Order order, int capacity) {
+        this(arity, order, new long[IntDaryHeap.checkCapacity(capacity)], 0);
+    }
+
+    private LongDaryHeap(int arity, Sort.Order order, long[] heap, int size) {
+        this.arity = IntDaryHeap.checkArity(arity);
+        this.ascending = order == Sort.Order.ASCENDING;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    /**
+     * Creates a heap over the first values of the given array in linear time. The heap takes the array over
+     * rather than copying it, so the caller must not use it afterwards.
+     * @param arity Number of children of each node.
+     * @param order Order whose first value is kept on top.
+     * @param values Array whose first {@code size} values to heapify.
+     * @param size Number of values to heapify.
+     * @return Heap of the given values.
+     * @throws IllegalArgumentException Thrown if the arity is less than {@code 2} or the size is out of bounds.
+     */
+    public static LongDaryHeap heapify(int arity, Sort.Order order, long[] values, int size) {
+        if (size < 0 || size > values.length) {
+            throw new IllegalArgumentException("Invalid size " + size + " for " + values.length + " values");
+        }
+
+        LongDaryHeap heap = new LongDaryHeap(arity, order, values, size);
+        heapify(values, size, heap.arity, heap.ascending);
+        return heap;
+    }
+
+    /**
+     * Gets the number of values in the heap.
+     * @return Size of the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the heap is empty.
+     * @return {@code true} if the heap holds no values, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sets the listener told of every position a value moves to, and tells it the current position of every value
+     * in the heap.
+     * @param listener Listener to set, or {@code null} for none.
+     */
+    public void setPositionListener(PositionListener listener) {
+        this.listener = listener;
+        if (listener != null) {
+            for (int position = 0; position < size; position++) {
+                listener.moved(heap[position], position);
+            }
+        }
+    }
+
+    /**
+     * Adds the given value.
+     * @param value Value to add.
+     * @return Position the value was placed at.
+     */
+    public int add(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(IntDaryHeap.DEFAULT_CAPACITY, heap.length * 2));
+        }
+
+        return siftUp(heap, size++, value, arity, ascending, listener);
+    }
+
+    /**
+     * Gets the top value without removing it.
+     * @return Top value.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return heap[0];
+    }
+
+    /**
+     * Removes the top value.
+     * @return Top value.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    public long poll() {
+        long top = peek();
+        size--;
+        if (size > 0) {
+            siftDown(heap, 0, heap[size], size, arity, ascending, listener);
+        }
+        if (listener != null) {
+            listener.moved(top, -1);
+        }
+
+        return top;
+    }
+
+    /**
+     * Removes the top value and adds the given value in a single sift, as when keeping the k best values seen.
+     * @param value Value to add.
+     * @return Previous top value.
+     * @throws NoSuchElementException Thrown if the heap is empty.
+     */
+    public long replaceTop(long value) {
+        long top = peek();
+        siftDown(heap, 0, value, size, arity, ascending, listener);
+        if (listener != null) {
+            listener.moved(top, -1);
+        }
+
+        return top;
+    }
+
+    /**
+     * Gets the value at the given position of the heap.
+     * @param position Position, from {@code 0} for the top to {@code size() - 1}.
+     * @return Value at the position.
+     * @throws IndexOutOfBoundsException Thrown if the position is out of bounds.
+     */
+    public long get(int position) {
+        IntDaryHeap.checkPosition(position, size);
+        return heap[position];
+    }
+
+    /**
+     * Changes the value at the given position of the heap and restores heap order.
+     * @param position Position, from {@code 0} for the top to {@code size() - 1}.
+     * @param value New value.
+     * @return Position the value was placed at.
+     * @throws IndexOutOfBoundsException Thrown if the position is out of bounds.
+     */
+    public int update(int position, long value) {
+        IntDaryHeap.checkPosition(position, size);
+        if (before(value, heap[position], ascending)) {
+            return siftUp(heap, position, value, arity, ascending, listener);
+        }
+
+        return siftDown(heap, position, value, size, arity, ascending, listener);
+    }
+
+    /**
+     * Removes every value. The array is kept for reuse.
+     */
+    public void clear() {
+        if (listener != null) {
+            for (int position = 0; position < size; position++) {
+                listener.moved(heap[position], -1);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Arranges the first values of the given array into a heap, bottom up.
+     * @param heap Array to arrange.
+     * @param size Number of values to arrange.
+     * @param arity Number of children of each node.
+     * @param ascending {@code true} to keep the smallest value on top, {@code false} for the largest.
+     */
+    static void heapify(long[] heap, int size, int arity, boolean ascending) {
+        if (size < 2) {
+            return;
+        }
+
+        for (int position = (size - 2) / arity; position >= 0; position--) {
+            siftDown(heap, position, heap[position], size, arity, ascending);
+        }
+    }
+
+    /**
+     * Places the given value at the given position, moving it down past any child that comes before it.
+     * @param heap Heap array.
+     * @param position Position to place the value at.
+     * @param value Value to place.
+     * @param size Number of values in the heap.
+     * @param arity Number of children of each node.
+     * @param ascending {@code true} to keep the smallest value on top, {@code false} for the largest.
+     */
+    static void siftDown(long[] heap, int position, long value, int size, int arity, boolean ascending) {
+        siftDown(heap, position, value, size, arity, ascending, null);
+    }
+
+    /**
+     * Places the given value at the given position like {@link #siftDown(long[], int, long, int, int, boolean)},
+     * telling the given listener of every value moved.
+     * @param heap Heap array.
+     * @param position Position to place the value at.
+     * @param value Value to place.
+     * @param size Number of values in the heap.
+     * @param arity Number of children of each node.
+     * @param ascending {@code true} to keep the smallest value on top, {@code false} for the largest.
+     * @param listener Listener to tell, or {@code null} for none.
+     * @return Position the value was placed at.
+     */
+    private static int siftDown(long[] heap, int position, long value, int size, int arity, boolean ascending,
+                                PositionListener listener) {
+        int lastParent = (size - 2) / arity;
+        while (size > 1 && position <= lastParent) {
+            int first = position * arity + 1;
+            int end = Math.min(first + arity, size);
+            int best = first;
+            for (int child = first + 1; child < end; child++) {
+                if (before(heap[child], heap[best], ascending)) {
+                    best = child;
+                }
+            }
+
+            if (!before(heap[best], value, ascending)) {
+                break;
+            }
+
+            heap[position] = heap[best];
+            if (listener != null) {
+                listener.moved(heap[position], position);
+            }
+            position = best;
+        }
+
+        heap[position] = value;
+        if (listener != null) {
+            listener.moved(value, position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Places the given value at the given position, moving it up past any parent it comes before.
+     * @param heap Heap array.
+     * @param position Position to place the value at.
+     * @param value Value to place.
+     * @param arity Number of children of each node.
+     * @param ascending {@code true} to keep the smallest value on top, {@code false} for the largest.
+     */
+    static void siftUp(long[] heap, int position, long value, int arity, boolean ascending) {
+        siftUp(heap, position, value, arity, ascending, null);
+    }
+
+    /**
+     * Places the given value at the given position like {@link #siftUp(long[], int, long, int, boolean)}, telling the
+     * given listener of every value moved.
+     * @param heap Heap array.
+     * @param position Position to place the value at.
+     * @param value Value to place.
+     * @param arity Number of children of each node.
+     * @param ascending {@code true} to keep the smallest value on top, {@code false} for the largest.
+     * @param listener Listener to tell, or {@code null} for none.
+     * @return Position the value was placed at.
+     */
+    private static int siftUp(long[] heap, int position, long value, int arity, boolean ascending,
+                              PositionListener listener) {
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (!before(value, heap[parent], ascending)) {
+                break;
+            }
+
+            heap[position] = heap[parent];
+            if (listener != null) {
+                listener.moved(heap[position], position);
+            }
+            position = parent;
+        }
+
+        heap[position] = value;
+        if (listener != null) {
+            listener.moved(value, position);
+        }
+
+        return position;
+    }
+
+    private static boolean before(long value, long other, boolean ascending) {
+        return ascending ? value < other : value > other;
+    }
+
+}
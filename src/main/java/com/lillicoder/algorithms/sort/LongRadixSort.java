@@ -0,0 +1,147 @@
+package com.lillicoder.algorithms.sort;
+
+/**
+ * Performs a least significant digit radix sort on a given array of {@code long} keys for a given
+ * {@link Sort.Order}, moving the value paired with each key along with it.
+ * <p/>
+ * Keys are sorted one byte at a time. A single pass counts every byte position at once, and byte positions that
+ * every key shares are skipped, so keys that only differ in their low bytes take as many passes as they have
+ * differing bytes. The top byte holds the sign and is flipped so that keys are ordered as signed values. Keys and
+ * values move back and forth between the given arrays and one scratch pair of the same size, which is only
+ * allocated once a pass has something to move. The sort is stable.
+ * <p/>
+ * The digit counting and bucket offsets are shared with {@link OffHeapLongSort}, which runs the same passes over
+ * records in a {@link java.nio.ByteBuffer}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(n)</li>
+ *     <li>Average case time: O(n)</li>
+ *     <li>Worst case time: O(n)</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class LongRadixSort {
+
+    /**
+     * Bits of a key sorted by each pass.
+     */
+    static final int RADIX_BITS = 8;
+
+    /**
+     * Number of buckets of each pass.
+     */
+    static final int RADIX = 1 << RADIX_BITS;
+
+    private static final int RADIX_MASK = RADIX - 1;
+
+    /**
+     * Sorts the given keys in place, moving each value to the position its key moves to.
+     * @param keys Keys to sort.
+     * @param values Value of each key.
+     * @param order Order for the sort.
+     * @throws IllegalArgumentException Thrown if there are not as many values as keys.
+     */
+    public void sort(long[] keys, long[] values, Sort.Order order) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException(keys.length + " keys but " + values.length + " values");
+        }
+
+        int size = keys.length;
+        if (size < 2) {
+            return;
+        }
+
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (long key : keys) {
+            count(counts, key);
+        }
+
+        boolean ascending = order == Sort.Order.ASCENDING;
+        long[] fromKeys = keys;
+        long[] fromValues = values;
+        long[] toKeys = null;
+        long[] toValues = null;
+        int[] offsets = new int[RADIX];
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            if (!offsets(counts[digit], digit, fromKeys[0], size, ascending, offsets)) {
+                continue;
+            }
+
+            if (toKeys == null) {
+                toKeys = new long[size];
+                toValues = new long[size];
+            }
+
+            for (int index = 0; index < size; index++) {
+                long key = fromKeys[index];
+                int target = offsets[bucket(key, digit)]++;
+                toKeys[target] = key;
+                toValues[target] = fromValues[index];
+            }
+
+            long[] swap = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swap;
+            swap = fromValues;
+            fromValues = toValues;
+            toValues = swap;
+        }
+
+        if (fromKeys != keys) {
+            // Odd number of passes, the sorted pairs are in the scratch arrays
+            System.arraycopy(fromKeys, 0, keys, 0, size);
+            System.arraycopy(fromValues, 0, values, 0, size);
+        }
+    }
+
+    /**
+     * Counts every byte of the given key in the bucket counts of its byte position.
+     * @param counts Bucket counts of each byte position, least significant first.
+     * @param key Key to count.
+     */
+    static void count(int[][] counts, long key) {
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            counts[digit][bucket(key, digit)]++;
+        }
+    }
+
+    /**
+     * Gets the bucket of the given key for a pass over the given byte position.
+     * @param key Key to get the bucket of.
+     * @param digit Byte position, {@code 0} for the least significant.
+     * @return Bucket of the key.
+     */
+    static int bucket(long key, int digit) {
+        return (int) (key >>> (digit * RADIX_BITS)) & RADIX_MASK;
+    }
+
+    /**
+     * Computes the position each bucket of a pass starts at, unless every key falls in the same bucket and the
+     * pass would not move anything.
+     * @param count Bucket counts of the byte position.
+     * @param digit Byte position, {@code 0} for the least significant.
+     * @param anyKey Any one of the keys.
+     * @param size Number of keys.
+     * @param ascending {@code true} to sort ascending, {@code false} to sort descending.
+     * @param offsets Array of {@link #RADIX} positions to fill.
+     * @return {@code true} if the pass must run, {@code false} if it can be skipped.
+     */
+    static boolean offsets(int[] count, int digit, long anyKey, int size, boolean ascending, int[] offsets) {
+        if (count[bucket(anyKey, digit)] == size) {
+            return false;
+        }
+
+        // The top digit holds the sign, flip it so negative keys come first
+        int flip = digit == Long.BYTES - 1 ? RADIX >>> 1 : 0;
+        int total = 0;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            int value = (ascending ? bucket : RADIX_MASK - bucket) ^ flip;
+            offsets[value] = total;
+            total += count[value];
+        }
+
+        return true;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.lillicoder.algorithms.sort;
 
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -8,7 +10,10 @@ import java.util.List;
  * Performs a merge sort on a given list for a given {@link Sort.Order}.
  * <p/>
  * Note that this sort is not an in place sort, so a list of sorted results is returned that
- * is not the same as the given list to sort.
+ * is not the same as the given list to sort. Halves of up to {@link #INSERTION_SIZE} elements are copied and
+ * sorted by binary insertion, which keeps equal elements in order. {@code int} and {@code long} arrays, where
+ * stability cannot be observed, are sorted in place through a single scratch array of half their size, with
+ * halves of up to {@link SortingNetwork#MAX_SIZE} elements sorted by a {@link SortingNetwork}.
  *
  * <h4>Complexity</h4>
  * <ul>
@@ -20,17 +25,130 @@ import java.util.List;
  */
 public class MergeSort extends Sort {
 
+    /**
+     * Halves up to this size are sorted by binary insertion.
+     */
+    static final int INSERTION_SIZE = 16;
+
     @Override
     public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        return sort(list, order, CancellationToken.current());
+    }
+
+    /**
+     * Sorts the given list like {@link #sort(List, Sort.Order)}, polling the given token instead of the current
+     * one, for sorts that run on a thread other than the one that started the job.
+     * @param list List to sort.
+     * @param order Order for the sort.
+     * @param cancellation Token of the job the sort belongs to.
+     * @param <T> Type of element to sort. The type must support the {@link Comparable} interface.
+     * @return Sorted list.
+     * @throws java.util.concurrent.CancellationException Thrown if the given token is cancelled.
+     */
+    <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order, CancellationToken cancellation) {
         List<T> sortedList = list;
-        if (list.size() > 1) {
+        if (list.size() > INSERTION_SIZE) {
             int middle = (list.size()) >>> 1;
-            List<T> left = sort(list.subList(0, middle), order);
-            List<T> right = sort(list.subList(middle, list.size()), order);
-            sortedList = new Merger().merge(left, right, order);
+            List<T> left = sort(list.subList(0, middle), order, cancellation);
+            List<T> right = sort(list.subList(middle, list.size()), order, cancellation);
+            sortedList = new Merger().merge(left, right, order, cancellation);
+        } else if (list.size() > 1) {
+            Comparator<T> comparator = order == Sort.Order.ASCENDING
+                    ? new Sort.AscendingComparator<>()
+                    : new Sort.DescendingComparator<>();
+            sortedList = new ArrayList<>(list);
+            InsertionSort.binaryInsertionSort(sortedList, 0, sortedList.size(), comparator);
         }
 
         return sortedList;
     }
 
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(int[] array, Sort.Order order) {
+        mergeSort(array, new int[(array.length + 1) >>> 1], 0, array.length);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(array);
+        }
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(long[] array, Sort.Order order) {
+        mergeSort(array, new long[(array.length + 1) >>> 1], 0, array.length);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(array);
+        }
+    }
+
+    /**
+     * Sorts the given range in ascending order. Each merge copies the left half out to the scratch array and
+     * merges it back with the right half, which never overtakes the elements still to be read.
+     * @param array Array to sort.
+     * @param scratch Scratch array of at least half the range.
+     * @param from First position of the range, inclusive.
+     * @param to Last position of the range, exclusive.
+     */
+    private static void mergeSort(int[] array, int[] scratch, int from, int to) {
+        if (to - from <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(array, from, to, Sort.Order.ASCENDING);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(array, scratch, from, middle);
+        mergeSort(array, scratch, middle, to);
+        if (array[middle - 1] <= array[middle]) {
+            // Halves are already in order
+            return;
+        }
+
+        int leftSize = middle - from;
+        System.arraycopy(array, from, scratch, 0, leftSize);
+        int left = 0;
+        int right = middle;
+        int index = from;
+        while (left < leftSize && right < to) {
+            array[index++] = scratch[left] <= array[right] ? scratch[left++] : array[right++];
+        }
+        System.arraycopy(scratch, left, array, index, leftSize - left);
+    }
+
+    /**
+     * Sorts the given range in ascending order, as {@link #mergeSort(int[], int[], int, int)} does.
+     * @param array Array to sort.
+     * @param scratch Scratch array of at least half the range.
+     * @param from First position of the range, inclusive.
+     * @param to Last position of the range, exclusive.
+     */
+    private static void mergeSort(long[] array, long[] scratch, int from, int to) {
+        if (to - from <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(array, from, to, Sort.Order.ASCENDING);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(array, scratch, from, middle);
+        mergeSort(array, scratch, middle, to);
+        if (array[middle - 1] <= array[middle]) {
+            return;
+        }
+
+        int leftSize = middle - from;
+        System.arraycopy(array, from, scratch, 0, leftSize);
+        int left = 0;
+        int right = middle;
+        int index = from;
+        while (left < leftSize && right < to) {
+            array[index++] = scratch[left] <= array[right] ? scratch[left++] : array[right++];
+        }
+        System.arraycopy(scratch, left, array, index, leftSize - left);
+    }
+
 }
@@ -1,11 +1,18 @@
 package com.lillicoder.algorithms.sort;
 
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 public class Merger {
 
+    /**
+     * Mask for the loop position so that cancellation is polled once every 4096 elements.
+     */
+    private static final int CANCELLATION_MASK = (1 << 12) - 1;
+
     /**
      * Merges the elements of the given lists into a single list with the given {@link Sort.Order}. Each given
      * list is assumed to already be sorted in the given order.
@@ -13,8 +20,30 @@ public class Merger {
      * @param right List to merge.
      * @param <T> Type of elements to merge. The type must support the {@link Comparable} interface.
      * @return Sorted list.
+     * @throws java.util.concurrent.CancellationException Thrown if the current {@link CancellationToken} is
+     * cancelled.
      */
     <T extends Comparable<? super T>> List<T> merge(List<T> left, List<T> right, Sort.Order order) {
+        return merge(left, right, order, CancellationToken.current());
+    }
+
+    /**
+     * Merges the elements of the given lists like {@link #merge(List, List, Sort.Order)}, polling the given token
+     * instead of the current one, for merges that run on a thread other than the one that started the job.
+     * @param left List to merge.
+     * @param right List to merge.
+     * @param order Order of the given lists.
+     * @param cancellation Token of the job the merge belongs to.
+     * @param <T> Type of elements to merge. The type must support the {@link Comparable} interface.
+     * @return Sorted list.
+     * @throws java.util.concurrent.CancellationException Thrown if the given token is cancelled.
+     */
+    <T extends Comparable<? super T>> List<T> merge(List<T> left,
+                                                    List<T> right,
+                                                    Sort.Order order,
+                                                    CancellationToken cancellation) {
+        cancellation.throwIfCancelled();
+
         List<T> merged = new ArrayList<>(left.size() + right.size());
 
         Comparator<T> comparator =
@@ -25,6 +54,10 @@ public class Merger {
         int leftPosition = 0;
         int rightPosition = 0;
         for (int index = 0; index < left.size() + right.size(); index++) {
+            if ((index & CANCELLATION_MASK) == CANCELLATION_MASK) {
+                cancellation.throwIfCancelled();
+            }
+
             if (leftPosition < left.size() && rightPosition < right.size()) {
                 // Both positions in bounds, do comparison
                 T leftElement = left.get(leftPosition);
@@ -56,4 +89,39 @@ public class Merger {
         return merged;
     }
 
+    /**
+     * Merges two adjacent sorted ranges of the given source array into the same range of the given target array,
+     * counting the inversions between them: the pairs of a left and a right element where the right element
+     * precedes the left. Ties are taken from the left as in {@link #merge(List, List, Sort.Order)}, so equal
+     * elements are never counted.
+     * @param source Array holding the sorted ranges {@code [from, middle)} and {@code [middle, to)}.
+     * @param target Array to merge into, over {@code [from, to)}.
+     * @param from Start of the left range.
+     * @param middle End of the left range and start of the right range.
+     * @param to End of the right range.
+     * @param comparator Comparator the ranges are sorted by.
+     * @param <T> Type of elements to merge.
+     * @return Number of inversions between the ranges.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> long mergeCountingInversions(Object[] source, Object[] target, int from, int middle, int to,
+                                            Comparator<? super T> comparator) {
+        long inversions = 0;
+        int leftPosition = from;
+        int rightPosition = middle;
+        for (int index = from; index < to; index++) {
+            if (rightPosition >= to
+                    || leftPosition < middle
+                    && comparator.compare((T) source[leftPosition], (T) source[rightPosition]) < 1) {
+                target[index] = source[leftPosition++];
+            } else {
+                // Right precedes every remaining left element
+                inversions += middle - leftPosition;
+                target[index] = source[rightPosition++];
+            }
+        }
+
+        return inversions;
+    }
+
 }
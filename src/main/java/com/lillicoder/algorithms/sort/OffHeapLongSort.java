@@ -0,0 +1,394 @@
+package com.lillicoder.algorithms.sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sorts fixed width records of {@code long} keys held in a {@link ByteBuffer}, usually a direct or memory mapped
+ * buffer, so that large key sets never touch the heap and add nothing to garbage collection pauses.
+ * <p/>
+ * Each record is either a bare 8 byte key or an 8 byte key followed by an 8 byte payload that travels with it.
+ * Keys are read in the buffer's byte order and compared as signed values. The records between the buffer's
+ * position and limit are sorted in place; the position and limit are left as they were.
+ * <p/>
+ * Two algorithms are offered:
+ * <ul>
+ *     <li>{@link Algorithm#RADIX} is a least significant digit radix sort over the 8 bytes of each key. It is
+ *     stable and linear in the number of records, skips byte positions every key shares, and needs a scratch
+ *     region the same size as the records.</li>
+ *     <li>{@link Algorithm#QUICKSORT} is an in place quicksort with median of three pivots that finishes short
+ *     ranges with a {@link SortingNetwork}, or an insertion sort when keys carry payloads. It needs no scratch
+ *     region but is not stable.</li>
+ * </ul>
+ * A single buffer is limited to 2GB, which is roughly 268 million bare keys or 134 million keys with payloads.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Radix time: O(n)</li>
+ *     <li>Radix space: O(n) off-heap</li>
+ *     <li>Quicksort average case time: O(n log(n))</li>
+ *     <li>Quicksort worst case time: O(n^2)</li>
+ *     <li>Quicksort worst case space: O(log(n))</li>
+ * </ul>
+ */
+public class OffHeapLongSort {
+
+    /**
+     * Width of a record holding only a key.
+     */
+    public static final int KEY_WIDTH = Long.BYTES;
+
+    /**
+     * Width of a record holding a key followed by a payload.
+     */
+    public static final int KEY_PAYLOAD_WIDTH = 2 * Long.BYTES;
+
+    /**
+     * Ranges up to this many records are finished without partitioning.
+     */
+    private static final int LEAF_SIZE = SortingNetwork.MAX_SIZE;
+
+    /**
+     * Describes the algorithms available to sort with.
+     */
+    public enum Algorithm {
+
+        /**
+         * Stable least significant digit radix sort.
+         */
+        RADIX,
+
+        /**
+         * In place quicksort.
+         */
+        QUICKSORT
+
+    }
+
+    private final Algorithm algorithm;
+    private final int recordWidth;
+
+    /**
+     * Creates a sort.
+     * @param algorithm Algorithm to sort with.
+     * @param recordWidth Width of each record in bytes, either {@link #KEY_WIDTH} or {@link #KEY_PAYLOAD_WIDTH}.
+     * @throws IllegalArgumentException Thrown if the record width is not supported.
+     */
+    public OffHeapLongSort(Algorithm algorithm, int recordWidth) {
+        if (recordWidth != KEY_WIDTH && recordWidth != KEY_PAYLOAD_WIDTH) {
+            throw new IllegalArgumentException("Unsupported record width " + recordWidth);
+        }
+
+        this.algorithm = algorithm;
+        this.recordWidth = recordWidth;
+    }
+
+    /**
+     * Sorts the records between the given buffer's position and limit. A radix sort allocates its own direct
+     * scratch region; use {@link #sort(ByteBuffer, ByteBuffer, Sort.Order)} to supply one instead.
+     * @param records Records to sort.
+     * @param order Order for the sort.
+     * @throws IllegalArgumentException Thrown if the records are not a whole number of records.
+     */
+    public void sort(ByteBuffer records, Sort.Order order) {
+        ByteBuffer scratch = null;
+        if (algorithm == Algorithm.RADIX) {
+            scratch = ByteBuffer.allocateDirect(records.remaining());
+        }
+
+        sort(records, scratch, order);
+    }
+
+    /**
+     * Sorts the records between the given buffer's position and limit.
+     * @param records Records to sort.
+     * @param scratch Region to use while sorting, from its position, with room for at least as many bytes as
+     *                there are records. Only used by {@link Algorithm#RADIX}, may be {@code null} otherwise.
+     * @param order Order for the sort.
+     * @throws IllegalArgumentException Thrown if the records are not a whole number of records or the scratch
+     * region is too small.
+     */
+    public void sort(ByteBuffer records, ByteBuffer scratch, Sort.Order order) {
+        if (records.remaining() % recordWidth != 0) {
+            throw new IllegalArgumentException(
+                    "Region of " + records.remaining() + " bytes is not a multiple of record width " + recordWidth);
+        }
+
+        ByteBuffer region = records.slice().order(records.order());
+        int size = region.capacity() / recordWidth;
+        boolean ascending = order == Sort.Order.ASCENDING;
+        if (size < 2) {
+            return;
+        }
+
+        if (algorithm == Algorithm.RADIX) {
+            if (scratch == null || scratch.remaining() < region.capacity()) {
+                throw new IllegalArgumentException("Scratch region must hold at least " + region.capacity() + " bytes");
+            }
+
+            radix(region, scratch.slice().order(records.order()), size, ascending);
+        } else {
+            quicksort(region, 0, size, ascending, new long[LEAF_SIZE]);
+        }
+    }
+
+    /**
+     * Allocates a direct buffer in native byte order with room for the given number of records.
+     * @param records Number of records.
+     * @param recordWidth Width of each record in bytes.
+     * @return Direct buffer, positioned at {@code 0} with its limit at its capacity.
+     * @throws IllegalArgumentException Thrown if the records would not fit in a single buffer.
+     */
+    public static ByteBuffer allocate(int records, int recordWidth) {
+        long bytes = (long) records * recordWidth;
+        if (records < 0 || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(records + " records of width " + recordWidth + " do not fit a buffer");
+        }
+
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Writes the bytes between the given buffer's position and limit to the given file, replacing its contents.
+     * The buffer's position is left as it was.
+     * @param records Records to write.
+     * @param file File to write to.
+     * @throws IOException Thrown if the file could not be written.
+     */
+    public static void spill(ByteBuffer records, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = records.duplicate();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Maps the whole of the given file read and write, so its records can be sorted in place without copying them
+     * into memory first. Changes reach the file as the operating system writes pages back, or when
+     * {@link MappedByteBuffer#force()} is called.
+     * @param file File to map.
+     * @param order Byte order the file's keys were written in.
+     * @return Mapped buffer, positioned at {@code 0} with its limit at the file's size.
+     * @throws IOException Thrown if the file could not be mapped or is larger than 2GB.
+     */
+    public static MappedByteBuffer map(Path file, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to map as a single buffer");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.order(order);
+
+            return buffer;
+        }
+    }
+
+    /**
+     * Reads the whole of the given file into a new direct buffer.
+     * @param file File to read.
+     * @param order Byte order the file's keys were written in.
+     * @return Direct buffer, positioned at {@code 0} with its limit at the file's size.
+     * @throws IOException Thrown if the file could not be read or is larger than 2GB.
+     */
+    public static ByteBuffer load(Path file, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to load as a single buffer");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size()).order(order);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full
+            }
+            buffer.flip();
+
+            return buffer;
+        }
+    }
+
+    /**
+     * Radix sorts the given records one key byte at a time, least significant first, moving records back and
+     * forth between the records and the scratch region. Runs the passes of {@link LongRadixSort} over records.
+     * @param records Records to sort, starting at {@code 0}.
+     * @param scratch Scratch region of at least the same size, starting at {@code 0}.
+     * @param size Number of records.
+     * @param ascending {@code true} to sort ascending, {@code false} to sort descending.
+     */
+    private void radix(ByteBuffer records, ByteBuffer scratch, int size, boolean ascending) {
+        // Count every digit position in a single pass
+        int[][] counts = new int[Long.BYTES][LongRadixSort.RADIX];
+        for (int index = 0; index < size; index++) {
+            LongRadixSort.count(counts, records.getLong(index * recordWidth));
+        }
+
+        ByteBuffer from = records;
+        ByteBuffer to = scratch;
+        int[] offsets = new int[LongRadixSort.RADIX];
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            if (!LongRadixSort.offsets(counts[digit], digit, from.getLong(0), size, ascending, offsets)) {
+                continue;
+            }
+
+            for (int index = 0; index < size; index++) {
+                int source = index * recordWidth;
+                long key = from.getLong(source);
+                int target = offsets[LongRadixSort.bucket(key, digit)]++ * recordWidth;
+                to.putLong(target, key);
+                if (recordWidth == KEY_PAYLOAD_WIDTH) {
+                    to.putLong(target + Long.BYTES, from.getLong(source + Long.BYTES));
+                }
+            }
+
+            ByteBuffer swap = from;
+            from = to;
+            to = swap;
+        }
+
+        if (from != records) {
+            // Odd number of passes, the sorted records are in the scratch region
+            ByteBuffer source = from.duplicate();
+            source.position(0);
+            source.limit(size * recordWidth);
+            ByteBuffer target = records.duplicate();
+            target.position(0);
+            target.put(source);
+        }
+    }
+
+    /**
+     * Quicksorts the given range of records. The smaller side of each partition is sorted recursively and the
+     * larger side iteratively, which bounds the stack depth to O(log(n)).
+     * @param records Records to sort.
+     * @param low First record of the range, inclusive.
+     * @param high Last record of the range, exclusive.
+     * @param ascending {@code true} to sort ascending, {@code false} to sort descending.
+     * @param leaf Scratch for the keys of one leaf, shared by every leaf of the sort.
+     */
+    private void quicksort(ByteBuffer records, int low, int high, boolean ascending, long[] leaf) {
+        while (high - low > LEAF_SIZE) {
+            // Order the first, middle and last records so the middle holds the median of the three
+            int middle = (low + high - 1) >>> 1;
+            if (compare(key(records, middle), key(records, low), ascending) < 0) {
+                swap(records, middle, low);
+            }
+            if (compare(key(records, high - 1), key(records, low), ascending) < 0) {
+                swap(records, high - 1, low);
+            }
+            if (compare(key(records, high - 1), key(records, middle), ascending) < 0) {
+                swap(records, high - 1, middle);
+            }
+            long pivot = key(records, middle);
+
+            // Hoare partition, equal keys are split evenly between both sides
+            int left = low - 1;
+            int right = high;
+            while (true) {
+                do {
+                    left++;
+                } while (compare(key(records, left), pivot, ascending) < 0);
+                do {
+                    right--;
+                } while (compare(key(records, right), pivot, ascending) > 0);
+                if (left >= right) {
+                    break;
+                }
+                swap(records, left, right);
+            }
+
+            if (right + 1 - low < high - right - 1) {
+                quicksort(records, low, right + 1, ascending, leaf);
+                low = right + 1;
+            } else {
+                quicksort(records, right + 1, high, ascending, leaf);
+                high = right + 1;
+            }
+        }
+
+        if (recordWidth == KEY_WIDTH) {
+            networkSort(records, low, high, ascending, leaf);
+        } else {
+            insertionSort(records, low, high, ascending);
+        }
+    }
+
+    /**
+     * Sorts the given range of bare keys with a {@link SortingNetwork}.
+     * @param records Records to sort.
+     * @param low First record of the range, inclusive.
+     * @param high Last record of the range, exclusive.
+     * @param ascending {@code true} to sort ascending, {@code false} to sort descending.
+     * @param keys Scratch of at least {@link #LEAF_SIZE} keys.
+     */
+    private void networkSort(ByteBuffer records, int low, int high, boolean ascending, long[] keys) {
+        int size = high - low;
+        for (int index = 0; index < size; index++) {
+            keys[index] = key(records, low + index);
+        }
+
+        SortingNetwork.sort(keys, 0, size, ascending ? Sort.Order.ASCENDING : Sort.Order.DESCENDING);
+
+        for (int index = 0; index < size; index++) {
+            records.putLong((low + index) * recordWidth, keys[index]);
+        }
+    }
+
+    /**
+     * Insertion sorts the given range of records.
+     * @param records Records to sort.
+     * @param low First record of the range, inclusive.
+     * @param high Last record of the range, exclusive.
+     * @param ascending {@code true} to sort ascending, {@code false} to sort descending.
+     */
+    private void insertionSort(ByteBuffer records, int low, int high, boolean ascending) {
+        boolean hasPayload = recordWidth == KEY_PAYLOAD_WIDTH;
+        for (int index = low + 1; index < high; index++) {
+            long key = key(records, index);
+            long payload = hasPayload ? records.getLong(index * recordWidth + Long.BYTES) : 0;
+
+            int position = index - 1;
+            while (position >= low && compare(key(records, position), key, ascending) > 0) {
+                records.putLong((position + 1) * recordWidth, key(records, position));
+                if (hasPayload) {
+                    records.putLong((position + 1) * recordWidth + Long.BYTES,
+                                    records.getLong(position * recordWidth + Long.BYTES));
+                }
+                position--;
+            }
+
+            records.putLong((position + 1) * recordWidth, key);
+            if (hasPayload) {
+                records.putLong((position + 1) * recordWidth + Long.BYTES, payload);
+            }
+        }
+    }
+
+    private long key(ByteBuffer records, int index) {
+        return records.getLong(index * recordWidth);
+    }
+
+    private void swap(ByteBuffer records, int first, int second) {
+        for (int offset = 0; offset < recordWidth; offset += Long.BYTES) {
+            int firstPosition = first * recordWidth + offset;
+            int secondPosition = second * recordWidth + offset;
+            long value = records.getLong(firstPosition);
+            records.putLong(firstPosition, records.getLong(secondPosition));
+            records.putLong(secondPosition, value);
+        }
+    }
+
+    private static int compare(long first, long second, boolean ascending) {
+        return ascending ? Long.compare(first, second) : Long.compare(second, first);
+    }
+
+}
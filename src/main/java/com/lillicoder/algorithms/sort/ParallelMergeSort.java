@@ -0,0 +1,109 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Performs a stable merge sort on a given list for a given {@link Sort.Order} across the threads of a
+ * {@link ForkJoinPool}.
+ * <p/>
+ * Both halves are sorted in parallel down to {@link #SEQUENTIAL_SIZE} elements, below which a {@link MergeSort}
+ * takes over. Halves are joined with a {@link ParallelMerger}, so the final merges of the largest halves, which
+ * would otherwise be a single threaded pass over the whole list, are split across the pool as well.
+ * <p/>
+ * Note that this sort is not an in place sort. The returned list is a new list, of fixed size when the top level
+ * merge ran in parallel. The given list must not change while it is sorted. Every task polls the
+ * {@link CancellationToken} of the thread that started the sort, since the pool's threads see none of their own.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(n log(n))</li>
+ *     <li>Average case time: O(n log(n))</li>
+ *     <li>Worst case time: O(n log(n))</li>
+ *     <li>Span: O(n / p + log(n)^2) for p threads</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class ParallelMergeSort extends Sort {
+
+    /**
+     * Lists up to this size are sorted on a single thread.
+     */
+    static final int SEQUENTIAL_SIZE = 1 << 13;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sort that runs on the common pool.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sort.
+     * @param pool Pool to sort on.
+     */
+    public ParallelMergeSort(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
+        CancellationToken cancellation = CancellationToken.current();
+        if (list.size() <= SEQUENTIAL_SIZE) {
+            return new MergeSort().sort(list, order, cancellation);
+        }
+
+        SortTask<T> task = new SortTask<>(list, order, new ParallelMerger(pool), cancellation);
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            return task.invoke();
+        }
+
+        return pool.invoke(task);
+    }
+
+    /**
+     * Sorts one half of a list, forking its own halves.
+     * @param <T> Type of element to sort.
+     */
+    private static class SortTask<T extends Comparable<? super T>> extends RecursiveTask<List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> list;
+        private final Sort.Order order;
+        private final ParallelMerger merger;
+        private final CancellationToken cancellation;
+
+        SortTask(List<T> list, Sort.Order order, ParallelMerger merger, CancellationToken cancellation) {
+            this.list = list;
+            this.order = order;
+            this.merger = merger;
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        protected List<T> compute() {
+            cancellation.throwIfCancelled();
+            if (list.size() <= SEQUENTIAL_SIZE) {
+                return new MergeSort().sort(list, order, cancellation);
+            }
+
+            int middle = list.size() >>> 1;
+            SortTask<T> left = new SortTask<>(list.subList(0, middle), order, merger, cancellation);
+            SortTask<T> right = new SortTask<>(list.subList(middle, list.size()), order, merger, cancellation);
+            left.fork();
+            List<T> sortedRight = right.compute();
+            List<T> sortedLeft = left.join();
+
+            return merger.merge(sortedLeft, sortedRight, order, cancellation);
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merges two sorted lists like {@link Merger}, but splits the work across the threads of a {@link ForkJoinPool}.
+ * <p/>
+ * The output is cut into equal segments, one per thread. For the first position of each segment a binary search
+ * along the merge path (the co-rank) finds how many of the elements before it come from the left list and how
+ * many from the right. Each segment then merges its own slices of both lists into its own part of a preallocated
+ * output, independently of every other segment. Ties are resolved in favour of the left list both in the co-rank
+ * and in each segment, so the merge is stable.
+ * <p/>
+ * Inputs too small to give every segment at least {@link #MIN_SEGMENT_SIZE} elements are merged sequentially
+ * with a {@link Merger}.
+ * <p/>
+ * Segments poll the {@link CancellationToken} of the thread that started the merge, since the pool's threads see
+ * none of their own.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Work: O(n + p log(n)) for p segments</li>
+ *     <li>Span: O(n / p + log(n))</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class ParallelMerger {
+
+    /**
+     * Smallest number of output elements worth giving a segment of its own.
+     */
+    static final int MIN_SEGMENT_SIZE = 1 << 13;
+
+    /**
+     * Mask for the loop position so that cancellation is polled once every 4096 elements.
+     */
+    private static final int CANCELLATION_MASK = (1 << 12) - 1;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a merger that runs on the common pool.
+     */
+    public ParallelMerger() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a merger.
+     * @param pool Pool to run segments on.
+     */
+    public ParallelMerger(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Merges the elements of the given lists into a single list with the given {@link Sort.Order}. Each given
+     * list is assumed to already be sorted in the given order and must not change while it is merged.
+     * @param left List to merge.
+     * @param right List to merge.
+     * @param order Order of the given lists.
+     * @param <T> Type of elements to merge. The type must support the {@link Comparable} interface.
+     * @return Sorted list. Merges that run in parallel return a fixed size list.
+     * @throws java.util.concurrent.CancellationException Thrown if the current {@link CancellationToken} is
+     * cancelled.
+     */
+    <T extends Comparable<? super T>> List<T> merge(List<T> left, List<T> right, Sort.Order order) {
+        return merge(left, right, order, CancellationToken.current());
+    }
+
+    /**
+     * Merges the elements of the given lists like {@link #merge(List, List, Sort.Order)}, polling the given token
+     * instead of the current one.
+     * @param left List to merge.
+     * @param right List to merge.
+     * @param order Order of the given lists.
+     * @param cancellation Token of the job the merge belongs to.
+     * @param <T> Type of elements to merge. The type must support the {@link Comparable} interface.
+     * @return Sorted list. Merges that run in parallel return a fixed size list.
+     * @throws java.util.concurrent.CancellationException Thrown if the given token is cancelled.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Comparable<? super T>> List<T> merge(List<T> left,
+                                                    List<T> right,
+                                                    Sort.Order order,
+                                                    CancellationToken cancellation) {
+        int size = left.size() + right.size();
+        int segments = Math.min(pool.getParallelism(), size / MIN_SEGMENT_SIZE);
+        if (segments < 2) {
+            return new Merger().merge(left, right, order, cancellation);
+        }
+
+        cancellation.throwIfCancelled();
+
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        Object[] output = new Object[size];
+
+        List<RecursiveAction> tasks = new ArrayList<>(segments);
+        for (int segment = 0; segment < segments; segment++) {
+            int from = (int) ((long) segment * size / segments);
+            int to = (int) ((long) (segment + 1) * size / segments);
+            tasks.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    mergeSegment(left, right, output, from, to, comparator, cancellation);
+                }
+            });
+        }
+
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        return (List<T>) (List<?>) Arrays.asList(output);
+    }
+
+    /**
+     * Merges the part of both lists that lands in the given range of the output.
+     * @param left Left list.
+     * @param right Right list.
+     * @param output Output for the whole merge.
+     * @param from First output position of the segment, inclusive.
+     * @param to Last output position of the segment, exclusive.
+     * @param comparator Comparator for the merge order.
+     * @param cancellation Token of the job the merge belongs to.
+     * @param <T> Type of elements to merge.
+     * @throws java.util.concurrent.CancellationException Thrown if the given token is cancelled.
+     */
+    private static <T> void mergeSegment(List<T> left,
+                                         List<T> right,
+                                         Object[] output,
+                                         int from,
+                                         int to,
+                                         Comparator<T> comparator,
+                                         CancellationToken cancellation) {
+        int leftPosition = coRank(from, left, right, comparator);
+        int rightPosition = from - leftPosition;
+        for (int index = from; index < to; index++) {
+            if (((index - from) & CANCELLATION_MASK) == CANCELLATION_MASK) {
+                cancellation.throwIfCancelled();
+            }
+
+            if (rightPosition >= right.size()
+                    || (leftPosition < left.size()
+                        && comparator.compare(left.get(leftPosition), right.get(rightPosition)) <= 0)) {
+                // Left wins ties to keep the merge stable
+                output[index] = left.get(leftPosition++);
+            } else {
+                output[index] = right.get(rightPosition++);
+            }
+        }
+    }
+
+    /**
+     * Finds how many elements of the left list precede the given output position in the stable merge of both
+     * lists, by binary search along the cross diagonal of the merge path.
+     * @param position Output position.
+     * @param left Left list.
+     * @param right Right list.
+     * @param comparator Comparator for the merge order.
+     * @param <T> Type of elements to merge.
+     * @return Number of left elements before the position; the rest come from the right list.
+     */
+    static <T> int coRank(int position, List<T> left, List<T> right, Comparator<T> comparator) {
+        int low = Math.max(0, position - right.size());
+        int high = Math.min(position, left.size());
+        while (low < high) {
+            int leftCount = (low + high) >>> 1;
+            int rightCount = position - leftCount;
+            if (comparator.compare(left.get(leftCount), right.get(rightCount - 1)) <= 0) {
+                // This left element goes before the last right element taken, so more left elements fit
+                low = leftCount + 1;
+            } else {
+                high = leftCount;
+            }
+        }
+
+        return low;
+    }
+
+}
@@ -1,18 +1,43 @@
 package com.lillicoder.algorithms.sort;
 
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
 import java.util.Comparator;
 import java.util.List;
 
 public class Partitioner {
 
+    /**
+     * Mask for the loop position so that cancellation is polled once every 4096 elements.
+     */
+    private static final int CANCELLATION_MASK = (1 << 12) - 1;
+
     /**
      * Partitions a given list and returns the index of the pivot element..
      * @param list List to partition.
      * @param order Order for the sort.
      * @param <T> Type of element to sort. The type must support the {@link Comparable} interface.
      * @return Position in the list of the pivot element after partitioning.
+     * @throws java.util.concurrent.CancellationException Thrown if the current {@link CancellationToken} is
+     * cancelled.
      */
     <T extends Comparable<? super T>> int partition(List<T> list, Sort.Order order) {
+        return partition(list, order, CancellationToken.current());
+    }
+
+    /**
+     * Partitions the given list like {@link #partition(List, Sort.Order)}, polling the given token instead of
+     * looking up the current one, for sorts that partition many times and look it up once.
+     * @param list List to partition.
+     * @param order Order for the sort.
+     * @param cancellation Token of the job the sort belongs to.
+     * @param <T> Type of element to sort. The type must support the {@link Comparable} interface.
+     * @return Position in the list of the pivot element after partitioning.
+     * @throws java.util.concurrent.CancellationException Thrown if the given token is cancelled.
+     */
+    <T extends Comparable<? super T>> int partition(List<T> list, Sort.Order order, CancellationToken cancellation) {
+        cancellation.throwIfCancelled();
+
         int right = list.size() - 1;
         int pivotIndex = right >>> 1;
         T pivotElement = list.get(pivotIndex);
@@ -25,6 +50,10 @@ public class Partitioner {
                 Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
         int storeIndex = 0;
         for (int left = 0; left < right; left++) {
+            if ((left & CANCELLATION_MASK) == CANCELLATION_MASK) {
+                cancellation.throwIfCancelled();
+            }
+
             T element = list.get(left);
             int comparison = comparator.compare(element, pivotElement);
             if (comparison < 1) {
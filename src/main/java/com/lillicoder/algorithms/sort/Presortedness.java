@@ -0,0 +1,149 @@
+package com.lillicoder.algorithms.sort;
+
+/**
+ * Measures of how close a list already is to a given {@link Sort.Order}, as produced by
+ * {@link PresortednessProfiler#profile(java.util.List, Sort.Order)}. Small enough to log or sample per request.
+ * <ul>
+ *     <li>Inversions: pairs of elements out of order, from {@code 0} when sorted to {@code n(n - 1) / 2} when
+ *     strictly reversed.</li>
+ *     <li>Ascending runs: maximal stretches already in order. A sorted list is a single run.</li>
+ *     <li>Descending runs: maximal stretches strictly in reverse order, which a sort can flip in place.</li>
+ *     <li>Longest sorted subsequence: most elements that are already in order relative to each other, so
+ *     {@code n} less this many elements must move to sort the list.</li>
+ *     <li>Distinct estimate: a {@link HyperLogLog} estimate of the number of distinct elements, by
+ *     {@link Object#hashCode()}.</li>
+ * </ul>
+ */
+public final class Presortedness {
+
+    private final int size;
+    private final long inversions;
+    private final int ascendingRuns;
+    private final int longestAscendingRun;
+    private final int descendingRuns;
+    private final int longestDescendingRun;
+    private final int longestSortedSubsequence;
+    private final long distinctEstimate;
+
+    Presortedness(int size,
+                  long inversions,
+                  int ascendingRuns,
+                  int longestAscendingRun,
+                  int descendingRuns,
+                  int longestDescendingRun,
+                  int longestSortedSubsequence,
+                  long distinctEstimate) {
+        this.size = size;
+        this.inversions = inversions;
+        this.ascendingRuns = ascendingRuns;
+        this.longestAscendingRun = longestAscendingRun;
+        this.descendingRuns = descendingRuns;
+        this.longestDescendingRun = longestDescendingRun;
+        this.longestSortedSubsequence = longestSortedSubsequence;
+        this.distinctEstimate = distinctEstimate;
+    }
+
+    /**
+     * Gets the number of elements profiled.
+     * @return Size of the list.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of pairs of elements that are out of order.
+     * @return Inversion count.
+     */
+    public long getInversions() {
+        return inversions;
+    }
+
+    /**
+     * Gets the share of all pairs of elements that are out of order.
+     * @return Ratio from {@code 0} when sorted to {@code 1} when strictly reversed, {@code 0} for fewer than two
+     *         elements.
+     */
+    public double getInversionRatio() {
+        return size < 2 ? 0 : inversions / ((double) size * (size - 1) / 2);
+    }
+
+    /**
+     * Gets the number of maximal stretches of elements in order.
+     * @return Ascending run count, {@code 0} for an empty list.
+     */
+    public int getAscendingRuns() {
+        return ascendingRuns;
+    }
+
+    /**
+     * Gets the length of the longest stretch of elements in order.
+     * @return Longest ascending run.
+     */
+    public int getLongestAscendingRun() {
+        return longestAscendingRun;
+    }
+
+    /**
+     * Gets the number of maximal stretches of elements strictly in reverse order.
+     * @return Descending run count, {@code 0} for an empty list.
+     */
+    public int getDescendingRuns() {
+        return descendingRuns;
+    }
+
+    /**
+     * Gets the length of the longest stretch of elements strictly in reverse order.
+     * @return Longest descending run.
+     */
+    public int getLongestDescendingRun() {
+        return longestDescendingRun;
+    }
+
+    /**
+     * Gets the most elements that are in order relative to each other, not necessarily next to each other.
+     * @return Length of the longest sorted subsequence.
+     */
+    public int getLongestSortedSubsequence() {
+        return longestSortedSubsequence;
+    }
+
+    /**
+     * Gets the estimated number of distinct elements.
+     * @return Distinct estimate, at most the size.
+     */
+    public long getDistinctEstimate() {
+        return distinctEstimate;
+    }
+
+    /**
+     * Gets the estimated share of elements that duplicate an earlier element.
+     * @return Ratio from {@code 0} when every element is distinct towards {@code 1} when all are equal.
+     */
+    public double getDuplicateRatio() {
+        return size == 0 ? 0 : 1 - (double) distinctEstimate / size;
+    }
+
+    /**
+     * Determines if the profiled list was sorted.
+     * @return {@code true} if no elements were out of order, {@code false} otherwise.
+     */
+    public boolean isSorted() {
+        return inversions == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Presortedness"
+                + "{size=" + size
+                + ", inversions=" + inversions
+                + ", ascendingRuns=" + ascendingRuns
+                + ", longestAscendingRun=" + longestAscendingRun
+                + ", descendingRuns=" + descendingRuns
+                + ", longestDescendingRun=" + longestDescendingRun
+                + ", longestSortedSubsequence=" + longestSortedSubsequence
+                + ", distinctEstimate=" + distinctEstimate
+                + "}";
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Measures how close a given list already is to a given {@link Sort.Order}, producing a {@link Presortedness}
+ * report, so that algorithm choice can be tuned on real inputs.
+ * <p/>
+ * Inversions are counted by a merge sort over a copy of the list, where each merge adds, for every element taken
+ * from the right half, the number of left elements it overtakes ({@link Merger#mergeCountingInversions}). Runs are
+ * counted in one pass, the longest sorted subsequence is found by patience sorting (binary searching the smallest
+ * tail of each subsequence length), and distinct elements are estimated with a {@link HyperLogLog}.
+ * <p/>
+ * Profiling runs in one of two modes:
+ * <ul>
+ *     <li>A sequential mode, chosen by creating a profiler with no pool.</li>
+ *     <li>A parallel mode, chosen by creating a profiler with a {@link ForkJoinPool}, that counts inversions with
+ *     both halves of each merge sort step forked down to chunks of {@link #MIN_CHUNK_SIZE} elements, while the
+ *     calling thread makes the other passes.</li>
+ * </ul>
+ * The list is not changed. Elements may not be {@code null}.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Time: O(n log(n))</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ */
+public class PresortednessProfiler {
+
+    /**
+     * Number of elements at or below which inversions are counted on a single thread.
+     */
+    static final int MIN_CHUNK_SIZE = 8192;
+
+    /**
+     * Ranges up to this size have their inversions counted by insertion sort.
+     */
+    private static final int INSERTION_SIZE = 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a profiler that runs on the calling thread.
+     */
+    public PresortednessProfiler() {
+        this(null);
+    }
+
+    /**
+     * Creates a profiler that counts inversions in parallel.
+     * @param pool Pool to count inversions in, or {@code null} to run on the calling thread.
+     */
+    public PresortednessProfiler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Profiles the given list against the given order.
+     * @param list List to profile.
+     * @param order Order to measure against.
+     * @param <T> Type of element. The type must support the {@link Comparable} interface.
+     * @return Presortedness of the list.
+     * @throws NullPointerException Thrown if the given list contains a {@code null} element.
+     */
+    public <T extends Comparable<? super T>> Presortedness profile(List<T> list, Sort.Order order) {
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        Object[] elements = list.toArray();
+        if (pool == null || elements.length <= MIN_CHUNK_SIZE) {
+            return profile(elements, comparator, null);
+        }
+
+        InversionTask<T> task = new InversionTask<>(elements.clone(), new Object[elements.length], 0,
+                                                    elements.length, comparator);
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            task.fork();
+        } else {
+            pool.execute(task);
+        }
+
+        return profile(elements, comparator, task);
+    }
+
+    /**
+     * Makes every pass over the given elements.
+     * @param elements Elements in list order.
+     * @param comparator Comparator for the order.
+     * @param inversionTask Task already counting inversions over a copy of the elements, or {@code null} to count
+     *                      them over the elements themselves once the other passes are done.
+     * @param <T> Type of element.
+     * @return Presortedness of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Presortedness profile(Object[] elements, Comparator<T> comparator,
+                                             InversionTask<T> inversionTask) {
+        int size = elements.length;
+
+        int ascendingRuns = size == 0 ? 0 : 1;
+        int descendingRuns = ascendingRuns;
+        int longestAscendingRun = ascendingRuns;
+        int longestDescendingRun = ascendingRuns;
+        int ascendingRun = ascendingRuns;
+        int descendingRun = ascendingRuns;
+        HyperLogLog distinct = new HyperLogLog();
+        for (int index = 0; index < size; index++) {
+            distinct.add(elements[index]);
+            if (index == 0) {
+                continue;
+            }
+
+            int comparison = comparator.compare((T) elements[index - 1], (T) elements[index]);
+            if (comparison <= 0) {
+                longestAscendingRun = Math.max(longestAscendingRun, ++ascendingRun);
+            } else {
+                ascendingRuns++;
+                ascendingRun = 1;
+            }
+            if (comparison > 0) {
+                longestDescendingRun = Math.max(longestDescendingRun, ++descendingRun);
+            } else {
+                descendingRuns++;
+                descendingRun = 1;
+            }
+        }
+
+        int longestSortedSubsequence = longestSortedSubsequence(elements, comparator);
+
+        long inversions = inversionTask != null
+                ? inversionTask.join()
+                : countInversions(elements, new Object[size], 0, size, comparator);
+
+        return new Presortedness(size,
+                                 inversions,
+                                 ascendingRuns,
+                                 longestAscendingRun,
+                                 descendingRuns,
+                                 longestDescendingRun,
+                                 longestSortedSubsequence,
+                                 Math.min(size, distinct.estimate()));
+    }
+
+    /**
+     * Finds the length of the longest subsequence of the given elements that is in order, equal elements
+     * included.
+     * @param elements Elements in list order.
+     * @param comparator Comparator for the order.
+     * @param <T> Type of element.
+     * @return Longest sorted subsequence length.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int longestSortedSubsequence(Object[] elements, Comparator<T> comparator) {
+        // Smallest last element of a sorted subsequence of each length
+        Object[] tails = new Object[elements.length];
+        int length = 0;
+        for (Object element : elements) {
+            // First tail that the element sorts before, so equal elements extend a subsequence
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare((T) tails[middle], (T) element) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            tails[low] = element;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Sorts a range of the given array in place, counting the inversions in it.
+     * @param elements Array to sort.
+     * @param scratch Scratch array at least as long.
+     * @param from Start of the range.
+     * @param to End of the range.
+     * @param comparator Comparator for the order.
+     * @param <T> Type of element.
+     * @return Number of inversions in the range.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> long countInversions(Object[] elements, Object[] scratch, int from, int to,
+                                            Comparator<T> comparator) {
+        if (to - from <= INSERTION_SIZE) {
+            // Each shift past a greater element undoes one inversion
+            long inversions = 0;
+            for (int index = from + 1; index < to; index++) {
+                Object element = elements[index];
+                int position = index - 1;
+                while (position >= from && comparator.compare((T) elements[position], (T) element) > 0) {
+                    elements[position + 1] = elements[position];
+                    position--;
+                    inversions++;
+                }
+                elements[position + 1] = element;
+            }
+
+            return inversions;
+        }
+
+        int middle = (from + to) >>> 1;
+        long inversions = countInversions(elements, scratch, from, middle, comparator)
+                + countInversions(elements, scratch, middle, to, comparator);
+        return inversions + mergeBack(elements, scratch, from, middle, to, comparator);
+    }
+
+    /**
+     * Merges two sorted adjacent ranges through the scratch array and back, counting the inversions between them.
+     * @param elements Array holding the ranges.
+     * @param scratch Scratch array at least as long.
+     * @param from Start of the left range.
+     * @param middle End of the left range and start of the right range.
+     * @param to End of the right range.
+     * @param comparator Comparator for the order.
+     * @param <T> Type of element.
+     * @return Number of inversions between the ranges.
+     */
+    private static <T> long mergeBack(Object[] elements, Object[] scratch, int from, int middle, int to,
+                                      Comparator<T> comparator) {
+        long inversions = Merger.mergeCountingInversions(elements, scratch, from, middle, to, comparator);
+        System.arraycopy(scratch, from, elements, from, to - from);
+        return inversions;
+    }
+
+    /**
+     * Counts the inversions in one range of an array, forking its own halves.
+     * @param <T> Type of element.
+     */
+    private static class InversionTask<T> extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] elements;
+        private final Object[] scratch;
+        private final int from;
+        private final int to;
+        private final Comparator<T> comparator;
+
+        InversionTask(Object[] elements, Object[] scratch, int from, int to, Comparator<T> comparator) {
+            this.elements = elements;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= MIN_CHUNK_SIZE) {
+                return countInversions(elements, scratch, from, to, comparator);
+            }
+
+            int middle = (from + to) >>> 1;
+            InversionTask<T> left = new InversionTask<>(elements, scratch, from, middle, comparator);
+            InversionTask<T> right = new InversionTask<>(elements, scratch, middle, to, comparator);
+            left.fork();
+            long inversions = right.compute() + left.join();
+            return inversions + mergeBack(elements, scratch, from, middle, to, comparator);
+        }
+
+    }
+
+}
@@ -1,9 +1,16 @@
 package com.lillicoder.algorithms.sort;
 
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Performs a quicksort on a given list for a given {@link Sort.Order}.
+ * <p/>
+ * Partitions of up to {@link SortingNetwork#MAX_SIZE} elements are finished with a {@link SortingNetwork}, through
+ * one small buffer for the whole sort. {@code int} and {@code long} arrays are sorted in place without boxing, with
+ * a median of three pivot and the networks' branch free primitive steps at the leaves.
  *
  * <h4>Complexity</h4>
  * <ul>
@@ -17,13 +24,169 @@ public class Quicksort extends Sort {
 
     @Override
     public <T extends Comparable<? super T>> List<T> sort(List<T> list, Sort.Order order) {
-        if (list.size() > 1) {
-            int partition = new Partitioner().partition(list, order);
-            sort(list.subList(0, partition), order);
-            sort(list.subList(partition + 1, list.size()), order);
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        sort(list, order, comparator, new Object[SortingNetwork.MAX_SIZE], new Partitioner(),
+             CancellationToken.current());
+        return list;
+    }
+
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(int[] array, Sort.Order order) {
+        quicksort(array, 0, array.length);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(array);
         }
+    }
 
-        return list;
+    /**
+     * Sorts the given array in place.
+     * @param array Array to sort.
+     * @param order Order for the sort.
+     */
+    public void sort(long[] array, Sort.Order order) {
+        quicksort(array, 0, array.length);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(array);
+        }
+    }
+
+    /**
+     * Sorts the given list in place.
+     * @param list List to sort.
+     * @param order Order for the sort.
+     * @param comparator Comparator for the order.
+     * @param leaf Buffer of {@link SortingNetwork#MAX_SIZE} elements shared by every leaf of the sort.
+     * @param partitioner Partitioner shared by every level of the sort.
+     * @param cancellation Token of the job the sort belongs to, looked up once for the whole sort.
+     * @param <T> Type of element to sort.
+     */
+    private static <T extends Comparable<? super T>> void sort(List<T> list,
+                                                               Sort.Order order,
+                                                               Comparator<T> comparator,
+                                                               Object[] leaf,
+                                                               Partitioner partitioner,
+                                                               CancellationToken cancellation) {
+        if (list.size() > SortingNetwork.MAX_SIZE) {
+            int partition = partitioner.partition(list, order, cancellation);
+            sort(list.subList(0, partition), order, comparator, leaf, partitioner, cancellation);
+            sort(list.subList(partition + 1, list.size()), order, comparator, leaf, partitioner, cancellation);
+        } else if (list.size() > 1) {
+            SortingNetwork.sort(list, leaf, comparator);
+        }
+    }
+
+    /**
+     * Sorts the given range in ascending order. The smaller side of each partition is sorted recursively and the
+     * larger side iteratively, which bounds the stack depth to O(log(n)).
+     * @param array Array to sort.
+     * @param low First position of the range, inclusive.
+     * @param high Last position of the range, exclusive.
+     */
+    private static void quicksort(int[] array, int low, int high) {
+        while (high - low > SortingNetwork.MAX_SIZE) {
+            // Order the first, middle and last elements so the middle holds the median of the three
+            int middle = (low + high - 1) >>> 1;
+            if (array[middle] < array[low]) {
+                swap(array, middle, low);
+            }
+            if (array[high - 1] < array[low]) {
+                swap(array, high - 1, low);
+            }
+            if (array[high - 1] < array[middle]) {
+                swap(array, high - 1, middle);
+            }
+            int pivot = array[middle];
+
+            // Hoare partition, equal elements are split evenly between both sides
+            int left = low - 1;
+            int right = high;
+            while (true) {
+                do {
+                    left++;
+                } while (array[left] < pivot);
+                do {
+                    right--;
+                } while (array[right] > pivot);
+                if (left >= right) {
+                    break;
+                }
+                swap(array, left, right);
+            }
+
+            if (right + 1 - low < high - right - 1) {
+                quicksort(array, low, right + 1);
+                low = right + 1;
+            } else {
+                quicksort(array, right + 1, high);
+                high = right + 1;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high, Sort.Order.ASCENDING);
+    }
+
+    /**
+     * Sorts the given range in ascending order, as {@link #quicksort(int[], int, int)} does.
+     * @param array Array to sort.
+     * @param low First position of the range, inclusive.
+     * @param high Last position of the range, exclusive.
+     */
+    private static void quicksort(long[] array, int low, int high) {
+        while (high - low > SortingNetwork.MAX_SIZE) {
+            int middle = (low + high - 1) >>> 1;
+            if (array[middle] < array[low]) {
+                swap(array, middle, low);
+            }
+            if (array[high - 1] < array[low]) {
+                swap(array, high - 1, low);
+            }
+            if (array[high - 1] < array[middle]) {
+                swap(array, high - 1, middle);
+            }
+            long pivot = array[middle];
+
+            int left = low - 1;
+            int right = high;
+            while (true) {
+                do {
+                    left++;
+                } while (array[left] < pivot);
+                do {
+                    right--;
+                } while (array[right] > pivot);
+                if (left >= right) {
+                    break;
+                }
+                swap(array, left, right);
+            }
+
+            if (right + 1 - low < high - right - 1) {
+                quicksort(array, low, right + 1);
+                low = right + 1;
+            } else {
+                quicksort(array, right + 1, high);
+                high = right + 1;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high, Sort.Order.ASCENDING);
+    }
+
+    private static void swap(int[] array, int first, int second) {
+        int swap = array[first];
+        array[first] = array[second];
+        array[second] = swap;
+    }
+
+    private static void swap(long[] array, int first, int second) {
+        long swap = array[first];
+        array[first] = array[second];
+        array[second] = swap;
     }
 
 }
@@ -0,0 +1,681 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Combines two sorted inputs with a set {@link Operation} in a single linear sweep, the same way {@link Merger}
+ * combines them into one sorted list. Each input is assumed to already be sorted in the given {@link Sort.Order}
+ * and the result is sorted in that order too.
+ * <p/>
+ * Inputs are treated as multisets: an element that appears {@code m} times on the left and {@code n} times on
+ * the right appears {@code max(m, n)} times in a union, {@code min(m, n)} times in an intersection,
+ * {@code max(m - n, 0)} times in a difference and {@code |m - n|} times in a symmetric difference. When
+ * {@code distinct} is requested, runs of equal elements in each input are collapsed first, giving plain set
+ * semantics where every element appears at most once. When equal elements are taken from both sides, the left
+ * element is kept.
+ * <p/>
+ * Intersections of very differently sized inputs gallop through the larger input with exponential searches,
+ * so they cost O(m log(n / m)) rather than O(n + m).
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Best case time: O(m log(n / m))</li>
+ *     <li>Average case time: O(n + m)</li>
+ *     <li>Worst case time: O(n + m)</li>
+ *     <li>Worst case space: O(n + m)</li>
+ * </ul>
+ */
+public class SetMerger {
+
+    /**
+     * Size ratio between the larger and smaller input above which an intersection gallops.
+     */
+    static final int GALLOP_RATIO = 32;
+
+    /**
+     * Describes available set operations.
+     */
+    public enum Operation {
+
+        /**
+         * Elements in either input.
+         */
+        UNION(true, true, true),
+
+        /**
+         * Elements in both inputs.
+         */
+        INTERSECTION(false, false, true),
+
+        /**
+         * Elements in the left input but not the right.
+         */
+        DIFFERENCE(true, false, false),
+
+        /**
+         * Elements in exactly one of the inputs.
+         */
+        SYMMETRIC_DIFFERENCE(true, true, false);
+
+        private final boolean keepsLeft;
+        private final boolean keepsRight;
+        private final boolean keepsBoth;
+
+        Operation(boolean keepsLeft, boolean keepsRight, boolean keepsBoth) {
+            this.keepsLeft = keepsLeft;
+            this.keepsRight = keepsRight;
+            this.keepsBoth = keepsBoth;
+        }
+
+    }
+
+    /**
+     * Gets the union of the given sorted lists.
+     * @param left List to combine.
+     * @param right List to combine.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Sorted union.
+     */
+    public <T extends Comparable<? super T>> List<T> union(List<T> left,
+                                                           List<T> right,
+                                                           Sort.Order order,
+                                                           boolean distinct) {
+        return merge(left, right, Operation.UNION, order, distinct);
+    }
+
+    /**
+     * Gets the intersection of the given sorted lists.
+     * @param left List to combine.
+     * @param right List to combine.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Sorted intersection.
+     */
+    public <T extends Comparable<? super T>> List<T> intersection(List<T> left,
+                                                                  List<T> right,
+                                                                  Sort.Order order,
+                                                                  boolean distinct) {
+        return merge(left, right, Operation.INTERSECTION, order, distinct);
+    }
+
+    /**
+     * Gets the elements of the given left sorted list that are not in the given right sorted list.
+     * @param left List to take elements from.
+     * @param right List of elements to remove.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Sorted difference.
+     */
+    public <T extends Comparable<? super T>> List<T> difference(List<T> left,
+                                                                List<T> right,
+                                                                Sort.Order order,
+                                                                boolean distinct) {
+        return merge(left, right, Operation.DIFFERENCE, order, distinct);
+    }
+
+    /**
+     * Gets the elements that are in exactly one of the given sorted lists.
+     * @param left List to combine.
+     * @param right List to combine.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Sorted symmetric difference.
+     */
+    public <T extends Comparable<? super T>> List<T> symmetricDifference(List<T> left,
+                                                                         List<T> right,
+                                                                         Sort.Order order,
+                                                                         boolean distinct) {
+        return merge(left, right, Operation.SYMMETRIC_DIFFERENCE, order, distinct);
+    }
+
+    /**
+     * Combines the given sorted lists with the given {@link Operation}.
+     * @param left List to combine.
+     * @param right List to combine.
+     * @param operation Operation to apply.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Sorted result.
+     */
+    public <T extends Comparable<? super T>> List<T> merge(List<T> left,
+                                                           List<T> right,
+                                                           Operation operation,
+                                                           Sort.Order order,
+                                                           boolean distinct) {
+        if (operation == Operation.INTERSECTION
+                && left instanceof RandomAccess
+                && right instanceof RandomAccess
+                && isSkewed(left.size(), right.size())) {
+            return gallopingIntersection(left, right, order, distinct);
+        }
+
+        List<T> merged = new ArrayList<>();
+        Iterator<T> iterator = iterator(left.iterator(), right.iterator(), operation, order, distinct);
+        while (iterator.hasNext()) {
+            merged.add(iterator.next());
+        }
+
+        return merged;
+    }
+
+    /**
+     * Lazily combines the given sorted iterators with the given {@link Operation}. Elements are only pulled from
+     * the inputs as the result is consumed, so no intermediate result is ever materialized.
+     * @param left Iterator to combine.
+     * @param right Iterator to combine.
+     * @param operation Operation to apply.
+     * @param order Order of both iterators.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to combine. The type must support the {@link Comparable} interface.
+     * @return Iterator over the sorted result.
+     */
+    public <T extends Comparable<? super T>> Iterator<T> iterator(Iterator<T> left,
+                                                                  Iterator<T> right,
+                                                                  Operation operation,
+                                                                  Sort.Order order,
+                                                                  boolean distinct) {
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        return new SweepIterator<>(new PeekingIterator<>(left, comparator, distinct),
+                                   new PeekingIterator<>(right, comparator, distinct),
+                                   operation,
+                                   comparator);
+    }
+
+    /**
+     * Combines the given sorted arrays with the given {@link Operation}.
+     * @param left Array to combine.
+     * @param right Array to combine.
+     * @param operation Operation to apply.
+     * @param order Order of both arrays.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @return Sorted result.
+     */
+    public int[] merge(int[] left, int[] right, Operation operation, Sort.Order order, boolean distinct) {
+        boolean ascending = order == Sort.Order.ASCENDING;
+        if (operation == Operation.INTERSECTION && isSkewed(left.length, right.length)) {
+            return gallopingIntersection(left, right, ascending, distinct);
+        }
+
+        int[] merged = new int[capacity(operation, left.length, right.length)];
+        int count = 0;
+        int leftPosition = 0;
+        int rightPosition = 0;
+        while (leftPosition < left.length || rightPosition < right.length) {
+            int comparison;
+            if (leftPosition >= left.length) {
+                comparison = 1;
+            } else if (rightPosition >= right.length) {
+                comparison = -1;
+            } else {
+                comparison = ascending
+                        ? Integer.compare(left[leftPosition], right[rightPosition])
+                        : Integer.compare(right[rightPosition], left[leftPosition]);
+            }
+
+            if (comparison < 0) {
+                // Left precedes right, left element is only in left
+                int element = left[leftPosition];
+                leftPosition = distinct ? skip(left, leftPosition) : leftPosition + 1;
+                if (operation.keepsLeft) {
+                    merged[count++] = element;
+                }
+            } else if (comparison > 0) {
+                // Right precedes left, right element is only in right
+                int element = right[rightPosition];
+                rightPosition = distinct ? skip(right, rightPosition) : rightPosition + 1;
+                if (operation.keepsRight) {
+                    merged[count++] = element;
+                }
+            } else {
+                // Element is in both, take left
+                int element = left[leftPosition];
+                leftPosition = distinct ? skip(left, leftPosition) : leftPosition + 1;
+                rightPosition = distinct ? skip(right, rightPosition) : rightPosition + 1;
+                if (operation.keepsBoth) {
+                    merged[count++] = element;
+                }
+            }
+        }
+
+        return Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * Combines the given sorted arrays with the given {@link Operation}.
+     * @param left Array to combine.
+     * @param right Array to combine.
+     * @param operation Operation to apply.
+     * @param order Order of both arrays.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @return Sorted result.
+     */
+    public long[] merge(long[] left, long[] right, Operation operation, Sort.Order order, boolean distinct) {
+        boolean ascending = order == Sort.Order.ASCENDING;
+        if (operation == Operation.INTERSECTION && isSkewed(left.length, right.length)) {
+            return gallopingIntersection(left, right, ascending, distinct);
+        }
+
+        long[] merged = new long[capacity(operation, left.length, right.length)];
+        int count = 0;
+        int leftPosition = 0;
+        int rightPosition = 0;
+        while (leftPosition < left.length || rightPosition < right.length) {
+            int comparison;
+            if (leftPosition >= left.length) {
+                comparison = 1;
+            } else if (rightPosition >= right.length) {
+                comparison = -1;
+            } else {
+                comparison = ascending
+                        ? Long.compare(left[leftPosition], right[rightPosition])
+                        : Long.compare(right[rightPosition], left[leftPosition]);
+            }
+
+            if (comparison < 0) {
+                // Left precedes right, left element is only in left
+                long element = left[leftPosition];
+                leftPosition = distinct ? skip(left, leftPosition) : leftPosition + 1;
+                if (operation.keepsLeft) {
+                    merged[count++] = element;
+                }
+            } else if (comparison > 0) {
+                // Right precedes left, right element is only in right
+                long element = right[rightPosition];
+                rightPosition = distinct ? skip(right, rightPosition) : rightPosition + 1;
+                if (operation.keepsRight) {
+                    merged[count++] = element;
+                }
+            } else {
+                // Element is in both, take left
+                long element = left[leftPosition];
+                leftPosition = distinct ? skip(left, leftPosition) : leftPosition + 1;
+                rightPosition = distinct ? skip(right, rightPosition) : rightPosition + 1;
+                if (operation.keepsBoth) {
+                    merged[count++] = element;
+                }
+            }
+        }
+
+        return Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * Intersects the given sorted lists by walking the smaller one and galloping through the larger one.
+     * @param left List to intersect.
+     * @param right List to intersect.
+     * @param order Order of both lists.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @param <T> Type of elements to intersect. The type must support the {@link Comparable} interface.
+     * @return Sorted intersection.
+     */
+    private <T extends Comparable<? super T>> List<T> gallopingIntersection(List<T> left,
+                                                                            List<T> right,
+                                                                            Sort.Order order,
+                                                                            boolean distinct) {
+        Comparator<T> comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+        boolean leftIsSmall = left.size() <= right.size();
+        List<T> small = leftIsSmall ? left : right;
+        List<T> large = leftIsSmall ? right : left;
+
+        List<T> intersection = new ArrayList<>(small.size());
+        int position = 0;
+        for (int index = 0; index < small.size() && position < large.size(); index++) {
+            T element = small.get(index);
+            if (distinct && index > 0 && comparator.compare(small.get(index - 1), element) == 0) {
+                continue;
+            }
+
+            // Exponential search for the first large element that does not precede this one
+            int low = position;
+            int high = position;
+            int step = 1;
+            while (high < large.size() && comparator.compare(large.get(high), element) < 0) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            high = Math.min(high, large.size());
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(large.get(middle), element) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            position = low;
+            if (position < large.size() && comparator.compare(large.get(position), element) == 0) {
+                intersection.add(leftIsSmall ? element : large.get(position));
+                position++;
+                while (distinct && position < large.size() && comparator.compare(large.get(position), element) == 0) {
+                    position++;
+                }
+            }
+        }
+
+        return intersection;
+    }
+
+    /**
+     * Intersects the given sorted arrays by walking the smaller one and galloping through the larger one.
+     * @param left Array to intersect.
+     * @param right Array to intersect.
+     * @param ascending {@code true} if both arrays are in ascending order, {@code false} if descending.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @return Sorted intersection.
+     */
+    private int[] gallopingIntersection(int[] left, int[] right, boolean ascending, boolean distinct) {
+        int[] small = left.length <= right.length ? left : right;
+        int[] large = left.length <= right.length ? right : left;
+
+        int[] intersection = new int[small.length];
+        int count = 0;
+        int position = 0;
+        for (int index = 0; index < small.length && position < large.length; index++) {
+            int element = small[index];
+            if (distinct && index > 0 && small[index - 1] == element) {
+                continue;
+            }
+
+            // Exponential search for the first large element that does not precede this one
+            int low = position;
+            int high = position;
+            int step = 1;
+            while (high < large.length && (ascending ? large[high] < element : large[high] > element)) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            high = Math.min(high, large.length);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ascending ? large[middle] < element : large[middle] > element) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            position = low;
+            if (position < large.length && large[position] == element) {
+                intersection[count++] = element;
+                position = distinct ? skip(large, position) : position + 1;
+            }
+        }
+
+        return Arrays.copyOf(intersection, count);
+    }
+
+    /**
+     * Intersects the given sorted arrays by walking the smaller one and galloping through the larger one.
+     * @param left Array to intersect.
+     * @param right Array to intersect.
+     * @param ascending {@code true} if both arrays are in ascending order, {@code false} if descending.
+     * @param distinct {@code true} to collapse duplicates so each element appears once, {@code false} otherwise.
+     * @return Sorted intersection.
+     */
+    private long[] gallopingIntersection(long[] left, long[] right, boolean ascending, boolean distinct) {
+        long[] small = left.length <= right.length ? left : right;
+        long[] large = left.length <= right.length ? right : left;
+
+        long[] intersection = new long[small.length];
+        int count = 0;
+        int position = 0;
+        for (int index = 0; index < small.length && position < large.length; index++) {
+            long element = small[index];
+            if (distinct && index > 0 && small[index - 1] == element) {
+                continue;
+            }
+
+            // Exponential search for the first large element that does not precede this one
+            int low = position;
+            int high = position;
+            int step = 1;
+            while (high < large.length && (ascending ? large[high] < element : large[high] > element)) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            high = Math.min(high, large.length);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ascending ? large[middle] < element : large[middle] > element) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            position = low;
+            if (position < large.length && large[position] == element) {
+                intersection[count++] = element;
+                position = distinct ? skip(large, position) : position + 1;
+            }
+        }
+
+        return Arrays.copyOf(intersection, count);
+    }
+
+    /**
+     * Determines if the given input sizes are different enough for an intersection to gallop.
+     * @param leftSize Size of the left input.
+     * @param rightSize Size of the right input.
+     * @return {@code true} if the larger input is more than {@link #GALLOP_RATIO} times the smaller.
+     */
+    private static boolean isSkewed(int leftSize, int rightSize) {
+        return (long) Math.min(leftSize, rightSize) * GALLOP_RATIO < Math.max(leftSize, rightSize);
+    }
+
+    /**
+     * Gets the largest possible result size of the given operation.
+     * @param operation Operation to apply.
+     * @param leftSize Size of the left input.
+     * @param rightSize Size of the right input.
+     * @return Largest possible result size.
+     */
+    private static int capacity(Operation operation, int leftSize, int rightSize) {
+        switch (operation) {
+            case INTERSECTION:
+                return Math.min(leftSize, rightSize);
+            case DIFFERENCE:
+                return leftSize;
+            default:
+                return leftSize + rightSize;
+        }
+    }
+
+    /**
+     * Gets the position after the run of elements equal to the element at the given position.
+     * @param array Array to walk.
+     * @param position Position of the first element in the run.
+     * @return Position of the first element after the run.
+     */
+    private static int skip(int[] array, int position) {
+        int element = array[position];
+        do {
+            position++;
+        } while (position < array.length && array[position] == element);
+
+        return position;
+    }
+
+    /**
+     * Gets the position after the run of elements equal to the element at the given position.
+     * @param array Array to walk.
+     * @param position Position of the first element in the run.
+     * @return Position of the first element after the run.
+     */
+    private static int skip(long[] array, int position) {
+        long element = array[position];
+        do {
+            position++;
+        } while (position < array.length && array[position] == element);
+
+        return position;
+    }
+
+    /**
+     * {@link Iterator} that can look at its next element without consuming it, and optionally collapses runs
+     * of equal elements.
+     * @param <T> Type of element.
+     */
+    private static class PeekingIterator<T> {
+
+        private final Iterator<T> iterator;
+        private final Comparator<T> comparator;
+        private final boolean distinct;
+
+        private T next;
+        private boolean hasNext;
+
+        PeekingIterator(Iterator<T> iterator, Comparator<T> comparator, boolean distinct) {
+            this.iterator = iterator;
+            this.comparator = comparator;
+            this.distinct = distinct;
+            hasNext = iterator.hasNext();
+            if (hasNext) {
+                next = iterator.next();
+            }
+        }
+
+        boolean hasNext() {
+            return hasNext;
+        }
+
+        T peek() {
+            return next;
+        }
+
+        T next() {
+            T current = next;
+            hasNext = false;
+            while (iterator.hasNext()) {
+                T candidate = iterator.next();
+                if (!distinct || comparator.compare(current, candidate) != 0) {
+                    next = candidate;
+                    hasNext = true;
+                    break;
+                }
+            }
+
+            if (!hasNext) {
+                next = null;
+            }
+
+            return current;
+        }
+
+    }
+
+    /**
+     * {@link Iterator} that sweeps two sorted inputs and yields the elements kept by an {@link Operation}.
+     * @param <T> Type of element.
+     */
+    private static class SweepIterator<T> implements Iterator<T> {
+
+        private final PeekingIterator<T> left;
+        private final PeekingIterator<T> right;
+        private final Operation operation;
+        private final Comparator<T> comparator;
+
+        private T next;
+        private boolean hasNext;
+
+        SweepIterator(PeekingIterator<T> left,
+                      PeekingIterator<T> right,
+                      Operation operation,
+                      Comparator<T> comparator) {
+            this.left = left;
+            this.right = right;
+            this.operation = operation;
+            this.comparator = comparator;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+
+            T current = next;
+            advance();
+            return current;
+        }
+
+        /**
+         * Moves to the next element kept by the operation, if any.
+         */
+        private void advance() {
+            hasNext = false;
+            next = null;
+            while (left.hasNext() || right.hasNext()) {
+                if (!right.hasNext()) {
+                    // Only left remains, every remaining element is only in left
+                    if (!operation.keepsLeft) {
+                        return;
+                    }
+                    emit(left.next());
+                    return;
+                }
+                if (!left.hasNext()) {
+                    // Only right remains, every remaining element is only in right
+                    if (!operation.keepsRight) {
+                        return;
+                    }
+                    emit(right.next());
+                    return;
+                }
+
+                int comparison = comparator.compare(left.peek(), right.peek());
+                if (comparison < 0) {
+                    T element = left.next();
+                    if (operation.keepsLeft) {
+                        emit(element);
+                        return;
+                    }
+                } else if (comparison > 0) {
+                    T element = right.next();
+                    if (operation.keepsRight) {
+                        emit(element);
+                        return;
+                    }
+                } else {
+                    T element = left.next();
+                    right.next();
+                    if (operation.keepsBoth) {
+                        emit(element);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void emit(T element) {
+            next = element;
+            hasNext = true;
+        }
+
+    }
+
+}
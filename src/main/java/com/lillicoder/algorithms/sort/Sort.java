@@ -108,4 +108,46 @@ public abstract class Sort implements ISort {
         return true;
     }
 
+    /**
+     * Reverses the given array in place, turning an ascending sort into a descending one.
+     * @param array Array to reverse.
+     */
+    static void reverse(int[] array) {
+        for (int index = 0; index < array.length / 2; index++) {
+            int swap = array[index];
+            array[index] = array[array.length - 1 - index];
+            array[array.length - 1 - index] = swap;
+        }
+    }
+
+    /**
+     * Reverses the given array in place, turning an ascending sort into a descending one.
+     * @param array Array to reverse.
+     */
+    static void reverse(long[] array) {
+        for (int index = 0; index < array.length / 2; index++) {
+            long swap = array[index];
+            array[index] = array[array.length - 1 - index];
+            array[array.length - 1 - index] = swap;
+        }
+    }
+
+    /**
+     * Measures how close the given list is to being sorted in the given {@link Order}. See
+     * {@link PresortednessProfiler}.
+     *
+     * <h4>Complexity</h4>
+     * <ul>
+     *     <li>Time: O(n log(n))</li>
+     *     <li>Worst case space: O(n)</li>
+     * </ul>
+     * @param list List to profile.
+     * @param order Order to measure against.
+     * @param <T> Type of list elements. The type must support the {@link Comparable} interface.
+     * @return Presortedness of the given list.
+     */
+    <T extends Comparable<? super T>> Presortedness profile(List<T> list, Order order) {
+        return new PresortednessProfiler().profile(list, order);
+    }
+
 }
@@ -0,0 +1,250 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Growing collection of elements that is kept sorted in a given {@link Sort.Order} as batches are appended.
+ * <p/>
+ * Rather than re-sorting everything after each append, only the new batch is sorted (with a given {@link ISort},
+ * {@link MergeSort} by default). The sorted batch becomes a new run, and runs are merged with {@link Merger} in
+ * the manner of a binary counter or log-structured merge tree: while the newest run is at least as large as the
+ * run before it, the two are merged. Run sizes therefore at least double from newest to oldest, there are never
+ * more than log(n) runs, and each element takes part in at most log(n) merges over its lifetime.
+ * <p/>
+ * Searches and range queries work across the runs in between appends. Older runs are always merged as the left
+ * side, so with a stable batch sort equal elements keep the order they were appended in.
+ *
+ * <h4>Complexity</h4>
+ * <ul>
+ *     <li>Append time: O(b log(b)) to sort a batch of size b, plus amortized O(b log(n)) merging</li>
+ *     <li>Search time: O(log(n)^2)</li>
+ *     <li>Range time: O(log(n)^2 + k log(log(n))) for k elements in range</li>
+ *     <li>Worst case space: O(n)</li>
+ * </ul>
+ * @param <T> Type of element. The type must support the {@link Comparable} interface.
+ */
+public class SortedBuffer<T extends Comparable<? super T>> {
+
+    private final ISort sort;
+    private final Sort.Order order;
+    private final Comparator<T> comparator;
+
+    /**
+     * Sorted runs, oldest and largest first.
+     */
+    private final List<List<T>> runs = new ArrayList<>();
+    private int size;
+
+    /**
+     * Creates an empty buffer that sorts appended batches with a {@link MergeSort}.
+     * @param order Order to keep elements in.
+     */
+    public SortedBuffer(Sort.Order order) {
+        this(new MergeSort(), order);
+    }
+
+    /**
+     * Creates an empty buffer.
+     * @param sort Sort to use for each appended batch.
+     * @param order Order to keep elements in.
+     */
+    public SortedBuffer(ISort sort, Sort.Order order) {
+        this.sort = sort;
+        this.order = order;
+        this.comparator =
+                order == Sort.Order.ASCENDING ? new Sort.AscendingComparator<>() : new Sort.DescendingComparator<>();
+    }
+
+    /**
+     * Appends the given element.
+     * @param element Element to append.
+     * @throws NullPointerException Thrown if the given element is {@code null}.
+     */
+    public void add(T element) {
+        addAll(Collections.singletonList(element));
+    }
+
+    /**
+     * Appends the given batch of elements. Only the batch itself is sorted, it is then merged with existing runs
+     * of no greater size.
+     * @param batch Elements to append.
+     * @throws NullPointerException Thrown if the given batch contains a {@code null} element.
+     */
+    public void addAll(Collection<? extends T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<T> run = sort.sort(new ArrayList<T>(batch), order);
+
+        Merger merger = new Merger();
+        CancellationToken cancellation = CancellationToken.current();
+        while (!runs.isEmpty() && runs.get(runs.size() - 1).size() <= run.size()) {
+            // Older run goes on the left so equal elements stay in append order
+            List<T> previous = runs.remove(runs.size() - 1);
+            run = merger.merge(previous, run, order, cancellation);
+        }
+
+        runs.add(run);
+        size += batch.size();
+    }
+
+    /**
+     * Searches this buffer for the given element.
+     * @param toFind Element to find.
+     * @return Position of the first matching element in sorted order, or {@code -1} if there is no such element.
+     */
+    public int search(T toFind) {
+        int position = 0;
+        boolean found = false;
+        for (List<T> run : runs) {
+            int lowerBound = lowerBound(run, toFind);
+            position += lowerBound;
+            if (lowerBound < run.size() && comparator.compare(run.get(lowerBound), toFind) == 0) {
+                found = true;
+            }
+        }
+
+        return found ? position : -1;
+    }
+
+    /**
+     * Counts the elements in this buffer that match the given element.
+     * @param toFind Element to count.
+     * @return Number of matching elements.
+     */
+    public int count(T toFind) {
+        int count = 0;
+        for (List<T> run : runs) {
+            count += upperBound(run, toFind) - lowerBound(run, toFind);
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the elements of this buffer from the given element, inclusive, to the given element, exclusive.
+     * Bounds are relative to this buffer's order, so for a descending buffer {@code from} is the larger bound.
+     * @param from Inclusive first bound.
+     * @param to Exclusive last bound.
+     * @return Sorted elements in the range.
+     */
+    public List<T> range(T from, T to) {
+        List<List<T>> pieces = new ArrayList<>(runs.size());
+        for (List<T> run : runs) {
+            int start = lowerBound(run, from);
+            int end = Math.max(start, lowerBound(run, to));
+            pieces.add(run.subList(start, end));
+        }
+
+        return mergeAll(pieces);
+    }
+
+    /**
+     * Gets all elements of this buffer in sorted order. This merges every run into one, so later appends start
+     * from a single run again.
+     * @return Sorted copy of this buffer's elements.
+     */
+    public List<T> toList() {
+        if (runs.size() > 1) {
+            List<T> merged = mergeAll(runs);
+            runs.clear();
+            runs.add(merged);
+        }
+
+        return runs.isEmpty() ? new ArrayList<T>() : new ArrayList<>(runs.get(0));
+    }
+
+    /**
+     * Gets the number of elements in this buffer.
+     * @return Number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of sorted runs this buffer currently holds.
+     * @return Number of runs.
+     */
+    int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * Merges the given sorted lists pairwise until one remains, keeping older lists on the left.
+     * @param lists Lists to merge, oldest first.
+     * @return Merged list.
+     */
+    private List<T> mergeAll(List<List<T>> lists) {
+        if (lists.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Merger merger = new Merger();
+        CancellationToken cancellation = CancellationToken.current();
+        List<List<T>> level = new ArrayList<>(lists);
+        while (level.size() > 1) {
+            List<List<T>> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int index = 0; index < level.size(); index += 2) {
+                if (index + 1 < level.size()) {
+                    next.add(merger.merge(level.get(index), level.get(index + 1), order, cancellation));
+                } else {
+                    next.add(level.get(index));
+                }
+            }
+            level = next;
+        }
+
+        return new ArrayList<>(level.get(0));
+    }
+
+    /**
+     * Finds the position of the first element in the given run that does not precede the given element.
+     * @param run Run to search.
+     * @param toFind Element to find.
+     * @return Lower bound position.
+     */
+    private int lowerBound(List<T> run, T toFind) {
+        int low = 0;
+        int high = run.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(run.get(middle), toFind) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Finds the position of the first element in the given run that follows the given element.
+     * @param run Run to search.
+     * @param toFind Element to find.
+     * @return Upper bound position.
+     */
+    private int upperBound(List<T> run, T toFind) {
+        int low = 0;
+        int high = run.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(run.get(middle), toFind) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+}
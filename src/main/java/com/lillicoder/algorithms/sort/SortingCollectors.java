@@ -0,0 +1,101 @@
+package com.lillicoder.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s that sort elements as a stream collects them, so a sorted list is ready as soon as the
+ * stream completes.
+ * <p/>
+ * Collecting into a list and sorting afterwards leaves the whole sort to one thread at the end of a parallel
+ * pipeline. These collectors instead have every segment of a parallel stream sort its own chunk, and combine
+ * neighbouring segments with a {@link Merger}, so sorting runs alongside the rest of the pipeline on the same
+ * threads. Segments are combined in encounter order with the earlier segment on the left, so with a stable chunk
+ * sort equal elements keep their encounter order.
+ */
+public final class SortingCollectors {
+
+    private SortingCollectors() {
+    }
+
+    /**
+     * Gets a collector that gathers elements into a list sorted in the given order, sorting each chunk with a
+     * {@link MergeSort}. Equal elements keep their encounter order.
+     * @param order Order for the list.
+     * @param <T> Type of element. The type must support the {@link Comparable} interface.
+     * @return Collector for a sorted, mutable list.
+     */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> toSortedList(Sort.Order order) {
+        return toSortedList(new MergeSort(), order);
+    }
+
+    /**
+     * Gets a collector that gathers elements into a list sorted in the given order, sorting each chunk with the
+     * given sort. Equal elements keep their encounter order only if the given sort is stable.
+     * @param sort Sort for each chunk.
+     * @param order Order for the list.
+     * @param <T> Type of element. The type must support the {@link Comparable} interface.
+     * @return Collector for a sorted, mutable list.
+     */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> toSortedList(ISort sort,
+                                                                                          Sort.Order order) {
+        return Collector.of(Chunk<T>::new,
+                            Chunk::add,
+                            (left, right) -> left.combine(right, sort, order),
+                            chunk -> chunk.sorted(sort, order));
+    }
+
+    /**
+     * Elements gathered by one segment of a stream, sorted once the segment is done accumulating.
+     * @param <T> Type of element.
+     */
+    private static class Chunk<T extends Comparable<? super T>> {
+
+        private List<T> elements = new ArrayList<>();
+        private boolean sorted;
+
+        void add(T element) {
+            elements.add(element);
+            sorted = false;
+        }
+
+        /**
+         * Merges the given later chunk into this one.
+         * @param later Chunk that follows this one in encounter order.
+         * @param sort Sort for each chunk.
+         * @param order Order for the list.
+         * @return This chunk.
+         */
+        Chunk<T> combine(Chunk<T> later, ISort sort, Sort.Order order) {
+            List<T> right = later.sorted(sort, order);
+            List<T> left = sorted(sort, order);
+            if (left.isEmpty()) {
+                elements = right;
+            } else if (!right.isEmpty()) {
+                elements = new Merger().merge(left, right, order);
+            }
+
+            return this;
+        }
+
+        /**
+         * Sorts this chunk if it is not already sorted.
+         * @param sort Sort for each chunk.
+         * @param order Order for the list.
+         * @return Sorted elements of this chunk.
+         */
+        List<T> sorted(ISort sort, Sort.Order order) {
+            if (!sorted) {
+                List<T> result = sort.sort(elements, order);
+                // Keep the collected list mutable whatever kind of list the sort returns
+                elements = result instanceof ArrayList ? result : new ArrayList<>(result);
+                sorted = true;
+            }
+
+            return elements;
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.lillicoder.algorithms.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JobExecutorTest {
+
+    /**
+     * Tests if a job below the inline threshold runs on the calling thread.
+     */
+    @Test
+    public void runsSmallJobsInline() throws Exception {
+        try (JobExecutor executor = new JobExecutor(100, 1, 0)) {
+            CompletableFuture<Thread> future = executor.submit(10, Thread::currentThread);
+            Assert.assertTrue(future.isDone());
+            Assert.assertSame(Thread.currentThread(), future.get());
+        }
+    }
+
+    /**
+     * Tests if a job at or above the inline threshold runs on another thread.
+     */
+    @Test
+    public void runsLargeJobsOnExecutor() throws Exception {
+        try (JobExecutor executor = new JobExecutor(100, 1, 0)) {
+            CompletableFuture<Thread> future = executor.submit(100, Thread::currentThread);
+            Assert.assertNotSame(Thread.currentThread(), future.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests if a job submitted to a full executor is rejected rather than queued.
+     */
+    @Test
+    public void rejectsWhenFull() throws Exception {
+        try (JobExecutor executor = new JobExecutor(0, 1, 0)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> running = executor.submit(1, () -> await(release));
+
+            CompletableFuture<Boolean> rejected = executor.submit(1, () -> true);
+            try {
+                rejected.get();
+                Assert.fail("Expected the second job to be rejected");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+
+            // Once the first job finishes there is room again
+            release.countDown();
+            Assert.assertTrue(running.get(10, TimeUnit.SECONDS));
+            Assert.assertTrue(awaitAccepted(executor));
+        }
+    }
+
+    /**
+     * Tests if no more jobs than the concurrency limit run at once, whichever kind of thread runs them.
+     */
+    @Test
+    public void limitsRunningJobs() throws Exception {
+        try (JobExecutor executor = new JobExecutor(0, 2, 8)) {
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger mostActive = new AtomicInteger();
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (int job = 0; job < 10; job++) {
+                futures.add(executor.submit(1, () -> {
+                    mostActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    active.decrementAndGet();
+                    return true;
+                }));
+            }
+
+            for (CompletableFuture<Boolean> future : futures) {
+                Assert.assertTrue(future.get(10, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(2, mostActive.get());
+        }
+    }
+
+    /**
+     * Tests if cancelling a future stops a job that polls its cancellation token.
+     */
+    @Test
+    public void cancelsRunningJob() throws Exception {
+        try (JobExecutor executor = new JobExecutor(0, 1, 0)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CompletableFuture<Boolean> future = executor.submit(1, () -> {
+                started.countDown();
+                while (true) {
+                    CancellationToken.current().throwIfCancelled();
+                }
+            });
+
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(future.cancel(true));
+            Assert.assertTrue(future.isCancelled());
+
+            // The job gives its permit back once it notices
+            Assert.assertTrue(awaitAccepted(executor));
+        }
+    }
+
+    /**
+     * Tests if threads outside of a job see a token that is never cancelled.
+     */
+    @Test
+    public void providesEmptyTokenOutsideJobs() {
+        Assert.assertSame(CancellationToken.NONE, CancellationToken.current());
+        Assert.assertFalse(CancellationToken.current().isCancelled());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean awaitAccepted(JobExecutor executor) throws InterruptedException {
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            CompletableFuture<Boolean> future = executor.submit(1, () -> true);
+            try {
+                if (future.get(10, TimeUnit.SECONDS)) {
+                    return true;
+                }
+            } catch (ExecutionException | java.util.concurrent.TimeoutException e) {
+                Thread.sleep(10);
+            }
+        }
+
+        return false;
+    }
+
+}
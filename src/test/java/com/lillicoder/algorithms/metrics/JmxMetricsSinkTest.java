@@ -0,0 +1,36 @@
+package com.lillicoder.algorithms.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+public class JmxMetricsSinkTest {
+
+    /**
+     * Tests if a JMX sink publishes running totals for each operation.
+     */
+    @Test
+    public void publishesTotals() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        JmxMetricsSink sink = new JmxMetricsSink(server);
+        sink.record(new Metrics("Quicksort", 10, 25, 12, 4, 100, 1000));
+        sink.record(new Metrics("Quicksort", 20, 75, 30, 6, 200, 3000));
+        sink.record(new Metrics("MergeSort", 10, 20, 0, 5, -1, 500));
+
+        ObjectName quicksort = JmxMetricsSink.objectName("Quicksort");
+        Assert.assertEquals(2L, server.getAttribute(quicksort, "Calls"));
+        Assert.assertEquals(100L, server.getAttribute(quicksort, "Comparisons"));
+        Assert.assertEquals(42L, server.getAttribute(quicksort, "Moves"));
+        Assert.assertEquals(6, server.getAttribute(quicksort, "MaxDepth"));
+        Assert.assertEquals(300L, server.getAttribute(quicksort, "AllocatedBytes"));
+        Assert.assertEquals(4000L, server.getAttribute(quicksort, "ElapsedNanos"));
+        Assert.assertEquals(3000L, server.getAttribute(quicksort, "MaxElapsedNanos"));
+
+        // Unsupported allocation counts stay unsupported rather than being summed
+        Assert.assertEquals(-1L, server.getAttribute(JmxMetricsSink.objectName("MergeSort"), "AllocatedBytes"));
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.lillicoder.algorithms.search;
+
+import com.lillicoder.algorithms.concurrent.JobExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncSearchTest {
+
+    /**
+     * Tests if an asynchronous search finds each element of a batch.
+     */
+    @Test
+    public void findsElements() throws Exception {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+        elements.add(4);
+        elements.add(5);
+
+        try (JobExecutor executor = new JobExecutor(2, 1, 1)) {
+            AsyncSearch asyncSearch = new AsyncSearch(new BinarySearch(), executor);
+
+            int[] inline = asyncSearch.searchAll(elements, Arrays.asList(3)).get();
+            Assert.assertArrayEquals(new int[] { 2 }, inline);
+
+            int[] positions = asyncSearch.searchAll(elements, Arrays.asList(5, 10, 1)).get(10, TimeUnit.SECONDS);
+            Assert.assertArrayEquals(new int[] { 4, -1, 0 }, positions);
+        }
+    }
+
+}
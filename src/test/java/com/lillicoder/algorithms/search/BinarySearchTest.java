@@ -47,4 +47,20 @@ public class BinarySearchTest {
         Assert.assertTrue(position < 0);
     }
 
+    /**
+     * Tests if a binary search correctly finds every element of a sorted list, including those in the upper half.
+     */
+    @Test
+    public void findsEveryElement() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            elements.add(index * 2);
+        }
+
+        BinarySearch binarySearch = new BinarySearch();
+        for (int index = 0; index < elements.size(); index++) {
+            Assert.assertEquals(index, binarySearch.search(elements, elements.get(index)));
+        }
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BloomFilterTest {
+
+    /**
+     * Tests if a bloom filter never reports an added hash as missing.
+     */
+    @Test
+    public void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(1000);
+        for (int hash = 0; hash < 1000; hash++) {
+            filter.add(hash * 31);
+        }
+
+        for (int hash = 0; hash < 1000; hash++) {
+            Assert.assertTrue(filter.mightContain(hash * 31));
+        }
+    }
+
+    /**
+     * Tests if a bloom filter rejects most hashes that were never added.
+     */
+    @Test
+    public void rejectsMostMisses() {
+        BloomFilter filter = new BloomFilter(1000);
+        for (int hash = 0; hash < 1000; hash++) {
+            filter.add(hash);
+        }
+
+        int falsePositives = 0;
+        for (int hash = 1000; hash < 11000; hash++) {
+            if (filter.mightContain(hash)) {
+                falsePositives++;
+            }
+        }
+
+        // Ten bits per entry should be around one percent, allow plenty of slack
+        Assert.assertTrue(falsePositives < 500);
+    }
+
+    /**
+     * Tests if a cleared bloom filter contains nothing.
+     */
+    @Test
+    public void clearsHashes() {
+        BloomFilter filter = new BloomFilter(10);
+        filter.add(42);
+        filter.clear();
+        Assert.assertFalse(filter.mightContain(42));
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CachingSearchTest {
+
+    /**
+     * {@link BinarySearch} that counts how often it is called.
+     */
+    private static class CountingSearch extends BinarySearch {
+
+        private int calls;
+
+        @Override
+        public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+            calls++;
+            return super.search(list, toFind);
+        }
+
+    }
+
+    /**
+     * Tests if repeated searches, hits and misses alike, are answered from the cache.
+     */
+    @Test
+    public void cachesResults() {
+        List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5);
+        CountingSearch delegate = new CountingSearch();
+        CachingSearch search = new CachingSearch(delegate, 16);
+
+        Assert.assertEquals(2, search.search(elements, 3));
+        Assert.assertEquals(-1, search.search(elements, 10));
+        Assert.assertEquals(2, search.search(elements, 3));
+        Assert.assertEquals(-1, search.search(elements, 10));
+
+        Assert.assertEquals(2, delegate.calls);
+        Assert.assertEquals(2, search.getHits());
+        Assert.assertEquals(2, search.getMisses());
+        Assert.assertEquals(0.5, search.getHitRate(), 0);
+    }
+
+    /**
+     * Tests if keys that are not boxed integers are cached by equality.
+     */
+    @Test
+    public void cachesObjectKeys() {
+        List<String> elements = Arrays.asList("a", "b", "c");
+        CountingSearch delegate = new CountingSearch();
+        CachingSearch search = new CachingSearch(delegate, 16);
+
+        Assert.assertEquals(1, search.search(elements, "b"));
+        Assert.assertEquals(1, search.search(elements, new String("b")));
+        Assert.assertEquals(1, delegate.calls);
+    }
+
+    /**
+     * Tests if numeric keys of different box types with the same value are cached apart, since they are not equal.
+     */
+    @Test
+    public void keepsBoxTypesApart() {
+        Search byType = new Search() {
+            @Override
+            public <T> int search(List<? extends Comparable<? super T>> list, T toFind) {
+                return toFind instanceof Long ? 1 : toFind instanceof Short ? 2 : 0;
+            }
+        };
+        // Never read by the search, typed so that keys of every box type can be looked up in it
+        List<Comparable<Object>> elements = new ArrayList<>();
+        CachingSearch search = new CachingSearch(byType, 16);
+
+        Assert.assertEquals(0, search.search(elements, 5));
+        Assert.assertEquals(1, search.search(elements, 5L));
+        Assert.assertEquals(2, search.search(elements, (short) 5));
+        Assert.assertEquals(0, search.search(elements, 5));
+        Assert.assertEquals(1, search.search(elements, 5L));
+        Assert.assertEquals(3, search.getMisses());
+        Assert.assertEquals(2, search.getHits());
+    }
+
+    /**
+     * Tests if threads sharing a small cache, so evicting each other's results constantly, always get the right
+     * position.
+     */
+    @Test
+    public void searchesFromManyThreads() throws Exception {
+        int threads = 4;
+        int searchesPerThread = 50000;
+        List<Integer> elements = new ArrayList<>();
+        for (int value = 0; value < 1000; value++) {
+            elements.add(value * 2);
+        }
+        CachingSearch search = new CachingSearch(new BinarySearch(), 64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            long seed = thread;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int index = 0; index < searchesPerThread && failure.get() == null; index++) {
+                    int value = random.nextInt(256);
+                    int expected = value % 2 == 0 ? value / 2 : -1;
+                    int position = search.search(elements, value);
+                    if (position != expected) {
+                        failure.set("Searched " + value + ", got " + position);
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Assert.assertNull(failure.get());
+        Assert.assertEquals(threads * searchesPerThread, search.getHits() + search.getMisses());
+    }
+
+    /**
+     * Tests if a full set evicts an entry that was not read since the clock hand last passed, sparing one that was.
+     */
+    @Test
+    public void evictsByClock() {
+        List<Integer> elements = new ArrayList<>();
+        for (int value = 0; value < 100; value++) {
+            elements.add(value);
+        }
+        CountingSearch delegate = new CountingSearch();
+        // A single set, so every key competes for the same slots
+        CachingSearch search = new CachingSearch(delegate, CachingSearch.WAYS);
+        Assert.assertEquals(CachingSearch.WAYS, search.getCapacity());
+
+        for (int value = 0; value < CachingSearch.WAYS; value++) {
+            search.search(elements, value);
+        }
+        // Keep the first key hot
+        search.search(elements, 0);
+        Assert.assertEquals(0, search.getEvictions());
+
+        search.search(elements, 50);
+        Assert.assertEquals(1, search.getEvictions());
+
+        int calls = delegate.calls;
+        search.search(elements, 0);
+        search.search(elements, 50);
+        Assert.assertEquals(calls, delegate.calls);
+
+        // Second key was cold and took the eviction
+        search.search(elements, 1);
+        Assert.assertEquals(calls + 1, delegate.calls);
+    }
+
+    /**
+     * Tests if the cache is invalidated when the searched list or its size changes.
+     */
+    @Test
+    public void invalidatesOnListChange() {
+        List<Integer> elements = new ArrayList<>(Arrays.asList(1, 3, 5));
+        CachingSearch search = new CachingSearch(new BinarySearch(), 16);
+
+        Assert.assertEquals(-1, search.search(elements, 4));
+        elements.add(2, 4);
+        Assert.assertEquals(2, search.search(elements, 4));
+
+        List<Integer> other = Arrays.asList(4, 6, 8);
+        Assert.assertEquals(0, search.search(other, 4));
+
+        // In place change at the same size needs an explicit invalidation
+        other.set(0, 2);
+        search.invalidate();
+        Assert.assertEquals(-1, search.search(other, 4));
+    }
+
+    /**
+     * Tests if a cache with a version source is invalidated only when the version changes.
+     */
+    @Test
+    public void invalidatesOnVersionChange() {
+        List<Integer> elements = new ArrayList<>(Arrays.asList(1, 3, 5));
+        AtomicLong version = new AtomicLong();
+        CountingSearch delegate = new CountingSearch();
+        CachingSearch search = new CachingSearch(delegate, 16, version::get);
+
+        Assert.assertEquals(1, search.search(elements, 3));
+        elements.set(1, 4);
+        Assert.assertEquals(1, search.search(elements, 3));
+        Assert.assertEquals(1, delegate.calls);
+
+        version.incrementAndGet();
+        Assert.assertEquals(-1, search.search(elements, 3));
+        Assert.assertEquals(2, delegate.calls);
+    }
+
+    /**
+     * Tests if a capacity less than one is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidCapacity() {
+        new CachingSearch(new BinarySearch(), 0);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentSortedIndexTest {
+
+    /**
+     * Tests if inserts stay invisible until their batch is published, and are then found in order.
+     */
+    @Test
+    public void publishesInBatches() {
+        ConcurrentSortedIndex<Integer> index = new ConcurrentSortedIndex<>(3);
+
+        index.add(5);
+        index.add(1);
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(-1, index.search(5));
+        Assert.assertEquals(0, index.getEpoch());
+
+        // Third insert fills the batch
+        index.add(3);
+        Assert.assertEquals(Arrays.asList(1, 3, 5), index.snapshot());
+        Assert.assertEquals(1, index.getEpoch());
+
+        index.add(4);
+        index.flush();
+        Assert.assertEquals(Arrays.asList(1, 3, 4, 5), index.snapshot());
+        Assert.assertEquals(2, index.getEpoch());
+        Assert.assertEquals(2, index.search(4));
+        Assert.assertEquals(-1, index.search(2));
+
+        // Flushing with nothing pending publishes nothing
+        index.flush();
+        Assert.assertEquals(2, index.getEpoch());
+    }
+
+    /**
+     * Tests if bounds and range scans treat duplicates and missing elements correctly.
+     */
+    @Test
+    public void findsBoundsAndRanges() {
+        ConcurrentSortedIndex<Integer> index = new ConcurrentSortedIndex<>();
+        index.addAll(Arrays.asList(7, 3, 5, 3, 9, 3));
+        index.flush();
+
+        Assert.assertEquals(Arrays.asList(3, 3, 3, 5, 7, 9), index.snapshot());
+        Assert.assertEquals(0, index.search(3));
+        Assert.assertEquals(0, index.lowerBound(3));
+        Assert.assertEquals(3, index.upperBound(3));
+        Assert.assertEquals(3, index.lowerBound(4));
+        Assert.assertEquals(6, index.lowerBound(10));
+        Assert.assertEquals(0, index.upperBound(1));
+
+        Assert.assertEquals(Arrays.asList(3, 3, 3, 5), index.range(3, 7));
+        Assert.assertEquals(Arrays.asList(5, 7), index.range(4, 8));
+        Assert.assertEquals(Collections.emptyList(), index.range(8, 4));
+    }
+
+    /**
+     * Tests if a snapshot is unaffected by later publications.
+     */
+    @Test
+    public void snapshotIsStable() {
+        ConcurrentSortedIndex<Integer> index = new ConcurrentSortedIndex<>(1);
+        index.add(2);
+        List<Integer> snapshot = index.snapshot();
+
+        index.add(1);
+        Assert.assertEquals(Collections.singletonList(2), snapshot);
+        Assert.assertEquals(Arrays.asList(1, 2), index.snapshot());
+    }
+
+    /**
+     * Tests if readers always see a sorted index that only grows while several writers insert, and if every
+     * insert is found once flushed.
+     */
+    @Test
+    public void readsWhileWritersInsert() throws Exception {
+        int writers = 4;
+        int insertsPerWriter = 20000;
+        ConcurrentSortedIndex<Integer> index = new ConcurrentSortedIndex<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            long lastEpoch = 0;
+            while (writing.get() && failure.get() == null) {
+                long epoch = index.getEpoch();
+                List<Integer> snapshot = index.snapshot();
+                if (snapshot.size() < lastSize || epoch < lastEpoch) {
+                    failure.set("Index shrank");
+                }
+                for (int position = 1; position < snapshot.size(); position++) {
+                    if (snapshot.get(position - 1) > snapshot.get(position)) {
+                        failure.set("Index out of order at " + position);
+                    }
+                }
+                lastSize = snapshot.size();
+                lastEpoch = epoch;
+            }
+        });
+        reader.start();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            int offset = writer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int value = 0; value < insertsPerWriter; value++) {
+                    index.add(value * writers + offset);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writing.set(false);
+        reader.join();
+
+        Assert.assertNull(failure.get());
+
+        index.flush();
+        Assert.assertEquals(writers * insertsPerWriter, index.size());
+        for (int value = 0; value < writers * insertsPerWriter; value++) {
+            Assert.assertEquals(value, index.search(value));
+        }
+    }
+
+    /**
+     * Tests if a batch size less than one is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidBatchSize() {
+        new ConcurrentSortedIndex<Integer>(0);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HashIndexSearchTest {
+
+    /**
+     * Tests if a hash index search correctly finds an element in a list.
+     */
+    @Test
+    public void findsElement() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+
+        HashIndexSearch hashIndexSearch = new HashIndexSearch();
+        for (int index = 0; index < elements.size(); index++) {
+            Assert.assertEquals(index, hashIndexSearch.search(elements, elements.get(index)));
+        }
+    }
+
+    /**
+     * Tests if a hash index search correctly handles an element that is not in the list.
+     */
+    @Test
+    public void doesNotFindElement() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+        elements.add(4);
+        elements.add(5);
+
+        HashIndexSearch hashIndexSearch = new HashIndexSearch();
+        int position = hashIndexSearch.search(elements, 10);
+        Assert.assertTrue(position < 0);
+
+        // Search should never find an element in an empty list
+        position = hashIndexSearch.search(new ArrayList<Integer>(), 1);
+        Assert.assertTrue(position < 0);
+    }
+
+    /**
+     * Tests if a hash index search returns the first position of a duplicated element, like a linear search.
+     */
+    @Test
+    public void findsFirstDuplicate() {
+        List<String> elements = new ArrayList<>();
+        elements.add("b");
+        elements.add("a");
+        elements.add("c");
+        elements.add("a");
+        elements.add("b");
+
+        HashIndexSearch hashIndexSearch = new HashIndexSearch(false);
+        Assert.assertEquals(1, hashIndexSearch.search(elements, "a"));
+        Assert.assertEquals(0, hashIndexSearch.search(elements, "b"));
+        Assert.assertEquals(3, hashIndexSearch.size());
+    }
+
+    /**
+     * Tests if a hash index search agrees with a linear search over many elements with colliding hashes.
+     */
+    @Test
+    public void matchesLinearSearch() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 2000; index++) {
+            // Multiples of 1024 collide in the low bits of the table
+            elements.add((index % 700) * 1024);
+        }
+
+        HashIndexSearch hashIndexSearch = new HashIndexSearch();
+        LinearSearch linearSearch = new LinearSearch();
+        for (int value = -1024; value < 800 * 1024; value += 512) {
+            Assert.assertEquals(linearSearch.search(elements, value), hashIndexSearch.search(elements, value));
+        }
+    }
+
+    /**
+     * Tests if a hash index search picks up in place changes to a list only after a rebuild.
+     */
+    @Test
+    public void rebuildsAfterChange() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+
+        HashIndexSearch hashIndexSearch = new HashIndexSearch();
+        Assert.assertTrue(hashIndexSearch.search(elements, 4) < 0);
+
+        elements.add(4);
+        hashIndexSearch.rebuild();
+        Assert.assertEquals(3, hashIndexSearch.search(elements, 4));
+
+        elements.set(0, 9);
+        hashIndexSearch.invalidate();
+        Assert.assertEquals(0, hashIndexSearch.sizeInBytes());
+        Assert.assertEquals(0, hashIndexSearch.search(elements, 9));
+    }
+
+    /**
+     * Tests if a hash index search reports memory usage for its index and filter.
+     */
+    @Test
+    public void reportsMemoryPerEntry() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            elements.add(index);
+        }
+
+        HashIndexSearch withFilter = new HashIndexSearch(true);
+        withFilter.search(elements, 0);
+        HashIndexSearch withoutFilter = new HashIndexSearch(false);
+        withoutFilter.search(elements, 0);
+
+        // Two int arrays at a load factor of at most one half is at least 16 bytes per entry
+        Assert.assertTrue(withoutFilter.bytesPerEntry() >= 16);
+        Assert.assertTrue(withFilter.bytesPerEntry() > withoutFilter.bytesPerEntry());
+    }
+
+}
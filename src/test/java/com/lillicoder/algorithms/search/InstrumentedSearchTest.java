@@ -0,0 +1,93 @@
+package com.lillicoder.algorithms.search;
+
+import com.lillicoder.algorithms.metrics.Metrics;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InstrumentedSearchTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests if an instrumented search finds an element and reports one comparison per element read.
+     */
+    @Test
+    public void measuresSearch() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+        elements.add(4);
+        elements.add(5);
+
+        List<Metrics> recorded = new ArrayList<>();
+        InstrumentedSearch instrumentedSearch = new InstrumentedSearch(new LinearSearch(), recorded::add);
+
+        Assert.assertEquals(2, instrumentedSearch.search(elements, 3));
+        Assert.assertTrue(instrumentedSearch.search(elements, 10) < 0);
+
+        Assert.assertEquals(2, recorded.size());
+        Assert.assertEquals("LinearSearch", recorded.get(0).getOperation());
+        Assert.assertEquals(3, recorded.get(0).getComparisons());
+        Assert.assertEquals(5, recorded.get(1).getComparisons());
+    }
+
+    /**
+     * Tests if an instrumented indexing search keeps its index between calls over the same list.
+     */
+    @Test
+    public void keepsIndexForSameList() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            elements.add(index);
+        }
+
+        List<Metrics> recorded = new ArrayList<>();
+        InstrumentedSearch instrumentedSearch = new InstrumentedSearch(new HashIndexSearch(), recorded::add);
+        instrumentedSearch.search(elements, 50);
+        instrumentedSearch.search(elements, 60);
+
+        // First call builds the index, second only reads the matching element
+        Assert.assertTrue(recorded.get(0).getComparisons() >= 100);
+        Assert.assertEquals(1, recorded.get(1).getComparisons());
+    }
+
+    /**
+     * Tests if an instrumented mapped file search still compares raw keys, and counts those reads. Over a run of
+     * duplicates the raw key path finds the first of them, where the binary search fallback would stop in the
+     * middle.
+     */
+    @Test
+    public void keepsMappedFilePath() throws IOException {
+        Path path = folder.newFile().toPath();
+        ByteBuffer buffer = ByteBuffer.allocate(7 * Long.BYTES);
+        for (int index = 0; index < 7; index++) {
+            buffer.putLong(3);
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(buffer);
+        }
+        MappedLongList keys = MappedLongList.open(path, Long.BYTES, 0);
+
+        List<Metrics> recorded = new ArrayList<>();
+        InstrumentedSearch instrumentedSearch = new InstrumentedSearch(new MappedFileSearch(), recorded::add);
+
+        Assert.assertEquals(3, new BinarySearch().search(keys, 3L));
+        Assert.assertEquals(0, instrumentedSearch.search(keys, 3L));
+        // Three reads to find the lower bound, one to check it matches
+        Assert.assertEquals(4, recorded.get(0).getComparisons());
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MappedFileSearchTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests if a mapped file search correctly finds a key in a mapped file.
+     */
+    @Test
+    public void findsElement() throws IOException {
+        MappedLongList keys = MappedLongList.open(write(new long[] { 1, 2, 3, 4, 5 }, 8, 0), 8, 0);
+
+        int position = new MappedFileSearch().search(keys, 3L);
+
+        int expectedPosition = 2;
+        Assert.assertEquals(expectedPosition, position);
+    }
+
+    /**
+     * Tests if a mapped file search correctly handles a key that is not in the mapped file.
+     */
+    @Test
+    public void doesNotFindElement() throws IOException {
+        MappedLongList keys = MappedLongList.open(write(new long[] { 1, 2, 3, 4, 5 }, 8, 0), 8, 0);
+
+        MappedFileSearch mappedFileSearch = new MappedFileSearch();
+        int position = mappedFileSearch.search(keys, 10L);
+        Assert.assertTrue(position < 0);
+
+        // Search should never find a key in an empty file
+        MappedLongList empty = MappedLongList.open(write(new long[0], 8, 0), 8, 0);
+        position = mappedFileSearch.search(empty, 1L);
+        Assert.assertTrue(position < 0);
+    }
+
+    /**
+     * Tests if a mapped file search reads keys at an offset inside wider records and finds bounds of duplicates.
+     */
+    @Test
+    public void findsBoundsInWideRecords() throws IOException {
+        long[] values = { -7, -7, 0, 3, 3, 3, 12 };
+        MappedLongList keys = MappedLongList.open(write(values, 24, 8), 24, 8);
+
+        MappedFileSearch mappedFileSearch = new MappedFileSearch();
+        Assert.assertEquals(values.length, keys.size());
+        Assert.assertEquals(Long.valueOf(12), keys.get(6));
+        Assert.assertEquals(0, mappedFileSearch.search(keys, -7L));
+        Assert.assertEquals(3, mappedFileSearch.lowerBound(keys, 3));
+        Assert.assertEquals(6, mappedFileSearch.upperBound(keys, 3));
+        Assert.assertEquals(7, mappedFileSearch.lowerBound(keys, 13));
+    }
+
+    /**
+     * Tests if a mapped file search falls back to a binary search for ordinary lists.
+     */
+    @Test
+    public void searchesOrdinaryList() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+
+        Assert.assertEquals(2, new MappedFileSearch().search(elements, 3));
+    }
+
+    /**
+     * Tests if a mapped list rejects a key that does not fit in its records.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidLayout() throws IOException {
+        MappedLongList.open(write(new long[] { 1 }, 8, 0), 8, 4);
+    }
+
+    /**
+     * Writes the given keys to a temporary file of fixed width records, filling the rest of each record
+     * with {@code 0xFF} bytes.
+     * @param keys Keys to write.
+     * @param recordWidth Width of each record in bytes.
+     * @param keyOffset Offset of the key in each record in bytes.
+     * @return Path of the written file.
+     * @throws IOException Thrown if the file could not be written.
+     */
+    private Path write(long[] keys, int recordWidth, int keyOffset) throws IOException {
+        Path path = folder.newFile().toPath();
+        ByteBuffer buffer = ByteBuffer.allocate(keys.length * recordWidth);
+        for (int index = 0; index < keys.length; index++) {
+            for (int offset = 0; offset < recordWidth; offset++) {
+                buffer.put(index * recordWidth + offset, (byte) 0xFF);
+            }
+            buffer.putLong(index * recordWidth + keyOffset, keys[index]);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(buffer);
+        }
+
+        return path;
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.lillicoder.algorithms.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class SearchTreeTest {
+
+    /**
+     * Tests if a search tree correctly finds an element in a sorted list.
+     */
+    @Test
+    public void findsElement() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+        elements.add(4);
+        elements.add(5);
+
+        int position = new SearchTree().search(elements, 3);
+
+        int expectedPosition = 2;
+        Assert.assertEquals(expectedPosition, position);
+    }
+
+    /**
+     * Tests if a search tree correctly handles an element that is not in the list.
+     */
+    @Test
+    public void doesNotFindElement() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(2);
+        elements.add(3);
+        elements.add(4);
+        elements.add(5);
+
+        SearchTree searchTree = new SearchTree();
+        int position = searchTree.search(elements, 10);
+        Assert.assertTrue(position < 0);
+
+        // Search should never find an element in an empty list
+        position = searchTree.search(new ArrayList<Integer>(), 1);
+        Assert.assertTrue(position < 0);
+    }
+
+    /**
+     * Tests if a search tree with several levels agrees with a plain lower bound scan, both when built
+     * sequentially and in parallel.
+     */
+    @Test
+    public void matchesLowerBoundAcrossLevels() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 100000; index++) {
+            // Every value appears twice so duplicates straddle node boundaries
+            elements.add((index / 2) * 3);
+        }
+
+        for (boolean parallel : new boolean[] { false, true }) {
+            SearchTree searchTree = new SearchTree(parallel);
+            searchTree.build(elements);
+            for (int value = -2; value < 150005; value += 7) {
+                int expected = (value <= 0 ? 0 : ((value + 2) / 3) * 2);
+                Assert.assertEquals(Math.min(expected, elements.size()), searchTree.lowerBound(value));
+            }
+
+            Assert.assertEquals(0, searchTree.search(elements, 0));
+            Assert.assertEquals(20, searchTree.search(elements, 30));
+            Assert.assertTrue(searchTree.search(elements, 31) < 0);
+        }
+    }
+
+    /**
+     * Tests if a search tree finds the bounds of a run of equal elements.
+     */
+    @Test
+    public void findsBounds() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(1);
+        elements.add(3);
+        elements.add(3);
+        elements.add(3);
+        elements.add(7);
+
+        SearchTree searchTree = new SearchTree();
+        searchTree.build(elements);
+        Assert.assertEquals(1, searchTree.lowerBound(3));
+        Assert.assertEquals(4, searchTree.upperBound(3));
+        Assert.assertEquals(4, searchTree.lowerBound(4));
+        Assert.assertEquals(5, searchTree.lowerBound(8));
+    }
+
+    /**
+     * Tests if a search tree agrees with a plain upper bound scan over several levels, for every key type, with
+     * runs of duplicates straddling node boundaries and keys at the ends of their range.
+     */
+    @Test
+    public void matchesUpperBoundAcrossLevels() {
+        List<Integer> ints = new ArrayList<>();
+        List<Long> longs = new ArrayList<>();
+        List<String> strings = new ArrayList<>();
+        for (int index = 0; index < 20000; index++) {
+            ints.add(index / 5 * 2);
+            longs.add(index / 5 * 3000000000L);
+            strings.add(String.format("%05d", index / 5 * 2));
+        }
+        ints.add(Integer.MAX_VALUE);
+        longs.add(Long.MAX_VALUE);
+
+        for (boolean parallel : new boolean[] { false, true }) {
+            SearchTree intTree = new SearchTree(parallel);
+            intTree.build(ints);
+            SearchTree longTree = new SearchTree(parallel);
+            longTree.build(longs);
+            SearchTree stringTree = new SearchTree(parallel);
+            stringTree.build(strings);
+            for (int value = -3; value < 8005; value += 3) {
+                int expected = Math.min(20000, value < 0 ? 0 : (value / 2 + 1) * 5);
+                Assert.assertEquals(expected, intTree.upperBound(value));
+                Assert.assertEquals(expected, longTree.upperBound(value / 2 * 3000000000L + (value % 2)));
+                if (value >= 0) {
+                    Assert.assertEquals(expected, stringTree.upperBound(String.format("%05d", value)));
+                }
+            }
+
+            Assert.assertEquals(0, intTree.upperBound(Long.MIN_VALUE));
+            Assert.assertEquals(20001, intTree.upperBound(Integer.MAX_VALUE));
+            Assert.assertEquals(20000, intTree.upperBound(Integer.MAX_VALUE - 1));
+            Assert.assertEquals(20001, longTree.upperBound(Long.MAX_VALUE));
+            Assert.assertEquals(0, longTree.upperBound(Long.MIN_VALUE));
+        }
+    }
+
+    /**
+     * Tests if a search tree iterates over a half open range of elements.
+     */
+    @Test
+    public void iteratesRange() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            elements.add(index);
+        }
+
+        SearchTree searchTree = new SearchTree();
+        searchTree.build(elements);
+
+        Iterator<Integer> range = searchTree.range(40, 45);
+        for (int expected = 40; expected < 45; expected++) {
+            Assert.assertTrue(range.hasNext());
+            Assert.assertEquals(Integer.valueOf(expected), range.next());
+        }
+        Assert.assertFalse(range.hasNext());
+
+        Assert.assertFalse(searchTree.range(50, 10).hasNext());
+    }
+
+    /**
+     * Tests if a search tree over {@code long} keys out of the {@code int} range, and over non-numeric keys,
+     * agrees with a plain lower bound scan.
+     */
+    @Test
+    public void matchesLowerBoundForOtherKeyTypes() {
+        List<Long> longs = new ArrayList<>();
+        List<String> strings = new ArrayList<>();
+        for (long index = 0; index < 5000; index++) {
+            longs.add(index * 3000000L - 6000000000L);
+            strings.add(String.format("%05d", index * 2));
+        }
+
+        SearchTree longTree = new SearchTree();
+        longTree.build(longs);
+        SearchTree stringTree = new SearchTree();
+        stringTree.build(strings);
+        for (int index = -1; index <= 5000; index++) {
+            long key = index * 3000000L - 6000000000L;
+            Assert.assertEquals(Math.min(5000, Math.max(0, index)), longTree.lowerBound(key));
+            Assert.assertEquals(Math.min(5000, Math.max(0, index + 1)), longTree.lowerBound(key + 1));
+
+            String stringKey = String.format("%05d", index * 2);
+            Assert.assertEquals(Math.min(5000, Math.max(0, index)), stringTree.lowerBound(stringKey));
+        }
+        Assert.assertEquals(2500, longTree.search(longs, 1500000000L));
+    }
+
+    /**
+     * Tests if a search tree over {@code int} range keys handles lookups by numbers outside that range.
+     */
+    @Test
+    public void boundsKeysOutsideIntRange() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            elements.add(index);
+        }
+
+        SearchTree searchTree = new SearchTree();
+        searchTree.build(elements);
+        Assert.assertEquals(0, searchTree.lowerBound(Long.MIN_VALUE));
+        Assert.assertEquals(1000, searchTree.lowerBound(Long.MAX_VALUE));
+        Assert.assertEquals(1000, searchTree.lowerBound((long) Integer.MAX_VALUE + 1));
+        Assert.assertEquals(500, searchTree.lowerBound(500L));
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class AdaptiveSortTest {
+
+    /**
+     * Checks if adaptive sort correctly sorts a list with no elements.
+     */
+    @Test
+    public void sortsEmpty() {
+        List<Integer> elements = new ArrayList<>();
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        elements = adaptiveSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertTrue(adaptiveSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if adaptive sort correctly sorts a list in ascending order.
+     */
+    @Test
+    public void sortsAscending() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+        elements.add(-1);
+        elements.add(-10);
+        elements.add(6);
+        elements.add(7);
+        elements.add(7);
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        elements = adaptiveSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertTrue(adaptiveSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if adaptive sort correctly sorts a list in descending order.
+     */
+    @Test
+    public void sortsDescending() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+        elements.add(-1);
+        elements.add(-10);
+        elements.add(6);
+        elements.add(7);
+        elements.add(7);
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        elements = adaptiveSort.sort(elements, Sort.Order.DESCENDING);
+        Assert.assertTrue(adaptiveSort.isSorted(elements, Sort.Order.DESCENDING));
+    }
+
+    /**
+     * Checks if adaptive sort routes lists to the expected strategy based on their shape.
+     */
+    @Test
+    public void plansFromInputShape() {
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+
+        List<Integer> sorted = new ArrayList<>();
+        List<Integer> reversed = new ArrayList<>();
+        List<Integer> random = new ArrayList<>();
+        List<Integer> duplicates = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            sorted.add(index);
+            reversed.add(1000 - index);
+            random.add((index * 7919) % 1000);
+            duplicates.add(index % 3);
+        }
+
+        Assert.assertEquals(AdaptiveSort.Strategy.ALREADY_SORTED,
+                            adaptiveSort.plan(sorted, Sort.Order.ASCENDING).strategy);
+        Assert.assertEquals(AdaptiveSort.Strategy.REVERSE,
+                            adaptiveSort.plan(reversed, Sort.Order.ASCENDING).strategy);
+        Assert.assertEquals(AdaptiveSort.Strategy.QUICKSORT,
+                            adaptiveSort.plan(random, Sort.Order.ASCENDING).strategy);
+        Assert.assertEquals(AdaptiveSort.Strategy.MERGE_SORT,
+                            adaptiveSort.plan(duplicates, Sort.Order.ASCENDING).strategy);
+        Assert.assertEquals(AdaptiveSort.Strategy.INSERTION_SORT,
+                            adaptiveSort.plan(random.subList(0, 10), Sort.Order.ASCENDING).strategy);
+    }
+
+    /**
+     * Checks if adaptive sort merge sorts large lists in parallel when there are threads to run on.
+     */
+    @Test
+    public void plansParallelForLargeLists() {
+        List<Integer> duplicates = new ArrayList<>();
+        for (int index = 0; index < AdaptiveSort.PARALLEL_SIZE; index++) {
+            duplicates.add(index % 3);
+        }
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        AdaptiveSort.Strategy expected = ForkJoinPool.getCommonPoolParallelism() > 1
+                ? AdaptiveSort.Strategy.PARALLEL_MERGE_SORT
+                : AdaptiveSort.Strategy.MERGE_SORT;
+        Assert.assertEquals(expected, adaptiveSort.plan(duplicates, Sort.Order.DESCENDING).strategy);
+
+        List<Integer> sorted = adaptiveSort.sort(duplicates, Sort.Order.DESCENDING);
+        Assert.assertEquals(duplicates.size(), sorted.size());
+        Assert.assertTrue(adaptiveSort.isSorted(sorted, Sort.Order.DESCENDING));
+    }
+
+    /**
+     * Checks if adaptive sort keeps equal elements in order when their type can tell them apart.
+     */
+    @Test
+    public void keepsEqualElementsStable() {
+        List<Keyed> elements = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            elements.add(new Keyed(100 - (index % 10), index));
+        }
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        Assert.assertEquals(AdaptiveSort.Strategy.MERGE_SORT,
+                            adaptiveSort.plan(elements, Sort.Order.ASCENDING).strategy);
+
+        List<Keyed> sorted = adaptiveSort.sort(elements, Sort.Order.ASCENDING);
+        for (int index = 1; index < sorted.size(); index++) {
+            Keyed previous = sorted.get(index - 1);
+            Keyed current = sorted.get(index);
+            Assert.assertTrue(previous.key < current.key
+                                      || (previous.key == current.key && previous.position < current.position));
+        }
+    }
+
+    /**
+     * Checks if adaptive sort keeps equal big decimals of different scales in order, since they can be told apart.
+     */
+    @Test
+    public void keepsEqualBigDecimalsStable() {
+        List<BigDecimal> elements = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            elements.add(BigDecimal.valueOf(10 - (index % 10)).setScale(index / 10));
+        }
+
+        AdaptiveSort adaptiveSort = new AdaptiveSort();
+        Assert.assertEquals(AdaptiveSort.Strategy.MERGE_SORT,
+                            adaptiveSort.plan(elements, Sort.Order.ASCENDING).strategy);
+
+        List<BigDecimal> sorted = adaptiveSort.sort(elements, Sort.Order.ASCENDING);
+        for (int index = 1; index < sorted.size(); index++) {
+            BigDecimal previous = sorted.get(index - 1);
+            BigDecimal current = sorted.get(index);
+            Assert.assertTrue(previous.compareTo(current) < 0
+                                      || (previous.compareTo(current) == 0 && previous.scale() < current.scale()));
+        }
+    }
+
+    /**
+     * Element that compares by key only, remembering its original position.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+
+        private final int key;
+        private final int position;
+
+        Keyed(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+import com.lillicoder.algorithms.concurrent.JobExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncSortTest {
+
+    /**
+     * Checks if an asynchronous sort correctly sorts a small list inline and a large list on the executor.
+     */
+    @Test
+    public void sortsAscending() throws Exception {
+        try (JobExecutor executor = new JobExecutor(100, 2, 2)) {
+            AsyncSort asyncSort = new AsyncSort(new Quicksort(), executor);
+
+            List<Integer> small = new ArrayList<>();
+            List<Integer> large = new ArrayList<>();
+            for (int index = 0; index < 1000; index++) {
+                large.add((index * 7919) % 1000);
+                if (index < 10) {
+                    small.add(10 - index);
+                }
+            }
+
+            CompletableFuture<List<Integer>> sortedSmall = asyncSort.sort(small, Sort.Order.ASCENDING);
+            CompletableFuture<List<Integer>> sortedLarge = asyncSort.sort(large, Sort.Order.DESCENDING);
+            Assert.assertTrue(sortedSmall.isDone());
+
+            Quicksort quicksort = new Quicksort();
+            Assert.assertTrue(quicksort.isSorted(sortedSmall.get(), Sort.Order.ASCENDING));
+            Assert.assertTrue(quicksort.isSorted(sortedLarge.get(10, TimeUnit.SECONDS), Sort.Order.DESCENDING));
+        }
+    }
+
+    /**
+     * Checks if the partition and merge loops stop once the running job is cancelled.
+     */
+    @Test
+    public void stopsWhenCancelled() throws Exception {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            elements.add(index);
+        }
+
+        try (JobExecutor executor = new JobExecutor(0, 1, 1)) {
+            CompletableFuture<Integer> partition = executor.submit(elements.size(), () -> {
+                CancellationToken.current().cancel();
+                return new Partitioner().partition(elements, Sort.Order.ASCENDING);
+            });
+            CompletableFuture<List<Integer>> merge = executor.submit(elements.size(), () -> {
+                CancellationToken.current().cancel();
+                return new Merger().merge(elements, elements, Sort.Order.ASCENDING);
+            });
+
+            try {
+                partition.get(10, TimeUnit.SECONDS);
+            } catch (java.util.concurrent.CancellationException expected) {
+                // Expected, fall through to check state
+            }
+            try {
+                merge.get(10, TimeUnit.SECONDS);
+            } catch (java.util.concurrent.CancellationException expected) {
+                // Expected, fall through to check state
+            }
+            Assert.assertTrue(partition.isCancelled());
+            Assert.assertTrue(merge.isCancelled());
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class BucketSortTest {
+
+    /**
+     * Checks if bucket sort correctly sorts evenly spread and bunched up values in both orders.
+     */
+    @Test
+    public void sortsValues() {
+        Random random = new Random(41);
+        double[] spread = new double[5000];
+        double[] bunched = new double[5000];
+        for (int index = 0; index < spread.length; index++) {
+            spread[index] = random.nextDouble() * 200 - 100;
+            bunched[index] = index % 100 == 0 ? 1e9 : random.nextGaussian();
+        }
+        spread[0] = -0.0;
+        spread[1] = 0.0;
+
+        for (double[] values : new double[][] { spread, bunched, { 3, 3, 3 }, { 1 }, { } }) {
+            assertSorts(values);
+        }
+    }
+
+    /**
+     * Checks if values without a bounded span still sort, by falling back to a comparison sort.
+     */
+    @Test
+    public void sortsUnboundedValues() {
+        assertSorts(new double[] { 4, Double.NaN, -2, Double.NEGATIVE_INFINITY, 7 });
+        assertSorts(new double[] { -Double.MAX_VALUE, 0, Double.MAX_VALUE, 1 });
+    }
+
+    private static void assertSorts(double[] values) {
+        double[] expected = values.clone();
+        Arrays.sort(expected);
+
+        double[] ascending = values.clone();
+        new BucketSort().sort(ascending, Sort.Order.ASCENDING);
+        Assert.assertArrayEquals(expected, ascending, 0);
+
+        double[] descending = values.clone();
+        new BucketSort().sort(descending, Sort.Order.DESCENDING);
+        for (int index = 0; index < expected.length; index++) {
+            Assert.assertEquals(expected[expected.length - 1 - index], descending[index], 0);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+public class CountingSortTest {
+
+    /**
+     * Checks if counting sort correctly sorts a list of integers in both orders.
+     */
+    @Test
+    public void sortsIntegers() {
+        for (Sort.Order order : Sort.Order.values()) {
+            List<Integer> elements = new ArrayList<>();
+            elements.add(5);
+            elements.add(3);
+            elements.add(12);
+            elements.add(1);
+            elements.add(0);
+            elements.add(-1);
+            elements.add(-10);
+            elements.add(6);
+            elements.add(7);
+            elements.add(7);
+
+            CountingSort countingSort = new CountingSort();
+            List<Integer> sorted = countingSort.sort(elements, order);
+            Assert.assertSame(elements, sorted);
+            Assert.assertTrue(countingSort.isSorted(sorted, order));
+        }
+    }
+
+    /**
+     * Checks if counting sort orders enum constants by ordinal.
+     */
+    @Test
+    public void sortsEnums() {
+        List<Sort.Order> elements = new LinkedList<>(Arrays.asList(Sort.Order.DESCENDING,
+                                                                   Sort.Order.ASCENDING,
+                                                                   Sort.Order.DESCENDING,
+                                                                   Sort.Order.ASCENDING));
+
+        new CountingSort().sort(elements, Sort.Order.ASCENDING);
+
+        Assert.assertEquals(Arrays.asList(Sort.Order.ASCENDING,
+                                          Sort.Order.ASCENDING,
+                                          Sort.Order.DESCENDING,
+                                          Sort.Order.DESCENDING), elements);
+    }
+
+    /**
+     * Checks if counting sort keeps elements with equal keys in their original order, both when counting and when
+     * falling back to a comparison sort.
+     */
+    @Test
+    public void sortsByKeyStable() {
+        Random random = new Random(41);
+        for (long budget : new long[] { CountingSort.DEFAULT_MEMORY_BUDGET, 0 }) {
+            for (Sort.Order order : Sort.Order.values()) {
+                List<int[]> requests = new ArrayList<>();
+                for (int index = 0; index < 1000; index++) {
+                    requests.add(new int[] { random.nextInt(10), index });
+                }
+
+                new CountingSort(budget).sort(requests, request -> request[0], order);
+
+                for (int index = 1; index < requests.size(); index++) {
+                    int[] previous = requests.get(index - 1);
+                    int[] current = requests.get(index);
+                    int comparison = Integer.compare(previous[0], current[0]);
+                    if (order == Sort.Order.DESCENDING) {
+                        comparison = -comparison;
+                    }
+                    Assert.assertTrue(comparison < 0 || (comparison == 0 && previous[1] < current[1]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if counting sort correctly sorts arrays in both orders, including ranges too wide to count.
+     */
+    @Test
+    public void sortsArrays() {
+        Random random = new Random(14);
+        int[] narrow = new int[1000];
+        int[] wide = new int[1000];
+        for (int index = 0; index < narrow.length; index++) {
+            narrow[index] = random.nextInt(50) - 25;
+            wide[index] = random.nextInt();
+        }
+        wide[0] = Integer.MIN_VALUE;
+        wide[1] = Integer.MAX_VALUE;
+
+        for (int[] values : new int[][] { narrow, wide }) {
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            int[] ascending = values.clone();
+            new CountingSort().sort(ascending, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expected, ascending);
+
+            int[] descending = values.clone();
+            new CountingSort().sort(descending, Sort.Order.DESCENDING);
+            for (int index = 0; index < expected.length; index++) {
+                Assert.assertEquals(expected[expected.length - 1 - index], descending[index]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class DaryHeapTest {
+
+    /**
+     * Tests if a heap polls elements in comparator order.
+     */
+    @Test
+    public void pollsInOrder() {
+        Random random = new Random(46L);
+        List<String> elements = new ArrayList<>();
+        for (int index = 0; index < 500; index++) {
+            elements.add(Integer.toString(random.nextInt(1000)));
+        }
+        List<String> expected = new ArrayList<>(elements);
+        Collections.sort(expected);
+
+        DaryHeap<String> heap = new DaryHeap<>(Comparator.naturalOrder());
+        for (String element : elements) {
+            heap.add(element);
+        }
+
+        List<String> polled = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            polled.add(heap.poll());
+        }
+        Assert.assertEquals(expected, polled);
+    }
+
+    /**
+     * Tests if a heapified array keeps the element that comes first by a reversed comparator on top, and if
+     * replacing the top and updating keys keep heap order.
+     */
+    @Test
+    public void heapifiesAndUpdates() {
+        Integer[] elements = { 4, 8, 1, 6, 3 };
+        DaryHeap<Integer> heap =
+                DaryHeap.heapify(2, Comparator.<Integer>naturalOrder().reversed(), elements, elements.length);
+        Assert.assertEquals(8, (int) heap.peek());
+
+        Assert.assertEquals(8, (int) heap.replaceTop(2));
+        Assert.assertEquals(6, (int) heap.peek());
+
+        // Raise the smallest element to the top
+        int smallest = 0;
+        for (int position = 1; position < heap.size(); position++) {
+            if (heap.get(position) < heap.get(smallest)) {
+                smallest = position;
+            }
+        }
+        heap.update(smallest, 10);
+
+        Assert.assertEquals(10, (int) heap.poll());
+        Assert.assertEquals(6, (int) heap.poll());
+        Assert.assertEquals(4, (int) heap.poll());
+        Assert.assertEquals(3, (int) heap.poll());
+        Assert.assertEquals(2, (int) heap.poll());
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Tests if adds and updates return the position a position listener was told, so callers can keep handles to
+     * update elements by.
+     */
+    @Test
+    public void tracksPositions() {
+        Map<String, Integer> positions = new HashMap<>();
+        DaryHeap<String> heap = new DaryHeap<>(3, Comparator.naturalOrder(), 0);
+        heap.setPositionListener(positions::put);
+
+        for (String element : new String[] { "m", "q", "c", "x", "f", "a", "t" }) {
+            int position = heap.add(element);
+            Assert.assertEquals(Integer.valueOf(position), positions.get(element));
+        }
+        for (Map.Entry<String, Integer> entry : positions.entrySet()) {
+            Assert.assertEquals(entry.getKey(), heap.get(entry.getValue()));
+        }
+
+        // Replace the element a handle points to, as decrease-key would
+        int updated = heap.update(positions.get("x"), "b");
+        Assert.assertEquals("b", heap.get(updated));
+        Assert.assertEquals(Integer.valueOf(updated), positions.get("b"));
+
+        Assert.assertEquals("a", heap.poll());
+        Assert.assertEquals(Integer.valueOf(-1), positions.get("a"));
+        Assert.assertEquals(Integer.valueOf(0), positions.get("b"));
+    }
+
+}
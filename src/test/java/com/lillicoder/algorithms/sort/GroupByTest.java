@@ -0,0 +1,181 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+public class GroupByTest {
+
+    /**
+     * Checks if records are grouped by key with the count, sum, min and max of their values, in key order.
+     */
+    @Test
+    public void summarizesGroups() {
+        List<int[]> records = new ArrayList<>();
+        records.add(new int[] { 404, 12 });
+        records.add(new int[] { 200, 5 });
+        records.add(new int[] { 500, 40 });
+        records.add(new int[] { 200, 7 });
+        records.add(new int[] { 404, 3 });
+        records.add(new int[] { 200, 1 });
+
+        List<GroupBy.Group<Integer, LongSummaryStatistics>> groups =
+                new GroupBy().summarize(records, record -> record[0], record -> record[1], Sort.Order.DESCENDING);
+
+        Assert.assertEquals(3, groups.size());
+        Assert.assertEquals(Integer.valueOf(500), groups.get(0).getKey());
+        Assert.assertEquals(Integer.valueOf(404), groups.get(1).getKey());
+        Assert.assertEquals(Integer.valueOf(200), groups.get(2).getKey());
+
+        LongSummaryStatistics ok = groups.get(2).getResult();
+        Assert.assertEquals(3, ok.getCount());
+        Assert.assertEquals(13, ok.getSum());
+        Assert.assertEquals(1, ok.getMin());
+        Assert.assertEquals(7, ok.getMax());
+    }
+
+    /**
+     * Checks if a custom reducer sees each group's records in their original order.
+     */
+    @Test
+    public void reducesInOriginalOrder() {
+        List<String> words = Arrays.asList("pear", "fig", "plum", "kiwi", "apple", "lime", "date");
+
+        List<GroupBy.Group<Integer, String>> groups =
+                new GroupBy().aggregate(words, String::length, Collectors.joining(","), Sort.Order.ASCENDING);
+
+        Assert.assertEquals("[3=fig, 4=pear,plum,kiwi,lime,date, 5=apple]", groups.toString());
+    }
+
+    /**
+     * Checks if parallel mode gives the same groups as sequential mode.
+     */
+    @Test
+    public void aggregatesInParallel() {
+        Random random = new Random(43);
+        List<int[]> records = new ArrayList<>();
+        for (int index = 0; index < 6 * GroupBy.MIN_CHUNK_SIZE; index++) {
+            records.add(new int[] { random.nextInt(100), index });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<GroupBy.Group<Integer, List<Integer>>> sequential = new GroupBy().aggregate(
+                    records,
+                    record -> record[0],
+                    Collectors.mapping(record -> record[1], Collectors.toList()),
+                    Sort.Order.ASCENDING);
+            List<GroupBy.Group<Integer, List<Integer>>> parallel = new GroupBy(pool).aggregate(
+                    records,
+                    record -> record[0],
+                    Collectors.mapping(record -> record[1], Collectors.toList()),
+                    Sort.Order.ASCENDING);
+
+            Assert.assertEquals(sequential.toString(), parallel.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Checks if the primitive fast path matches grouping by map.
+     */
+    @Test
+    public void aggregatesLongs() {
+        Random random = new Random(34);
+        long[] keys = new long[10000];
+        long[] values = new long[keys.length];
+        Map<Long, LongSummaryStatistics> expected = new TreeMap<>();
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = random.nextInt(300) - 150;
+            values[index] = random.nextInt();
+            expected.computeIfAbsent(keys[index], key -> new LongSummaryStatistics()).accept(values[index]);
+        }
+
+        LongAggregates aggregates = new GroupBy().aggregate(keys, values, Sort.Order.ASCENDING);
+
+        Assert.assertEquals(expected.size(), aggregates.size());
+        int group = 0;
+        for (Map.Entry<Long, LongSummaryStatistics> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getKey().longValue(), aggregates.getKey(group));
+            Assert.assertEquals(entry.getValue().getCount(), aggregates.getCount(group));
+            Assert.assertEquals(entry.getValue().getSum(), aggregates.getSum(group));
+            Assert.assertEquals(entry.getValue().getMin(), aggregates.getMin(group));
+            Assert.assertEquals(entry.getValue().getMax(), aggregates.getMax(group));
+            group++;
+        }
+    }
+
+    /**
+     * Checks if {@code long} keys spanning the whole range are grouped in descending order, and if the given arrays
+     * are left alone.
+     */
+    @Test
+    public void aggregatesLongsDescending() {
+        long[] keys = { 7, Long.MIN_VALUE, -1, Long.MAX_VALUE, 7, 0, -1, 1L << 40, Long.MIN_VALUE };
+        long[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        long[] originalKeys = keys.clone();
+
+        LongAggregates aggregates = new GroupBy().aggregate(keys, values, Sort.Order.DESCENDING);
+
+        Assert.assertArrayEquals(originalKeys, keys);
+        long[] expectedKeys = { Long.MAX_VALUE, 1L << 40, 7, 0, -1, Long.MIN_VALUE };
+        long[] expectedSums = { 4, 8, 6, 6, 10, 11 };
+        Assert.assertEquals(expectedKeys.length, aggregates.size());
+        for (int group = 0; group < expectedKeys.length; group++) {
+            Assert.assertEquals(expectedKeys[group], aggregates.getKey(group));
+            Assert.assertEquals(expectedSums[group], aggregates.getSum(group));
+        }
+        Assert.assertEquals(2, aggregates.getCount(2));
+        Assert.assertEquals(1, aggregates.getMin(2));
+        Assert.assertEquals(5, aggregates.getMax(2));
+    }
+
+    /**
+     * Checks if sorted inputs are grouped lazily across a k-way merge.
+     */
+    @Test
+    public void aggregatesSortedInputs() {
+        List<Iterator<String>> inputs = Arrays.asList(Arrays.asList("a1", "b1", "b2", "d1").iterator(),
+                                                      Arrays.asList("b3", "c1").iterator(),
+                                                      new ArrayList<String>().iterator(),
+                                                      Arrays.asList("a2", "d2").iterator());
+
+        Iterator<GroupBy.Group<Character, String>> groups = new GroupBy().aggregateSorted(
+                inputs,
+                record -> record.charAt(0),
+                Collectors.joining(","),
+                Sort.Order.ASCENDING);
+
+        Assert.assertEquals("a=a1,a2", groups.next().toString());
+        Assert.assertEquals("b=b1,b2,b3", groups.next().toString());
+        Assert.assertEquals("c=c1", groups.next().toString());
+        Assert.assertEquals("d=d1,d2", groups.next().toString());
+        Assert.assertFalse(groups.hasNext());
+    }
+
+    /**
+     * Checks if an unsorted input is reported.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void rejectsUnsortedInput() {
+        List<Iterator<Integer>> inputs = Arrays.asList(Arrays.asList(1, 3, 2).iterator());
+
+        Iterator<GroupBy.Group<Integer, Long>> groups =
+                new GroupBy().aggregateSorted(inputs, record -> record, Collectors.counting(), Sort.Order.ASCENDING);
+        while (groups.hasNext()) {
+            groups.next();
+        }
+    }
+
+}
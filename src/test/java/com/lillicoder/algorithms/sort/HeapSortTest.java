@@ -0,0 +1,83 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class HeapSortTest {
+
+    /**
+     * Checks if heapsort correctly sorts a list with no elements.
+     */
+    @Test
+    public void sortsEmpty() {
+        List<Integer> elements = new ArrayList<>();
+
+        HeapSort heapSort = new HeapSort();
+        elements = heapSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertTrue(heapSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if heapsort correctly sorts a list in both orders with several arities.
+     */
+    @Test
+    public void sortsBothOrders() {
+        Random random = new Random(46L);
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            elements.add(random.nextInt(100));
+        }
+
+        for (int arity = 2; arity <= 8; arity++) {
+            HeapSort heapSort = new HeapSort(arity);
+            List<Integer> ascending = heapSort.sort(new ArrayList<>(elements), Sort.Order.ASCENDING);
+            Assert.assertTrue(heapSort.isSorted(ascending, Sort.Order.ASCENDING));
+            Assert.assertEquals(elements.size(), ascending.size());
+
+            List<Integer> descending = heapSort.sort(new ArrayList<>(elements), Sort.Order.DESCENDING);
+            Assert.assertTrue(heapSort.isSorted(descending, Sort.Order.DESCENDING));
+        }
+    }
+
+    /**
+     * Checks if heapsort sorts primitive and object arrays to the same result as {@link Arrays#sort}.
+     */
+    @Test
+    public void sortsArrays() {
+        Random random = new Random(46L);
+        int[] ints = new int[1000];
+        long[] longs = new long[1000];
+        String[] strings = new String[1000];
+        for (int index = 0; index < ints.length; index++) {
+            ints[index] = random.nextInt();
+            longs[index] = random.nextLong();
+            strings[index] = Integer.toString(random.nextInt(500));
+        }
+
+        HeapSort heapSort = new HeapSort();
+
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        heapSort.sort(ints, Sort.Order.ASCENDING);
+        Assert.assertArrayEquals(expectedInts, ints);
+
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        heapSort.sort(longs, Sort.Order.DESCENDING);
+        for (int index = 0; index < longs.length; index++) {
+            Assert.assertEquals(expectedLongs[longs.length - 1 - index], longs[index]);
+        }
+
+        String[] expectedStrings = strings.clone();
+        Arrays.sort(expectedStrings, Comparator.reverseOrder());
+        heapSort.sort(strings, Comparator.reverseOrder());
+        Assert.assertArrayEquals(expectedStrings, strings);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HyperLogLogTest {
+
+    /**
+     * Tests if small and large distinct counts are estimated within a few standard errors, however often each
+     * element is added.
+     */
+    @Test
+    public void estimatesDistinctCount() {
+        for (int distinct : new int[] { 10, 1000, 100000 }) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int repeat = 0; repeat < 3; repeat++) {
+                for (int value = 0; value < distinct; value++) {
+                    sketch.add(value);
+                }
+            }
+
+            Assert.assertEquals(distinct, sketch.estimate(), distinct * 0.05);
+        }
+    }
+
+    /**
+     * Tests if merged sketches estimate the union of what was added to each.
+     */
+    @Test
+    public void mergesSketches() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        for (int value = 0; value < 60000; value++) {
+            left.add(value);
+            right.add(value + 40000);
+        }
+
+        left.addAll(right);
+        Assert.assertEquals(100000, left.estimate(), 5000);
+    }
+
+    /**
+     * Tests if sketches of different precision are not merged.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMismatchedPrecision() {
+        new HyperLogLog(10).addAll(new HyperLogLog(12));
+    }
+
+}
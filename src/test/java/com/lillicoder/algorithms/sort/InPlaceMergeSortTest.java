@@ -0,0 +1,152 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.metrics.Allocations;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class InPlaceMergeSortTest {
+
+    /**
+     * Checks if in place merge sort correctly sorts a list with no elements.
+     */
+    @Test
+    public void sortsEmpty() {
+        List<Integer> elements = new ArrayList<>();
+
+        InPlaceMergeSort inPlaceMergeSort = new InPlaceMergeSort();
+        elements = inPlaceMergeSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertTrue(inPlaceMergeSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if in place merge sort correctly sorts a list in ascending order, in place.
+     */
+    @Test
+    public void sortsAscending() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+        elements.add(-1);
+        elements.add(-10);
+        elements.add(6);
+        elements.add(7);
+        elements.add(7);
+
+        InPlaceMergeSort inPlaceMergeSort = new InPlaceMergeSort();
+        List<Integer> sorted = inPlaceMergeSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertSame(elements, sorted);
+        Assert.assertTrue(inPlaceMergeSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if in place merge sort correctly sorts a list in descending order.
+     */
+    @Test
+    public void sortsDescending() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+        elements.add(-1);
+        elements.add(-10);
+        elements.add(6);
+        elements.add(7);
+        elements.add(7);
+
+        InPlaceMergeSort inPlaceMergeSort = new InPlaceMergeSort();
+        elements = inPlaceMergeSort.sort(elements, Sort.Order.DESCENDING);
+        Assert.assertTrue(inPlaceMergeSort.isSorted(elements, Sort.Order.DESCENDING));
+    }
+
+    /**
+     * Checks if in place merge sort matches a library sort across sizes that leave partial blocks and runs.
+     */
+    @Test
+    public void sortsRandomSizes() {
+        Random random = new Random(38);
+        InPlaceMergeSort inPlaceMergeSort = new InPlaceMergeSort();
+        for (int size : new int[] { 1, 2, 19, 20, 21, 41, 100, 1000, 4099 }) {
+            List<Integer> elements = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                elements.add(random.nextInt(size));
+            }
+            List<Integer> expected = new ArrayList<>(elements);
+            Collections.sort(expected);
+
+            inPlaceMergeSort.sort(elements, Sort.Order.ASCENDING);
+            Assert.assertEquals("Size " + size, expected, elements);
+        }
+    }
+
+    /**
+     * Checks if in place merge sort keeps equal elements in their original order.
+     */
+    @Test
+    public void keepsEqualElementsStable() {
+        Random random = new Random(20);
+        List<Keyed> elements = new ArrayList<>();
+        for (int index = 0; index < 2000; index++) {
+            elements.add(new Keyed(random.nextInt(25), index));
+        }
+
+        new InPlaceMergeSort().sort(elements, Sort.Order.DESCENDING);
+
+        for (int index = 1; index < elements.size(); index++) {
+            Keyed previous = elements.get(index - 1);
+            Keyed current = elements.get(index);
+            Assert.assertTrue(previous.key > current.key
+                                      || (previous.key == current.key && previous.position < current.position));
+        }
+    }
+
+    /**
+     * Checks if in place merge sort allocates nothing in proportion to the size of the list.
+     */
+    @Test
+    public void allocatesNoBuffer() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 100000; index++) {
+            elements.add(Integer.valueOf((index * 7919) % 100000));
+        }
+
+        InPlaceMergeSort inPlaceMergeSort = new InPlaceMergeSort();
+        long start = Allocations.current();
+        inPlaceMergeSort.sort(elements, Sort.Order.ASCENDING);
+        long allocated = Allocations.since(start);
+
+        Assert.assertTrue(inPlaceMergeSort.isSorted(elements, Sort.Order.ASCENDING));
+        // A copying merge of 100,000 references would need hundreds of kilobytes
+        Assert.assertTrue("Allocated " + allocated + " bytes", allocated < 64 * 1024);
+    }
+
+    /**
+     * Element that compares by key only, remembering its original position.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+
+        private final int key;
+        private final int position;
+
+        Keyed(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
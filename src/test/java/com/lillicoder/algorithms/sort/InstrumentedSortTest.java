@@ -0,0 +1,146 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.metrics.Metrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InstrumentedSortTest {
+
+    /**
+     * Checks if an instrumented in place sort still sorts the given list and reports its work.
+     */
+    @Test
+    public void measuresInPlaceSort() {
+        // Large enough that the sort partitions before handing off to insertion sort
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            elements.add((index * 17) % 23 - 10);
+        }
+
+        List<Metrics> recorded = new ArrayList<>();
+        InstrumentedSort instrumentedSort = new InstrumentedSort(new Quicksort(), recorded::add);
+        List<Integer> sorted = instrumentedSort.sort(elements, Sort.Order.ASCENDING);
+
+        Assert.assertSame(elements, sorted);
+        Assert.assertTrue(new Quicksort().isSorted(elements, Sort.Order.ASCENDING));
+
+        Assert.assertEquals(1, recorded.size());
+        Metrics metrics = recorded.get(0);
+        Assert.assertEquals("Quicksort", metrics.getOperation());
+        Assert.assertEquals(40, metrics.getSize());
+        Assert.assertTrue(metrics.getComparisons() >= 39);
+        Assert.assertTrue(metrics.getMoves() > 0);
+        Assert.assertTrue(metrics.getMaxDepth() > 1);
+        Assert.assertTrue(metrics.getElapsedNanos() > 0);
+    }
+
+    /**
+     * Checks if an instrumented sort that returns a new list leaves the given list alone.
+     */
+    @Test
+    public void measuresCopyingSort() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        for (int index = 1; index < 40; index++) {
+            elements.add(index);
+        }
+
+        List<Metrics> recorded = new ArrayList<>();
+        InstrumentedSort instrumentedSort = new InstrumentedSort(new MergeSort(), recorded::add);
+        List<Integer> sorted = instrumentedSort.sort(elements, Sort.Order.DESCENDING);
+
+        Assert.assertEquals(Integer.valueOf(5), elements.get(0));
+        Assert.assertTrue(new MergeSort().isSorted(sorted, Sort.Order.DESCENDING));
+        Assert.assertEquals(40, sorted.size());
+        Assert.assertTrue(recorded.get(0).getComparisons() > 0);
+        Assert.assertEquals(3, recorded.get(0).getMaxDepth());
+    }
+
+    /**
+     * Checks if sorts that choose their path by element type take the same path when instrumented: a counting
+     * sort of integers makes no comparisons at all, and an adaptive sort of reversed integers, which never need a
+     * stable sort, just checks the order and reverses the list.
+     */
+    @Test
+    public void keepsTypeSpecificPaths() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            elements.add((index * 7919) % 100);
+        }
+
+        List<Metrics> recorded = new ArrayList<>();
+        List<Integer> counted = new InstrumentedSort(new CountingSort(), recorded::add)
+                .sort(new ArrayList<>(elements), Sort.Order.ASCENDING);
+
+        Assert.assertTrue(new CountingSort().isSorted(counted, Sort.Order.ASCENDING));
+        Assert.assertEquals(0, recorded.get(0).getComparisons());
+        Assert.assertEquals(1000, recorded.get(0).getMoves());
+
+        List<Integer> reversed = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            reversed.add(1000 - index);
+        }
+        new InstrumentedSort(new AdaptiveSort(), recorded::add).sort(reversed, Sort.Order.ASCENDING);
+
+        Assert.assertTrue(new AdaptiveSort().isSorted(reversed, Sort.Order.ASCENDING));
+        // One comparison to find the list is out of order, then a full scan to find it is reversed
+        Assert.assertEquals(1000, recorded.get(1).getComparisons());
+    }
+
+    /**
+     * Checks if an instrumented parallel sort counts the comparisons made on every thread of its pool.
+     */
+    @Test
+    public void measuresParallelSort() {
+        AtomicLong comparisons = new AtomicLong();
+        Random random = new Random(33);
+        List<Counted> elements = new ArrayList<>();
+        for (int index = 0; index < 8 * ParallelMergeSort.SEQUENTIAL_SIZE; index++) {
+            elements.add(new Counted(random.nextInt(), comparisons));
+        }
+
+        List<Metrics> recorded = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InstrumentedSort instrumentedSort = new InstrumentedSort(new ParallelMergeSort(pool), recorded::add);
+            List<Counted> sorted = instrumentedSort.sort(elements, Sort.Order.ASCENDING);
+
+            Assert.assertEquals(comparisons.get(), recorded.get(0).getComparisons());
+            Assert.assertTrue(new MergeSort().isSorted(sorted, Sort.Order.ASCENDING));
+        } finally {
+            pool.shutdown();
+        }
+
+        Metrics metrics = recorded.get(0);
+        // Three parallel splits down to the sequential size, then the merge sort's own
+        Assert.assertTrue(metrics.getMaxDepth() > 4);
+    }
+
+    /**
+     * Element that counts its own comparisons.
+     */
+    private static class Counted implements Comparable<Counted> {
+
+        private final int key;
+        private final AtomicLong comparisons;
+
+        Counted(int key, AtomicLong comparisons) {
+            this.key = key;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compareTo(Counted other) {
+            comparisons.incrementAndGet();
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class IntDaryHeapTest {
+
+    /**
+     * Tests if min and max heaps of several arities poll random values in order.
+     */
+    @Test
+    public void pollsInOrder() {
+        Random random = new Random(46L);
+        int[] values = new int[1000];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = random.nextInt(200) - 100;
+        }
+        int[] ascending = values.clone();
+        Arrays.sort(ascending);
+
+        for (int arity = 2; arity <= 8; arity++) {
+            IntDaryHeap min = new IntDaryHeap(arity, Sort.Order.ASCENDING, 0);
+            IntDaryHeap max = new IntDaryHeap(arity, Sort.Order.DESCENDING, 0);
+            for (int value : values) {
+                min.add(value);
+                max.add(value);
+            }
+            Assert.assertEquals(values.length, min.size());
+
+            for (int index = 0; index < values.length; index++) {
+                Assert.assertEquals(ascending[index], min.poll());
+                Assert.assertEquals(ascending[values.length - 1 - index], max.poll());
+            }
+            Assert.assertTrue(min.isEmpty());
+            Assert.assertTrue(max.isEmpty());
+        }
+    }
+
+    /**
+     * Tests if a heapified array polls in order.
+     */
+    @Test
+    public void heapifiesInPlace() {
+        int[] values = { 5, 3, 9, 1, 7, 2, 8, 0, 0, 0 };
+        IntDaryHeap heap = IntDaryHeap.heapify(3, Sort.Order.ASCENDING, values, 7);
+
+        Assert.assertEquals(7, heap.size());
+        int[] polled = new int[7];
+        for (int index = 0; index < polled.length; index++) {
+            polled[index] = heap.poll();
+        }
+        Assert.assertArrayEquals(new int[] { 1, 2, 3, 5, 7, 8, 9 }, polled);
+    }
+
+    /**
+     * Tests if replacing the top keeps the k largest values seen.
+     */
+    @Test
+    public void keepsTopK() {
+        IntDaryHeap heap = new IntDaryHeap(Sort.Order.ASCENDING);
+        for (int value : new int[] { 4, 9, 1, 7, 3, 8, 2, 6 }) {
+            if (heap.size() < 3) {
+                heap.add(value);
+            } else if (value > heap.peek()) {
+                heap.replaceTop(value);
+            }
+        }
+
+        Assert.assertEquals(7, heap.poll());
+        Assert.assertEquals(8, heap.poll());
+        Assert.assertEquals(9, heap.poll());
+    }
+
+    /**
+     * Tests if updating a value moves it up or down as needed.
+     */
+    @Test
+    public void updatesKeys() {
+        IntDaryHeap heap = new IntDaryHeap(2, Sort.Order.ASCENDING, 4);
+        for (int value = 10; value <= 80; value += 10) {
+            heap.add(value);
+        }
+
+        // Decrease the last value past the top
+        heap.update(heap.size() - 1, 5);
+        Assert.assertEquals(5, heap.peek());
+
+        // Increase the top past everything
+        heap.update(0, 100);
+        Assert.assertEquals(10, heap.peek());
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int value = heap.poll();
+            Assert.assertTrue(value >= previous);
+            previous = value;
+        }
+        Assert.assertEquals(100, previous);
+    }
+
+    /**
+     * Tests if a position listener keeps an array of positions in step with the heap through adds, key decreases
+     * and polls, as a shortest path search would.
+     */
+    @Test
+    public void tracksPositions() {
+        // Values are priority * 1000 + id, so the id of any value is its last three digits
+        int ids = 1000;
+        int[] positions = new int[ids];
+        IntDaryHeap heap = new IntDaryHeap(Sort.Order.ASCENDING);
+        heap.setPositionListener((value, position) -> positions[value % ids] = position);
+
+        Random random = new Random(46L);
+        for (int id = 0; id < ids; id++) {
+            int position = heap.add((random.nextInt(1000) + 1000) * ids + id);
+            Assert.assertEquals(positions[id], position);
+        }
+
+        for (int step = 0; step < 5000; step++) {
+            int id = random.nextInt(ids);
+            int priority = heap.get(positions[id]) / ids;
+            if (priority > 0) {
+                int position = heap.update(positions[id], random.nextInt(priority) * ids + id);
+                Assert.assertEquals(positions[id], position);
+            }
+        }
+        for (int position = 0; position < heap.size(); position++) {
+            Assert.assertEquals(position, positions[heap.get(position) % ids]);
+        }
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int value = heap.poll();
+            Assert.assertTrue(value >= previous);
+            Assert.assertEquals(-1, positions[value % ids]);
+            previous = value;
+        }
+    }
+
+    /**
+     * Tests if an empty heap rejects peeks.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void rejectsPeekWhenEmpty() {
+        IntDaryHeap heap = new IntDaryHeap(Sort.Order.ASCENDING);
+        heap.add(1);
+        heap.clear();
+        heap.peek();
+    }
+
+    /**
+     * Tests if an arity less than two is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidArity() {
+        new IntDaryHeap(1, Sort.Order.ASCENDING, 16);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class LazySortedIteratorTest {
+
+    /**
+     * Checks if a lazy sorted iterator yields nothing for a list with no elements.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void iteratesEmpty() {
+        LazySortedIterator<Integer> iterator = new LazySortedIterator<>(new ArrayList<Integer>(), Sort.Order.ASCENDING);
+        Assert.assertFalse(iterator.hasNext());
+        iterator.next();
+    }
+
+    /**
+     * Checks if a lazy sorted iterator yields every element in order, in both orders.
+     */
+    @Test
+    public void iteratesInOrder() {
+        Random random = new Random(40);
+        for (Sort.Order order : Sort.Order.values()) {
+            List<Integer> elements = new ArrayList<>();
+            for (int index = 0; index < 5000; index++) {
+                elements.add(random.nextInt(100000));
+            }
+            List<Integer> expected = new ArrayList<>(elements);
+            Collections.sort(expected);
+            if (order == Sort.Order.DESCENDING) {
+                Collections.reverse(expected);
+            }
+
+            List<Integer> iterated = new ArrayList<>();
+            LazySortedIterator<Integer> iterator = new LazySortedIterator<>(elements, order);
+            while (iterator.hasNext()) {
+                iterated.add(iterator.next());
+            }
+
+            Assert.assertEquals(expected, iterated);
+        }
+    }
+
+    /**
+     * Checks if reading a page of a large list costs far fewer comparisons than sorting all of it.
+     */
+    @Test
+    public void readsFirstPageLazily() {
+        int size = 20000;
+        int[] comparisons = new int[1];
+        List<Counted> elements = new ArrayList<>();
+        Random random = new Random(4);
+        for (int index = 0; index < size; index++) {
+            elements.add(new Counted(random.nextInt(), comparisons));
+        }
+        List<Counted> expected = new ArrayList<>(elements);
+        Collections.sort(expected);
+        comparisons[0] = 0;
+
+        LazySortedIterator<Counted> iterator = new LazySortedIterator<>(elements, Sort.Order.ASCENDING);
+        List<Counted> page = iterator.nextPage(10);
+
+        Assert.assertEquals(expected.subList(0, 10), page);
+        // A full sort needs about n log(n), roughly 14 comparisons per element here
+        Assert.assertTrue("Made " + comparisons[0] + " comparisons", comparisons[0] < 6 * size);
+
+        List<Counted> second = iterator.nextPage(10);
+        Assert.assertEquals(expected.subList(10, 20), second);
+    }
+
+    /**
+     * Checks if the last page is cut short once the list runs out.
+     */
+    @Test
+    public void readsLastPageShort() {
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            elements.add(25 - index);
+        }
+
+        LazySortedIterator<Integer> iterator = new LazySortedIterator<>(elements, Sort.Order.ASCENDING);
+        Assert.assertEquals(20, iterator.nextPage(20).size());
+        List<Integer> last = iterator.nextPage(20);
+
+        Assert.assertEquals(5, last.size());
+        Assert.assertEquals(Integer.valueOf(21), last.get(0));
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertTrue(iterator.nextPage(20).isEmpty());
+    }
+
+    /**
+     * Element that counts comparisons made against it.
+     */
+    private static class Counted implements Comparable<Counted> {
+
+        private final int value;
+        private final int[] comparisons;
+
+        Counted(int value, int[] comparisons) {
+            this.value = value;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compareTo(Counted other) {
+            comparisons[0]++;
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Counted && ((Counted) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LongDaryHeapTest {
+
+    /**
+     * Tests if min and max heaps poll random values, including values past the {@code int} range, in order.
+     */
+    @Test
+    public void pollsInOrder() {
+        Random random = new Random(46L);
+        long[] values = new long[1000];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = random.nextLong();
+        }
+        long[] ascending = values.clone();
+        Arrays.sort(ascending);
+
+        LongDaryHeap min = new LongDaryHeap(Sort.Order.ASCENDING);
+        LongDaryHeap max = LongDaryHeap.heapify(8, Sort.Order.DESCENDING, values.clone(), values.length);
+        for (long value : values) {
+            min.add(value);
+        }
+
+        for (int index = 0; index < values.length; index++) {
+            Assert.assertEquals(ascending[index], min.poll());
+            Assert.assertEquals(ascending[values.length - 1 - index], max.poll());
+        }
+    }
+
+    /**
+     * Tests if a position listener is told where every value is, including those already in the heap when it is
+     * set, and when values leave the heap.
+     */
+    @Test
+    public void tracksPositions() {
+        Map<Long, Integer> positions = new HashMap<>();
+        long[] values = { 5L << 40, 3L << 40, 4L << 40 };
+        LongDaryHeap heap = LongDaryHeap.heapify(2, Sort.Order.ASCENDING, values, values.length);
+        heap.setPositionListener(positions::put);
+        Assert.assertEquals(Integer.valueOf(0), positions.get(3L << 40));
+
+        Assert.assertEquals(0, heap.add(1L << 40));
+        Assert.assertEquals(Integer.valueOf(0), positions.get(1L << 40));
+        for (Map.Entry<Long, Integer> entry : positions.entrySet()) {
+            Assert.assertEquals((long) entry.getKey(), heap.get(entry.getValue()));
+        }
+
+        Assert.assertEquals(1L << 40, heap.replaceTop(6L << 40));
+        Assert.assertEquals(Integer.valueOf(-1), positions.get(1L << 40));
+        heap.clear();
+        for (int position : positions.values()) {
+            Assert.assertEquals(-1, position);
+        }
+    }
+
+    /**
+     * Tests if updating a value moves it up or down as needed.
+     */
+    @Test
+    public void updatesKeys() {
+        LongDaryHeap heap = new LongDaryHeap(Sort.Order.DESCENDING);
+        heap.add(1L << 40);
+        heap.add(2L << 40);
+        heap.add(3L << 40);
+
+        heap.update(0, 0);
+        Assert.assertEquals(2L << 40, heap.poll());
+        Assert.assertEquals(1L << 40, heap.replaceTop(-1));
+        Assert.assertEquals(0, heap.poll());
+        Assert.assertEquals(-1, heap.poll());
+    }
+
+}
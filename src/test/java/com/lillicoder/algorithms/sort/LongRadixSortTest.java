@@ -0,0 +1,66 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class LongRadixSortTest {
+
+    /**
+     * Tests if keys of every sign and magnitude are sorted in both orders, each value moving with its key.
+     */
+    @Test
+    public void sortsKeysWithValues() {
+        Random random = new Random(43L);
+        long[] keys = new long[5000];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = index % 3 == 0 ? random.nextLong() : random.nextInt(100) - 50;
+        }
+        keys[0] = Long.MIN_VALUE;
+        keys[1] = Long.MAX_VALUE;
+        long[] ascending = keys.clone();
+        Arrays.sort(ascending);
+
+        for (Sort.Order order : Sort.Order.values()) {
+            long[] sortedKeys = keys.clone();
+            // Each value is the key's complement, so it can be checked against the key it moved with
+            long[] sortedValues = new long[keys.length];
+            for (int index = 0; index < keys.length; index++) {
+                sortedValues[index] = ~keys[index];
+            }
+
+            new LongRadixSort().sort(sortedKeys, sortedValues, order);
+            for (int index = 0; index < keys.length; index++) {
+                long expected = order == Sort.Order.ASCENDING
+                        ? ascending[index]
+                        : ascending[keys.length - 1 - index];
+                Assert.assertEquals(expected, sortedKeys[index]);
+                Assert.assertEquals(~expected, sortedValues[index]);
+            }
+        }
+    }
+
+    /**
+     * Tests if values of equal keys keep their original order.
+     */
+    @Test
+    public void keepsEqualKeysStable() {
+        long[] keys = { 3, 1, 3, -2, 1, 3 };
+        long[] values = { 0, 1, 2, 3, 4, 5 };
+
+        new LongRadixSort().sort(keys, values, Sort.Order.DESCENDING);
+        Assert.assertArrayEquals(new long[] { 3, 3, 3, 1, 1, -2 }, keys);
+        Assert.assertArrayEquals(new long[] { 0, 2, 5, 1, 4, 3 }, values);
+    }
+
+    /**
+     * Tests if mismatched key and value arrays are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMismatchedValues() {
+        new LongRadixSort().sort(new long[2], new long[3], Sort.Order.ASCENDING);
+    }
+
+}
@@ -4,7 +4,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 public class MergeSortTest {
 
@@ -64,4 +66,82 @@ public class MergeSortTest {
         Assert.assertTrue(mergeSort.isSorted(elements, Sort.Order.DESCENDING));
     }
 
+    /**
+     * Checks if merge sort keeps equal elements in their original order, both within a single insertion sorted
+     * half and across merged halves.
+     */
+    @Test
+    public void sortsStable() {
+        for (int size : new int[] { MergeSort.INSERTION_SIZE, 5 * MergeSort.INSERTION_SIZE }) {
+            List<Key> keys = new ArrayList<>();
+            for (int index = 0; index < size; index++) {
+                keys.add(new Key(index % 3, index));
+            }
+
+            List<Key> sorted = new MergeSort().sort(keys, Sort.Order.DESCENDING);
+
+            Assert.assertEquals(keys.size(), sorted.size());
+            for (int index = 1; index < sorted.size(); index++) {
+                Key previous = sorted.get(index - 1);
+                Key current = sorted.get(index);
+                Assert.assertTrue(previous.key > current.key
+                                  || (previous.key == current.key && previous.position < current.position));
+            }
+        }
+    }
+
+    /**
+     * Checks if merge sort sorts {@code int} and {@code long} arrays in both orders, from sizes a single network
+     * covers to sizes with many partitions, including runs of duplicates.
+     */
+    @Test
+    public void sortsPrimitiveArrays() {
+        MergeSort mergeSort = new MergeSort();
+        Random random = new Random(37);
+        for (int size : new int[] { 0, 1, 2, 15, 16, 17, 100, 1000, 10000 }) {
+            int[] ints = new int[size];
+            long[] longs = new long[size];
+            for (int index = 0; index < size; index++) {
+                ints[index] = index % 3 == 0 ? 7 : random.nextInt();
+                longs[index] = index % 5 == 0 ? -1 : random.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+
+            mergeSort.sort(ints, Sort.Order.ASCENDING);
+            mergeSort.sort(longs, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expectedInts, ints);
+            Assert.assertArrayEquals(expectedLongs, longs);
+
+            mergeSort.sort(ints, Sort.Order.DESCENDING);
+            mergeSort.sort(longs, Sort.Order.DESCENDING);
+            for (int index = 0; index < size; index++) {
+                Assert.assertEquals(expectedInts[size - 1 - index], ints[index]);
+                Assert.assertEquals(expectedLongs[size - 1 - index], longs[index]);
+            }
+        }
+    }
+
+    /**
+     * Element compared only by key, remembering where it started.
+     */
+    private static class Key implements Comparable<Key> {
+
+        private final int key;
+        private final int position;
+
+        Key(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
 }
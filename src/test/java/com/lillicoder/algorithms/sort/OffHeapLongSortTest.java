@@ -0,0 +1,164 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OffHeapLongSortTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests if both algorithms correctly sort bare keys in both orders, including negative and extreme keys.
+     */
+    @Test
+    public void sortsKeys() {
+        Random random = new Random(36);
+        long[] keys = new long[5000];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = random.nextLong();
+        }
+        keys[0] = Long.MIN_VALUE;
+        keys[1] = Long.MAX_VALUE;
+        keys[2] = 0;
+        keys[3] = -1;
+
+        for (OffHeapLongSort.Algorithm algorithm : OffHeapLongSort.Algorithm.values()) {
+            for (Sort.Order order : Sort.Order.values()) {
+                ByteBuffer records = OffHeapLongSort.allocate(keys.length, OffHeapLongSort.KEY_WIDTH);
+                for (long key : keys) {
+                    records.putLong(key);
+                }
+                records.flip();
+
+                new OffHeapLongSort(algorithm, OffHeapLongSort.KEY_WIDTH).sort(records, order);
+
+                Assert.assertEquals(0, records.position());
+                Assert.assertArrayEquals(algorithm + " " + order, expected(keys, order), read(records, 8));
+            }
+        }
+    }
+
+    /**
+     * Tests if payloads move with their keys, and if the radix sort keeps equal keys in their original order.
+     */
+    @Test
+    public void movesPayloads() {
+        Random random = new Random(16);
+        int size = 2000;
+
+        for (OffHeapLongSort.Algorithm algorithm : OffHeapLongSort.Algorithm.values()) {
+            ByteBuffer records = OffHeapLongSort.allocate(size, OffHeapLongSort.KEY_PAYLOAD_WIDTH);
+            for (int index = 0; index < size; index++) {
+                long key = random.nextInt(50) - 25;
+                records.putLong(key);
+                records.putLong(key * 1000000L + index);
+            }
+            records.flip();
+
+            new OffHeapLongSort(algorithm, OffHeapLongSort.KEY_PAYLOAD_WIDTH).sort(records, Sort.Order.DESCENDING);
+
+            for (int index = 0; index < size; index++) {
+                long key = records.getLong(index * 16);
+                long payload = records.getLong(index * 16 + 8);
+                Assert.assertEquals(key, Math.floorDiv(payload + 500000L, 1000000L));
+                if (index > 0) {
+                    long previous = records.getLong((index - 1) * 16);
+                    Assert.assertTrue(previous >= key);
+                    if (algorithm == OffHeapLongSort.Algorithm.RADIX && previous == key) {
+                        Assert.assertTrue(records.getLong((index - 1) * 16 + 8) < payload);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if only the records between the position and limit are sorted.
+     */
+    @Test
+    public void sortsRegion() {
+        ByteBuffer records = ByteBuffer.allocate(6 * 8);
+        for (long key : new long[] { 9, 5, 4, 3, 2, 0 }) {
+            records.putLong(key);
+        }
+        records.position(8);
+        records.limit(5 * 8);
+
+        new OffHeapLongSort(OffHeapLongSort.Algorithm.RADIX, OffHeapLongSort.KEY_WIDTH)
+                .sort(records, Sort.Order.ASCENDING);
+
+        Assert.assertEquals(8, records.position());
+        Assert.assertEquals(5 * 8, records.limit());
+        records.clear();
+        Assert.assertArrayEquals(new long[] { 9, 2, 3, 4, 5, 0 }, read(records, 8));
+    }
+
+    /**
+     * Tests if records spilled to a file can be sorted in place through a mapping and loaded back.
+     */
+    @Test
+    public void sortsMappedFile() throws IOException {
+        ByteBuffer records = OffHeapLongSort.allocate(4, OffHeapLongSort.KEY_WIDTH).order(ByteOrder.BIG_ENDIAN);
+        for (long key : new long[] { 3, -1, 7, 2 }) {
+            records.putLong(key);
+        }
+        records.flip();
+
+        Path file = folder.newFile().toPath();
+        OffHeapLongSort.spill(records, file);
+        Assert.assertEquals(0, records.position());
+
+        MappedByteBuffer mapped = OffHeapLongSort.map(file, ByteOrder.BIG_ENDIAN);
+        new OffHeapLongSort(OffHeapLongSort.Algorithm.QUICKSORT, OffHeapLongSort.KEY_WIDTH)
+                .sort(mapped, Sort.Order.ASCENDING);
+        mapped.force();
+
+        ByteBuffer loaded = OffHeapLongSort.load(file, ByteOrder.BIG_ENDIAN);
+        Assert.assertArrayEquals(new long[] { -1, 2, 3, 7 }, read(loaded, 8));
+    }
+
+    /**
+     * Tests if unsupported record layouts are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPartialRecords() {
+        ByteBuffer records = ByteBuffer.allocate(12);
+        new OffHeapLongSort(OffHeapLongSort.Algorithm.QUICKSORT, OffHeapLongSort.KEY_WIDTH)
+                .sort(records, Sort.Order.ASCENDING);
+    }
+
+    private static long[] expected(long[] keys, Sort.Order order) {
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        if (order == Sort.Order.DESCENDING) {
+            for (int index = 0; index < sorted.length / 2; index++) {
+                long swap = sorted[index];
+                sorted[index] = sorted[sorted.length - 1 - index];
+                sorted[sorted.length - 1 - index] = swap;
+            }
+        }
+
+        return sorted;
+    }
+
+    private static long[] read(ByteBuffer records, int recordWidth) {
+        long[] keys = new long[records.remaining() / recordWidth];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = records.getLong(records.position() + index * recordWidth);
+        }
+
+        return keys;
+    }
+
+}
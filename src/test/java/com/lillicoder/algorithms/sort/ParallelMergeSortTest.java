@@ -0,0 +1,164 @@
+package com.lillicoder.algorithms.sort;
+
+import com.lillicoder.algorithms.concurrent.CancellationToken;
+import com.lillicoder.algorithms.concurrent.JobExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ParallelMergeSortTest {
+
+    /**
+     * Checks if parallel merge sort correctly sorts a list with no elements.
+     */
+    @Test
+    public void sortsEmpty() {
+        List<Integer> elements = new ArrayList<>();
+
+        ParallelMergeSort parallelMergeSort = new ParallelMergeSort();
+        elements = parallelMergeSort.sort(elements, Sort.Order.ASCENDING);
+        Assert.assertTrue(parallelMergeSort.isSorted(elements, Sort.Order.ASCENDING));
+    }
+
+    /**
+     * Checks if parallel merge sort correctly sorts a small list in descending order.
+     */
+    @Test
+    public void sortsDescending() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(5);
+        elements.add(3);
+        elements.add(12);
+        elements.add(1);
+        elements.add(0);
+        elements.add(-1);
+        elements.add(-10);
+        elements.add(6);
+        elements.add(7);
+        elements.add(7);
+
+        ParallelMergeSort parallelMergeSort = new ParallelMergeSort();
+        elements = parallelMergeSort.sort(elements, Sort.Order.DESCENDING);
+        Assert.assertTrue(parallelMergeSort.isSorted(elements, Sort.Order.DESCENDING));
+    }
+
+    /**
+     * Checks if parallel merge sort matches a library sort on a list large enough to fork, keeping equal elements
+     * in their original order.
+     */
+    @Test
+    public void sortsLargeStable() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(39);
+            List<Keyed> elements = new ArrayList<>();
+            for (int index = 0; index < 8 * ParallelMergeSort.SEQUENTIAL_SIZE; index++) {
+                elements.add(new Keyed(random.nextInt(500)));
+            }
+            List<Keyed> expected = new ArrayList<>(elements);
+            Collections.sort(expected);
+
+            List<Keyed> sorted = new ParallelMergeSort(pool).sort(elements, Sort.Order.ASCENDING);
+
+            // Collections.sort is stable, so identical order means stable here too
+            Assert.assertEquals(expected.size(), sorted.size());
+            for (int index = 0; index < expected.size(); index++) {
+                Assert.assertSame(expected.get(index), sorted.get(index));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Checks if a large sort stops soon after its job is cancelled, although the pool's threads run the
+     * comparisons and see no token of their own.
+     */
+    @Test
+    public void stopsWhenCancelled() throws Exception {
+        int size = 16 * ParallelMergeSort.SEQUENTIAL_SIZE;
+        AtomicInteger comparisons = new AtomicInteger();
+        AtomicReference<CancellationToken> token = new AtomicReference<>();
+        Random random = new Random(35);
+        List<Cancelling> elements = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            elements.add(new Cancelling(random.nextInt(), comparisons, token));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (JobExecutor executor = new JobExecutor(0, 1, 1)) {
+            CompletableFuture<List<Cancelling>> sorted = executor.submit(size, () -> {
+                token.set(CancellationToken.current());
+                return new ParallelMergeSort(pool).sort(elements, Sort.Order.ASCENDING);
+            });
+
+            try {
+                sorted.get(10, TimeUnit.SECONDS);
+            } catch (CancellationException expected) {
+                // Expected, fall through to check state
+            }
+            Assert.assertTrue(sorted.isCancelled());
+            // A full sort makes about two million comparisons
+            Assert.assertTrue(comparisons.get() < Cancelling.CANCEL_AFTER * 4);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Element that cancels the job it is sorted in once enough comparisons have been made.
+     */
+    private static class Cancelling implements Comparable<Cancelling> {
+
+        private static final int CANCEL_AFTER = 100000;
+
+        private final int key;
+        private final AtomicInteger comparisons;
+        private final AtomicReference<CancellationToken> token;
+
+        Cancelling(int key, AtomicInteger comparisons, AtomicReference<CancellationToken> token) {
+            this.key = key;
+            this.comparisons = comparisons;
+            this.token = token;
+        }
+
+        @Override
+        public int compareTo(Cancelling other) {
+            if (comparisons.incrementAndGet() == CANCEL_AFTER) {
+                token.get().cancel();
+            }
+
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+    /**
+     * Element that compares by key only, so equal elements can only be told apart by identity.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+
+        private final int key;
+
+        Keyed(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
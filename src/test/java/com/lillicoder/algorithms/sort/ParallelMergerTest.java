@@ -0,0 +1,125 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelMergerTest {
+
+    /**
+     * Tests if co-ranking splits a merge at the same place a sequential stable merge would.
+     */
+    @Test
+    public void findsCoRank() {
+        List<Integer> left = Arrays.asList(1, 3, 3, 7);
+        List<Integer> right = Arrays.asList(2, 3, 8);
+
+        // Stable merge is 1L 2R 3L 3L 3R 7L 8R
+        int[] expected = { 0, 1, 1, 2, 3, 3, 4, 4 };
+        for (int position = 0; position < expected.length; position++) {
+            Assert.assertEquals("Position " + position,
+                                expected[position],
+                                ParallelMerger.coRank(position, left, right, new Sort.AscendingComparator<>()));
+        }
+    }
+
+    /**
+     * Tests if large lists are merged in parallel into the same result as a sequential merge, in both orders.
+     */
+    @Test
+    public void mergesLargeLists() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(39);
+            for (Sort.Order order : Sort.Order.values()) {
+                List<Integer> left = new ArrayList<>();
+                List<Integer> right = new ArrayList<>();
+                for (int index = 0; index < 5 * ParallelMerger.MIN_SEGMENT_SIZE; index++) {
+                    left.add(random.nextInt(1000));
+                    if (index % 3 != 0) {
+                        right.add(random.nextInt(1000));
+                    }
+                }
+                left = new MergeSort().sort(left, order);
+                right = new MergeSort().sort(right, order);
+
+                List<Integer> merged = new ParallelMerger(pool).merge(left, right, order);
+
+                Assert.assertEquals(new Merger().merge(left, right, order), merged);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests if equal elements from the left list stay ahead of those from the right, across segment boundaries.
+     */
+    @Test
+    public void mergesStable() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Keyed> left = new ArrayList<>();
+            List<Keyed> right = new ArrayList<>();
+            for (int index = 0; index < 3 * ParallelMerger.MIN_SEGMENT_SIZE; index++) {
+                left.add(new Keyed(index / 1000, 0));
+                right.add(new Keyed(index / 1000, 1));
+            }
+
+            List<Keyed> merged = new ParallelMerger(pool).merge(left, right, Sort.Order.ASCENDING);
+
+            Assert.assertEquals(left.size() + right.size(), merged.size());
+            for (int index = 1; index < merged.size(); index++) {
+                Keyed previous = merged.get(index - 1);
+                Keyed current = merged.get(index);
+                Assert.assertTrue(previous.key < current.key
+                                          || (previous.key == current.key && previous.side <= current.side));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests if small lists fall back to a sequential merge.
+     */
+    @Test
+    public void mergesSmallLists() {
+        List<Integer> merged = new ParallelMerger().merge(new ArrayList<>(Arrays.asList(1, 4)),
+                                                          new ArrayList<>(Arrays.asList(2, 3)),
+                                                          Sort.Order.ASCENDING);
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4), merged);
+        Assert.assertEquals(Collections.emptyList(),
+                            new ParallelMerger().merge(new ArrayList<Integer>(),
+                                                       new ArrayList<Integer>(),
+                                                       Sort.Order.DESCENDING));
+    }
+
+    /**
+     * Element that compares by key only, remembering which list it came from.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+
+        private final int key;
+        private final int side;
+
+        Keyed(int key, int side) {
+            this.key = key;
+            this.side = side;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
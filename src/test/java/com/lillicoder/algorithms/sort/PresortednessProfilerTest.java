@@ -0,0 +1,121 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class PresortednessProfilerTest {
+
+    /**
+     * Tests if a small list is profiled exactly.
+     */
+    @Test
+    public void profilesSmallList() {
+        List<Integer> elements = Arrays.asList(3, 1, 2, 2, 5, 4);
+
+        Presortedness ascending = new PresortednessProfiler().profile(elements, Sort.Order.ASCENDING);
+        Assert.assertEquals(6, ascending.getSize());
+        // (3, 1), (3, 2), (3, 2) and (5, 4)
+        Assert.assertEquals(4, ascending.getInversions());
+        // [3] [1, 2, 2, 5] [4]
+        Assert.assertEquals(3, ascending.getAscendingRuns());
+        Assert.assertEquals(4, ascending.getLongestAscendingRun());
+        // [3, 1] [2] [2] [5, 4]
+        Assert.assertEquals(4, ascending.getDescendingRuns());
+        Assert.assertEquals(2, ascending.getLongestDescendingRun());
+        // 1, 2, 2, 4
+        Assert.assertEquals(4, ascending.getLongestSortedSubsequence());
+        Assert.assertEquals(5, ascending.getDistinctEstimate());
+        Assert.assertFalse(ascending.isSorted());
+
+        Presortedness descending = new PresortednessProfiler().profile(elements, Sort.Order.DESCENDING);
+        // 15 pairs, less the 4 ascending inversions and the equal pair
+        Assert.assertEquals(10, descending.getInversions());
+        // 3, 2, 2
+        Assert.assertEquals(3, descending.getLongestSortedSubsequence());
+    }
+
+    /**
+     * Tests if sorted, reversed and empty lists give the extreme measures.
+     */
+    @Test
+    public void profilesExtremes() {
+        List<Integer> sorted = new ArrayList<>();
+        for (int value = 0; value < 1000; value++) {
+            sorted.add(value);
+        }
+        List<Integer> reversed = new ArrayList<>(sorted);
+        Collections.reverse(reversed);
+
+        PresortednessProfiler profiler = new PresortednessProfiler();
+
+        Presortedness sortedProfile = profiler.profile(sorted, Sort.Order.ASCENDING);
+        Assert.assertTrue(sortedProfile.isSorted());
+        Assert.assertEquals(1, sortedProfile.getAscendingRuns());
+        Assert.assertEquals(1000, sortedProfile.getLongestSortedSubsequence());
+        Assert.assertEquals(0, sortedProfile.getInversionRatio(), 0);
+
+        Presortedness reversedProfile = profiler.profile(reversed, Sort.Order.ASCENDING);
+        Assert.assertEquals(1000L * 999 / 2, reversedProfile.getInversions());
+        Assert.assertEquals(1, reversedProfile.getInversionRatio(), 0);
+        Assert.assertEquals(1, reversedProfile.getDescendingRuns());
+        Assert.assertEquals(1000, reversedProfile.getLongestDescendingRun());
+        Assert.assertEquals(1, reversedProfile.getLongestSortedSubsequence());
+
+        Presortedness emptyProfile = profiler.profile(new ArrayList<Integer>(), Sort.Order.ASCENDING);
+        Assert.assertEquals(0, emptyProfile.getAscendingRuns());
+        Assert.assertEquals(0, emptyProfile.getDistinctEstimate());
+        Assert.assertTrue(emptyProfile.isSorted());
+    }
+
+    /**
+     * Tests if the parallel mode counts the same inversions as a brute force count, and estimates distinct
+     * elements within a few percent.
+     */
+    @Test
+    public void profilesInParallel() {
+        Random random = new Random(47L);
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 40000; index++) {
+            elements.add(random.nextInt(10000));
+        }
+
+        long expected = 0;
+        for (int left = 0; left < elements.size(); left++) {
+            for (int right = left + 1; right < elements.size(); right++) {
+                if (elements.get(left) > elements.get(right)) {
+                    expected++;
+                }
+            }
+        }
+
+        List<Integer> original = new ArrayList<>(elements);
+        Presortedness sequential = new PresortednessProfiler().profile(elements, Sort.Order.ASCENDING);
+        Presortedness parallel =
+                new PresortednessProfiler(new ForkJoinPool(4)).profile(elements, Sort.Order.ASCENDING);
+
+        Assert.assertEquals(original, elements);
+        Assert.assertEquals(expected, sequential.getInversions());
+        Assert.assertEquals(expected, parallel.getInversions());
+        Assert.assertEquals(sequential.toString(), parallel.toString());
+
+        long distinct = elements.stream().distinct().count();
+        Assert.assertEquals(distinct, parallel.getDistinctEstimate(), distinct * 0.05);
+    }
+
+    /**
+     * Tests if a sort profiles a list through the same profiler.
+     */
+    @Test
+    public void profilesThroughSort() {
+        Presortedness profile = new MergeSort().profile(Arrays.asList(2, 1), Sort.Order.ASCENDING);
+        Assert.assertEquals(1, profile.getInversions());
+    }
+
+}
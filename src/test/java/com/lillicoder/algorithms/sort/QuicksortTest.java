@@ -4,7 +4,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 public class QuicksortTest {
 
@@ -64,4 +67,55 @@ public class QuicksortTest {
         Assert.assertTrue(quicksort.isSorted(elements, Sort.Order.DESCENDING));
     }
 
+    /**
+     * Checks if quicksort sorts {@code int} and {@code long} arrays in both orders, from sizes a single network
+     * covers to sizes with many partitions, including runs of duplicates.
+     */
+    @Test
+    public void sortsPrimitiveArrays() {
+        Quicksort quicksort = new Quicksort();
+        Random random = new Random(37);
+        for (int size : new int[] { 0, 1, 2, 15, 16, 17, 100, 1000, 10000 }) {
+            int[] ints = new int[size];
+            long[] longs = new long[size];
+            for (int index = 0; index < size; index++) {
+                ints[index] = index % 3 == 0 ? 7 : random.nextInt();
+                longs[index] = index % 5 == 0 ? -1 : random.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+
+            quicksort.sort(ints, Sort.Order.ASCENDING);
+            quicksort.sort(longs, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expectedInts, ints);
+            Assert.assertArrayEquals(expectedLongs, longs);
+
+            quicksort.sort(ints, Sort.Order.DESCENDING);
+            quicksort.sort(longs, Sort.Order.DESCENDING);
+            for (int index = 0; index < size; index++) {
+                Assert.assertEquals(expectedInts[size - 1 - index], ints[index]);
+                Assert.assertEquals(expectedLongs[size - 1 - index], longs[index]);
+            }
+        }
+    }
+
+    /**
+     * Checks if quicksort matches a library sort on a list with many partitions, so that many leaves are sorted
+     * through the same network buffer.
+     */
+    @Test
+    public void sortsLargeList() {
+        Random random = new Random(38);
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 5000; index++) {
+            elements.add(random.nextInt(1000));
+        }
+        List<Integer> expected = new ArrayList<>(elements);
+        Collections.sort(expected, Collections.reverseOrder());
+
+        Assert.assertEquals(expected, new Quicksort().sort(elements, Sort.Order.DESCENDING));
+    }
+
 }
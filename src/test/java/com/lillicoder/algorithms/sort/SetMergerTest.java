@@ -0,0 +1,174 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class SetMergerTest {
+
+    /**
+     * Checks if set merger computes each operation over lists with duplicates.
+     */
+    @Test
+    public void combinesSortedListsAscending() {
+        List<Integer> left = Arrays.asList(1, 2, 2, 3, 5);
+        List<Integer> right = Arrays.asList(2, 3, 3, 4);
+
+        SetMerger setMerger = new SetMerger();
+        Assert.assertEquals(Arrays.asList(1, 2, 2, 3, 3, 4, 5), setMerger.union(left, right, Sort.Order.ASCENDING, false));
+        Assert.assertEquals(Arrays.asList(2, 3), setMerger.intersection(left, right, Sort.Order.ASCENDING, false));
+        Assert.assertEquals(Arrays.asList(1, 2, 5), setMerger.difference(left, right, Sort.Order.ASCENDING, false));
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5),
+                            setMerger.symmetricDifference(left, right, Sort.Order.ASCENDING, false));
+    }
+
+    /**
+     * Checks if set merger collapses duplicates when asked for distinct results.
+     */
+    @Test
+    public void combinesSortedListsDistinct() {
+        List<Integer> left = Arrays.asList(1, 2, 2, 3, 5);
+        List<Integer> right = Arrays.asList(2, 3, 3, 4);
+
+        SetMerger setMerger = new SetMerger();
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), setMerger.union(left, right, Sort.Order.ASCENDING, true));
+        Assert.assertEquals(Arrays.asList(2, 3), setMerger.intersection(left, right, Sort.Order.ASCENDING, true));
+        Assert.assertEquals(Arrays.asList(1, 5), setMerger.difference(left, right, Sort.Order.ASCENDING, true));
+        Assert.assertEquals(Arrays.asList(1, 4, 5),
+                            setMerger.symmetricDifference(left, right, Sort.Order.ASCENDING, true));
+    }
+
+    /**
+     * Checks if set merger combines lists sorted in descending order.
+     */
+    @Test
+    public void combinesSortedListsDescending() {
+        List<Integer> left = Arrays.asList(5, 3, 2, 2, 1);
+        List<Integer> right = Arrays.asList(4, 3, 3, 2);
+
+        SetMerger setMerger = new SetMerger();
+        Assert.assertEquals(Arrays.asList(5, 4, 3, 3, 2, 2, 1),
+                            setMerger.union(left, right, Sort.Order.DESCENDING, false));
+        Assert.assertEquals(Arrays.asList(3, 2), setMerger.intersection(left, right, Sort.Order.DESCENDING, false));
+    }
+
+    /**
+     * Checks if set merger streams results from iterators lazily.
+     */
+    @Test
+    public void streamsFromIterators() {
+        Iterator<Integer> left = Arrays.asList(1, 3, 5, 7).iterator();
+        Iterator<Integer> right = Arrays.asList(3, 4, 5, 8, 9).iterator();
+
+        Iterator<Integer> union =
+                new SetMerger().iterator(left, right, SetMerger.Operation.UNION, Sort.Order.ASCENDING, true);
+        Assert.assertEquals(Integer.valueOf(1), union.next());
+        Assert.assertEquals(Integer.valueOf(3), union.next());
+
+        // Right input is not yet exhausted, only enough was read to produce two elements
+        Assert.assertTrue(right.hasNext());
+
+        List<Integer> rest = new ArrayList<>();
+        union.forEachRemaining(rest::add);
+        Assert.assertEquals(Arrays.asList(4, 5, 7, 8, 9), rest);
+    }
+
+    /**
+     * Checks if every list and array path agrees with counting multiplicities, including the galloping
+     * intersection used for skewed input sizes.
+     */
+    @Test
+    public void matchesMultisetCounts() {
+        Random random = new Random(29);
+        SetMerger setMerger = new SetMerger();
+        int[][] sizes = { { 0, 10 }, { 50, 60 }, { 5, 1000 }, { 1000, 5 } };
+        for (int[] size : sizes) {
+            for (Sort.Order order : Sort.Order.values()) {
+                List<Integer> left = randomSorted(random, size[0], order);
+                List<Integer> right = randomSorted(random, size[1], order);
+                for (SetMerger.Operation operation : SetMerger.Operation.values()) {
+                    for (boolean distinct : new boolean[] { false, true }) {
+                        List<Integer> expected = expected(left, right, operation, order, distinct);
+                        Assert.assertEquals(expected, setMerger.merge(left, right, operation, order, distinct));
+
+                        int[] ints = setMerger.merge(toInts(left), toInts(right), operation, order, distinct);
+                        Assert.assertArrayEquals(toInts(expected), ints);
+
+                        long[] longs = setMerger.merge(toLongs(left), toLongs(right), operation, order, distinct);
+                        Assert.assertArrayEquals(toLongs(expected), longs);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Integer> randomSorted(Random random, int size, Sort.Order order) {
+        List<Integer> list = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            list.add(random.nextInt(200));
+        }
+
+        Collections.sort(list);
+        if (order == Sort.Order.DESCENDING) {
+            Collections.reverse(list);
+        }
+
+        return list;
+    }
+
+    private static List<Integer> expected(List<Integer> left,
+                                          List<Integer> right,
+                                          SetMerger.Operation operation,
+                                          Sort.Order order,
+                                          boolean distinct) {
+        TreeMap<Integer, int[]> counts = new TreeMap<>();
+        for (Integer element : left) {
+            counts.computeIfAbsent(element, key -> new int[2])[0]++;
+        }
+        for (Integer element : right) {
+            counts.computeIfAbsent(element, key -> new int[2])[1]++;
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (Integer element : order == Sort.Order.ASCENDING ? counts.keySet() : counts.descendingKeySet()) {
+            int leftCount = distinct ? Math.min(1, counts.get(element)[0]) : counts.get(element)[0];
+            int rightCount = distinct ? Math.min(1, counts.get(element)[1]) : counts.get(element)[1];
+            int copies;
+            switch (operation) {
+                case UNION:
+                    copies = Math.max(leftCount, rightCount);
+                    break;
+                case INTERSECTION:
+                    copies = Math.min(leftCount, rightCount);
+                    break;
+                case DIFFERENCE:
+                    copies = Math.max(leftCount - rightCount, 0);
+                    break;
+                default:
+                    copies = Math.abs(leftCount - rightCount);
+                    break;
+            }
+            for (int copy = 0; copy < copies; copy++) {
+                expected.add(element);
+            }
+        }
+
+        return expected;
+    }
+
+    private static int[] toInts(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static long[] toLongs(List<Integer> list) {
+        return list.stream().mapToLong(Integer::longValue).toArray();
+    }
+
+}
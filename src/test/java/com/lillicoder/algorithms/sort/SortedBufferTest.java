@@ -0,0 +1,86 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class SortedBufferTest {
+
+    /**
+     * Checks if a sorted buffer stays sorted in ascending order across many appended batches.
+     */
+    @Test
+    public void sortsAscending() {
+        Random random = new Random(30);
+        SortedBuffer<Integer> buffer = new SortedBuffer<>(Sort.Order.ASCENDING);
+        List<Integer> all = new ArrayList<>();
+        for (int batch = 0; batch < 50; batch++) {
+            List<Integer> elements = new ArrayList<>();
+            for (int index = 0; index < random.nextInt(20); index++) {
+                elements.add(random.nextInt(100));
+            }
+            buffer.addAll(elements);
+            all.addAll(elements);
+        }
+
+        // Run sizes at least double from newest to oldest
+        Assert.assertTrue(buffer.runCount() <= 32 - Integer.numberOfLeadingZeros(buffer.size()));
+
+        Collections.sort(all);
+        Assert.assertEquals(all.size(), buffer.size());
+        Assert.assertEquals(all, buffer.toList());
+        Assert.assertEquals(1, buffer.runCount());
+    }
+
+    /**
+     * Checks if a sorted buffer stays sorted in descending order.
+     */
+    @Test
+    public void sortsDescending() {
+        SortedBuffer<Integer> buffer = new SortedBuffer<>(new Quicksort(), Sort.Order.DESCENDING);
+        buffer.addAll(Arrays.asList(5, 3, 12));
+        buffer.add(1);
+        buffer.addAll(Arrays.asList(0, -1, -10, 6, 7, 7));
+
+        Assert.assertEquals(Arrays.asList(12, 7, 7, 6, 5, 3, 1, 0, -1, -10), buffer.toList());
+    }
+
+    /**
+     * Checks if a sorted buffer answers searches and counts across several runs.
+     */
+    @Test
+    public void searchesAcrossRuns() {
+        SortedBuffer<Integer> buffer = new SortedBuffer<>(Sort.Order.ASCENDING);
+        buffer.addAll(Arrays.asList(1, 4, 9, 4));
+        buffer.addAll(Arrays.asList(4, 2));
+        buffer.add(7);
+        Assert.assertTrue(buffer.runCount() > 1);
+
+        // Sorted order is 1, 2, 4, 4, 4, 7, 9
+        Assert.assertEquals(2, buffer.search(4));
+        Assert.assertEquals(3, buffer.count(4));
+        Assert.assertEquals(5, buffer.search(7));
+        Assert.assertTrue(buffer.search(3) < 0);
+        Assert.assertEquals(0, buffer.count(3));
+    }
+
+    /**
+     * Checks if a sorted buffer returns a half open range in sorted order.
+     */
+    @Test
+    public void findsRange() {
+        SortedBuffer<Integer> buffer = new SortedBuffer<>(Sort.Order.ASCENDING);
+        buffer.addAll(Arrays.asList(10, 1, 5));
+        buffer.addAll(Arrays.asList(6, 2));
+        buffer.add(5);
+
+        Assert.assertEquals(Arrays.asList(2, 5, 5, 6), buffer.range(2, 10));
+        Assert.assertTrue(buffer.range(7, 3).isEmpty());
+    }
+
+}
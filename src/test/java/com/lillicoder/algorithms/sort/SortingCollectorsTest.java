@@ -0,0 +1,90 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class SortingCollectorsTest {
+
+    /**
+     * Checks if collecting a parallel stream gives the same list as collecting and then sorting, in both orders.
+     */
+    @Test
+    public void collectsSortedInParallel() {
+        Random random = new Random(42);
+        List<Integer> elements = new ArrayList<>();
+        for (int index = 0; index < 50000; index++) {
+            elements.add(random.nextInt());
+        }
+
+        for (Sort.Order order : Sort.Order.values()) {
+            List<Integer> expected = new MergeSort().sort(new ArrayList<>(elements), order);
+
+            List<Integer> collected = elements.parallelStream().collect(SortingCollectors.toSortedList(order));
+
+            Assert.assertEquals(expected, collected);
+        }
+    }
+
+    /**
+     * Checks if equal elements keep their encounter order across parallel segments.
+     */
+    @Test
+    public void collectsStable() {
+        List<Keyed> collected = IntStream.range(0, 20000)
+                                         .parallel()
+                                         .mapToObj(index -> new Keyed(index % 7, index))
+                                         .collect(SortingCollectors.toSortedList(Sort.Order.DESCENDING));
+
+        Assert.assertEquals(20000, collected.size());
+        for (int index = 1; index < collected.size(); index++) {
+            Keyed previous = collected.get(index - 1);
+            Keyed current = collected.get(index);
+            Assert.assertTrue(previous.key > current.key
+                                      || (previous.key == current.key && previous.position < current.position));
+        }
+    }
+
+    /**
+     * Checks if sequential and empty streams collect into mutable sorted lists.
+     */
+    @Test
+    public void collectsSequentialAndEmpty() {
+        List<Integer> collected = Stream.of(3, 1, 2).collect(SortingCollectors.toSortedList(new Quicksort(),
+                                                                                          Sort.Order.ASCENDING));
+        collected.add(4);
+        Assert.assertEquals(Stream.of(1, 2, 3, 4).collect(Collectors.toList()), collected);
+
+        List<Integer> empty = Stream.<Integer>empty().parallel()
+                                    .collect(SortingCollectors.toSortedList(Sort.Order.ASCENDING));
+        Assert.assertEquals(Collections.emptyList(), empty);
+    }
+
+    /**
+     * Element that compares by key only, remembering its original position.
+     */
+    private static class Keyed implements Comparable<Keyed> {
+
+        private final int key;
+        private final int position;
+
+        Keyed(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.lillicoder.algorithms.sort;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+public class SortingNetworkTest {
+
+    /**
+     * Tests if every network sorts every input of its size. By the 0-1 principle a network that sorts every
+     * sequence of zeros and ones sorts every sequence, so checking all 2^n binary inputs is exhaustive.
+     */
+    @Test
+    public void sortsAllBinaryInputs() {
+        for (int size = 0; size <= SortingNetwork.MAX_SIZE; size++) {
+            int[] network = SortingNetwork.network(size);
+            for (int bits = 0; bits < 1 << size; bits++) {
+                int[] values = new int[size];
+                for (int index = 0; index < size; index++) {
+                    values[index] = (bits >>> index) & 1;
+                }
+
+                for (int step = 0; step < network.length; step += 2) {
+                    int first = network[step];
+                    int second = network[step + 1];
+                    Assert.assertTrue(first < second);
+                    int a = values[first];
+                    values[first] = Math.min(a, values[second]);
+                    values[second] = Math.max(a, values[second]);
+                }
+
+                int ones = Integer.bitCount(bits);
+                for (int index = 0; index < size; index++) {
+                    Assert.assertEquals("Size " + size + " input " + bits, index < size - ones ? 0 : 1, values[index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if primitive arrays are sorted in both orders, only within the given range.
+     */
+    @Test
+    public void sortsPrimitives() {
+        Random random = new Random(37);
+        for (int size = 0; size <= SortingNetwork.MAX_SIZE; size++) {
+            int[] ints = new int[size + 2];
+            long[] longs = new long[size + 2];
+            double[] doubles = new double[size + 2];
+            for (int index = 0; index < ints.length; index++) {
+                ints[index] = random.nextInt(10) - 5;
+                longs[index] = random.nextLong();
+                doubles[index] = random.nextGaussian();
+            }
+            doubles[1] = Double.NaN;
+            doubles[ints.length - 2] = -0.0;
+
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts, 1, size + 1);
+            SortingNetwork.sort(ints, 1, size + 1, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expectedInts, ints);
+
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs, 1, size + 1);
+            SortingNetwork.sort(longs, 1, size + 1, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expectedLongs, longs);
+
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles, 1, size + 1);
+            SortingNetwork.sort(doubles, 1, size + 1, Sort.Order.ASCENDING);
+            Assert.assertArrayEquals(expectedDoubles, doubles, 0);
+
+            SortingNetwork.sort(ints, 1, size + 1, Sort.Order.DESCENDING);
+            SortingNetwork.sort(longs, 1, size + 1, Sort.Order.DESCENDING);
+            SortingNetwork.sort(doubles, 1, size + 1, Sort.Order.DESCENDING);
+            for (int index = 1; index < size + 1; index++) {
+                Assert.assertEquals(expectedInts[size + 1 - index], ints[index]);
+                Assert.assertEquals(expectedLongs[size + 1 - index], longs[index]);
+                Assert.assertEquals(expectedDoubles[size + 1 - index], doubles[index], 0);
+            }
+        }
+    }
+
+    /**
+     * Tests if object arrays are sorted with a comparator.
+     */
+    @Test
+    public void sortsObjects() {
+        String[] words = { "pear", "fig", "apple", "kiwi", "banana", "date", "cherry" };
+        SortingNetwork.sort(words, 0, words.length, Comparator.comparing(String::length).thenComparing(w -> w));
+
+        Assert.assertArrayEquals(new String[] { "fig", "date", "kiwi", "pear", "apple", "banana", "cherry" }, words);
+    }
+
+    /**
+     * Tests if ranges larger than a network are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLargeRange() {
+        SortingNetwork.sort(new int[SortingNetwork.MAX_SIZE + 1], 0, SortingNetwork.MAX_SIZE + 1, Sort.Order.ASCENDING);
+    }
+
+}